@@ -0,0 +1,119 @@
+package net.runelite.cache;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.IntStream;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.ArchiveFiles;
+import net.runelite.cache.fs.FSFile;
+import net.runelite.cache.fs.Storage;
+
+/**
+ * Definitions of a config archive, decoded on demand. Loading the archive only keeps the encoded file
+ * contents, a definition is decoded the first time it is requested, and the encoded bytes are dropped
+ * once it has been. Lookups may be made from many threads.
+ *
+ * @param <T> definition type
+ */
+public class DefinitionArchive<T>
+{
+	@FunctionalInterface
+	public interface Decoder<T>
+	{
+		T load(int id, byte[] b);
+	}
+
+	private final Decoder<T> decoder;
+
+	private int[] ids = new int[0];
+	private AtomicReferenceArray<byte[]> contents = new AtomicReferenceArray<>(0);
+	private AtomicReferenceArray<T> definitions = new AtomicReferenceArray<>(0);
+
+	public DefinitionArchive(Decoder<T> decoder)
+	{
+		this.decoder = decoder;
+	}
+
+	public void load(Storage storage, Archive archive) throws IOException
+	{
+		byte[] archiveData = storage.loadArchive(archive);
+		ArchiveFiles files = archive.getFiles(archiveData);
+
+		List<FSFile> sorted = new ArrayList<>(files.getFiles());
+		sorted.sort(Comparator.comparingInt(FSFile::getFileId));
+
+		int[] ids = new int[sorted.size()];
+		AtomicReferenceArray<byte[]> contents = new AtomicReferenceArray<>(sorted.size());
+		for (int i = 0; i < ids.length; ++i)
+		{
+			ids[i] = sorted.get(i).getFileId();
+			contents.set(i, sorted.get(i).getContents());
+		}
+
+		this.definitions = new AtomicReferenceArray<>(ids.length);
+		this.contents = contents;
+		this.ids = ids;
+	}
+
+	public int size()
+	{
+		return ids.length;
+	}
+
+	/**
+	 * @return the definition, or null if the archive has no file with the id
+	 */
+	public T get(int id)
+	{
+		int[] ids = this.ids;
+		int pos = Arrays.binarySearch(ids, id);
+		return pos < 0 ? null : decode(pos);
+	}
+
+	/**
+	 * Decodes every definition not yet decoded in parallel.
+	 *
+	 * @return all definitions, in id order
+	 */
+	public List<T> getAll()
+	{
+		int size = ids.length;
+		IntStream.range(0, size).parallel().forEach(this::decode);
+
+		List<T> all = new ArrayList<>(size);
+		for (int i = 0; i < size; ++i)
+		{
+			all.add(definitions.get(i));
+		}
+		return Collections.unmodifiableList(all);
+	}
+
+	private T decode(int pos)
+	{
+		T def = definitions.get(pos);
+		if (def != null)
+		{
+			return def;
+		}
+
+		byte[] b = contents.get(pos);
+		if (b == null)
+		{
+			// decoded by another thread, which publishes the definition before dropping the contents
+			return definitions.get(pos);
+		}
+
+		def = decoder.load(ids[pos], b);
+		if (definitions.compareAndSet(pos, null, def))
+		{
+			contents.set(pos, null);
+			return def;
+		}
+		return definitions.get(pos);
+	}
+}
@@ -27,16 +27,11 @@ package net.runelite.cache;
 import java.io.File;
 import java.io.IOException;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
 import net.runelite.cache.definitions.ItemDefinition;
 import net.runelite.cache.definitions.exporters.ItemExporter;
 import net.runelite.cache.definitions.loaders.ItemLoader;
 import net.runelite.cache.definitions.providers.ItemProvider;
 import net.runelite.cache.fs.Archive;
-import net.runelite.cache.fs.ArchiveFiles;
-import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
@@ -45,7 +40,7 @@ import net.runelite.cache.util.IDClass;
 public class ItemManager implements ItemProvider
 {
 	private final Store store;
-	private final Map<Integer, ItemDefinition> items = new HashMap<>();
+	private final DefinitionArchive<ItemDefinition> items = new DefinitionArchive<>(new ItemLoader()::load);
 
 	public ItemManager(Store store)
 	{
@@ -54,25 +49,16 @@ public class ItemManager implements ItemProvider
 
 	public void load() throws IOException
 	{
-		ItemLoader loader = new ItemLoader();
-
 		Storage storage = store.getStorage();
 		Index index = store.getIndex(IndexType.CONFIGS);
 		Archive archive = index.getArchive(ConfigType.ITEM.getId());
 
-		byte[] archiveData = storage.loadArchive(archive);
-		ArchiveFiles files = archive.getFiles(archiveData);
-
-		for (FSFile f : files.getFiles())
-		{
-			ItemDefinition def = loader.load(f.getFileId(), f.getContents());
-			items.put(f.getFileId(), def);
-		}
+		items.load(storage, archive);
 	}
 
 	public void link()
 	{
-		for (ItemDefinition oc : items.values())
+		for (ItemDefinition oc : items.getAll())
 		{
 			link(oc);
 		}
@@ -96,7 +82,7 @@ public class ItemManager implements ItemProvider
 
 	public Collection<ItemDefinition> getItems()
 	{
-		return Collections.unmodifiableCollection(items.values());
+		return items.getAll();
 	}
 
 	public ItemDefinition getItem(int itemId)
@@ -108,7 +94,7 @@ public class ItemManager implements ItemProvider
 	{
 		out.mkdirs();
 
-		for (ItemDefinition def : items.values())
+		for (ItemDefinition def : items.getAll())
 		{
 			ItemExporter exporter = new ItemExporter(def);
 
@@ -123,7 +109,7 @@ public class ItemManager implements ItemProvider
 		try (IDClass ids = IDClass.create(java, "ItemID");
 			IDClass nulls = IDClass.create(java, "NullItemID"))
 		{
-			for (ItemDefinition def : items.values())
+			for (ItemDefinition def : items.getAll())
 			{
 				if (def.name.equalsIgnoreCase("NULL"))
 				{
@@ -27,15 +27,10 @@ package net.runelite.cache;
 import java.io.File;
 import java.io.IOException;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
 import net.runelite.cache.definitions.NpcDefinition;
 import net.runelite.cache.definitions.exporters.NpcExporter;
 import net.runelite.cache.definitions.loaders.NpcLoader;
 import net.runelite.cache.fs.Archive;
-import net.runelite.cache.fs.ArchiveFiles;
-import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
@@ -44,7 +39,8 @@ import net.runelite.cache.util.IDClass;
 public class NpcManager
 {
 	private final Store store;
-	private final Map<Integer, NpcDefinition> npcs = new HashMap<>();
+	private final NpcLoader loader = new NpcLoader();
+	private final DefinitionArchive<NpcDefinition> npcs = new DefinitionArchive<>(loader::load);
 
 	public NpcManager(Store store)
 	{
@@ -53,27 +49,18 @@ public class NpcManager
 
 	public void load() throws IOException
 	{
-		NpcLoader loader = new NpcLoader();
-
 		Storage storage = store.getStorage();
 		Index index = store.getIndex(IndexType.CONFIGS);
 		Archive archive = index.getArchive(ConfigType.NPC.getId());
 
 		loader.setRev210HeadIcons(archive.getRevision() >= NpcLoader.REV_210_NPC_ARCHIVE_REV);
 
-		byte[] archiveData = storage.loadArchive(archive);
-		ArchiveFiles files = archive.getFiles(archiveData);
-
-		for (FSFile f : files.getFiles())
-		{
-			NpcDefinition npc = loader.load(f.getFileId(), f.getContents());
-			npcs.put(f.getFileId(), npc);
-		}
+		npcs.load(storage, archive);
 	}
 
 	public Collection<NpcDefinition> getNpcs()
 	{
-		return Collections.unmodifiableCollection(npcs.values());
+		return npcs.getAll();
 	}
 
 	public NpcDefinition get(int npcId)
@@ -85,7 +72,7 @@ public class NpcManager
 	{
 		out.mkdirs();
 
-		for (NpcDefinition def : npcs.values())
+		for (NpcDefinition def : npcs.getAll())
 		{
 			NpcExporter exporter = new NpcExporter(def);
 
@@ -100,7 +87,7 @@ public class NpcManager
 		try (IDClass ids = IDClass.create(java, "NpcID");
 			IDClass nulls = IDClass.create(java, "NullNpcID"))
 		{
-			for (NpcDefinition def : npcs.values())
+			for (NpcDefinition def : npcs.getAll())
 			{
 				if (def.name.equalsIgnoreCase("NULL"))
 				{
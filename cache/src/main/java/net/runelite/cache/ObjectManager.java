@@ -27,15 +27,10 @@ package net.runelite.cache;
 import java.io.File;
 import java.io.IOException;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
 import net.runelite.cache.definitions.ObjectDefinition;
 import net.runelite.cache.definitions.exporters.ObjectExporter;
 import net.runelite.cache.definitions.loaders.ObjectLoader;
 import net.runelite.cache.fs.Archive;
-import net.runelite.cache.fs.ArchiveFiles;
-import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
@@ -44,7 +39,7 @@ import net.runelite.cache.util.IDClass;
 public class ObjectManager
 {
 	private final Store store;
-	private final Map<Integer, ObjectDefinition> objects = new HashMap<>();
+	private final DefinitionArchive<ObjectDefinition> objects = new DefinitionArchive<>(new ObjectLoader()::load);
 
 	public ObjectManager(Store store)
 	{
@@ -53,25 +48,16 @@ public class ObjectManager
 
 	public void load() throws IOException
 	{
-		ObjectLoader loader = new ObjectLoader();
-
 		Storage storage = store.getStorage();
 		Index index = store.getIndex(IndexType.CONFIGS);
 		Archive archive = index.getArchive(ConfigType.OBJECT.getId());
 
-		byte[] archiveData = storage.loadArchive(archive);
-		ArchiveFiles files = archive.getFiles(archiveData);
-
-		for (FSFile f : files.getFiles())
-		{
-			ObjectDefinition def = loader.load(f.getFileId(), f.getContents());
-			objects.put(f.getFileId(), def);
-		}
+		objects.load(storage, archive);
 	}
 
 	public Collection<ObjectDefinition> getObjects()
 	{
-		return Collections.unmodifiableCollection(objects.values());
+		return objects.getAll();
 	}
 
 	public ObjectDefinition getObject(int id)
@@ -83,7 +69,7 @@ public class ObjectManager
 	{
 		out.mkdirs();
 
-		for (ObjectDefinition def : objects.values())
+		for (ObjectDefinition def : objects.getAll())
 		{
 			ObjectExporter exporter = new ObjectExporter(def);
 
@@ -98,7 +84,7 @@ public class ObjectManager
 		try (IDClass ids = IDClass.create(java, "ObjectID");
 			IDClass nulls = IDClass.create(java, "NullObjectID"))
 		{
-			for (ObjectDefinition def : objects.values())
+			for (ObjectDefinition def : objects.getAll())
 			{
 				if ("null".equals(def.getName()))
 				{
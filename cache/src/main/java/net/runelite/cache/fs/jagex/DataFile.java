@@ -30,6 +30,7 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,10 +41,12 @@ public class DataFile implements Closeable
 	private static final int SECTOR_SIZE = 520;
 
 	private final RandomAccessFile dat;
+	private final FileChannel channel;
 
 	public DataFile(File file) throws FileNotFoundException
 	{
 		this.dat = new RandomAccessFile(file, "rw");
+		this.channel = dat.getChannel();
 	}
 
 	@Override
@@ -58,6 +61,8 @@ public class DataFile implements Closeable
 	}
 
 	/**
+	 * Reads the sector chain of an archive. Sectors are read with positional reads, so this does not take
+	 * the lock held by {@link #write(int, int, byte[])} and may be called from many threads at once.
 	 *
 	 * @param indexId expected index of archive of contents being read
 	 * @param archiveId expected archive of contents being read
@@ -66,16 +71,20 @@ public class DataFile implements Closeable
 	 * @return
 	 * @throws IOException
 	 */
-	public synchronized byte[] read(int indexId, int archiveId, int sector, int size) throws IOException
+	public byte[] read(int indexId, int archiveId, int sector, int size) throws IOException
 	{
-		if (sector <= 0L || dat.length() / SECTOR_SIZE < (long) sector)
+		long sectors = channel.size() / SECTOR_SIZE;
+		if (sector <= 0L || sectors < (long) sector)
 		{
-			logger.warn("bad read, dat length {}, requested sector {}", dat.length(), sector);
+			logger.warn("bad read, dat length {}, requested sector {}", channel.size(), sector);
 			return null;
 		}
 
-		byte[] readBuffer = new byte[SECTOR_SIZE];
-		ByteBuffer buffer = ByteBuffer.allocate(size);
+		byte[] data = new byte[size];
+		// the header of each sector is read into the start of a buffer followed by its data
+		boolean largeArchive = archiveId > 0xFFFF;
+		int headerSize = largeArchive ? 10 : 8;
+		ByteBuffer readBuffer = ByteBuffer.allocate(SECTOR_SIZE);
 
 		for (int part = 0, readBytesCount = 0, nextSector;
 			size > readBytesCount;
@@ -87,61 +96,41 @@ public class DataFile implements Closeable
 				return null;
 			}
 
-			dat.seek(SECTOR_SIZE * sector);
+			int dataBlockSize = Math.min(size - readBytesCount, SECTOR_SIZE - headerSize);
 
-			int dataBlockSize = size - readBytesCount;
-			byte headerSize;
+			readBuffer.clear().limit(headerSize + dataBlockSize);
+			if (readFully(readBuffer, (long) SECTOR_SIZE * sector) != headerSize + dataBlockSize)
+			{
+				logger.warn("Short read when reading file data for {}/{}", indexId, archiveId);
+				return null;
+			}
+
+			byte[] buf = readBuffer.array();
 			int currentIndex;
 			int currentPart;
 			int currentArchive;
-			if (archiveId > 0xFFFF)
+			if (largeArchive)
 			{
-				headerSize = 10;
-				if (dataBlockSize > SECTOR_SIZE - headerSize)
-				{
-					dataBlockSize = SECTOR_SIZE - headerSize;
-				}
-
-				int i = dat.read(readBuffer, 0, headerSize + dataBlockSize);
-				if (i != headerSize + dataBlockSize)
-				{
-					logger.warn("Short read when reading file data for {}/{}", indexId, archiveId);
-					return null;
-				}
-
-				currentArchive = ((readBuffer[0] & 0xFF) << 24)
-					| ((readBuffer[1] & 0xFF) << 16)
-					| ((readBuffer[2] & 0xFF) << 8)
-					| (readBuffer[3] & 0xFF);
-				currentPart = ((readBuffer[4] & 0xFF) << 8) + (readBuffer[5] & 0xFF);
-				nextSector = ((readBuffer[6] & 0xFF) << 16)
-					| ((readBuffer[7] & 0xFF) << 8)
-					| (readBuffer[8] & 0xFF);
-				currentIndex = readBuffer[9] & 0xFF;
+				currentArchive = ((buf[0] & 0xFF) << 24)
+					| ((buf[1] & 0xFF) << 16)
+					| ((buf[2] & 0xFF) << 8)
+					| (buf[3] & 0xFF);
+				currentPart = ((buf[4] & 0xFF) << 8) + (buf[5] & 0xFF);
+				nextSector = ((buf[6] & 0xFF) << 16)
+					| ((buf[7] & 0xFF) << 8)
+					| (buf[8] & 0xFF);
+				currentIndex = buf[9] & 0xFF;
 			}
 			else
 			{
-				headerSize = 8;
-				if (dataBlockSize > SECTOR_SIZE - headerSize)
-				{
-					dataBlockSize = SECTOR_SIZE - headerSize;
-				}
-
-				int i = dat.read(readBuffer, 0, headerSize + dataBlockSize);
-				if (i != headerSize + dataBlockSize)
-				{
-					logger.warn("short read");
-					return null;
-				}
-
-				currentArchive = ((readBuffer[0] & 0xFF) << 8)
-					| (readBuffer[1] & 0xFF);
-				currentPart = ((readBuffer[2] & 0xFF) << 8)
-					| (readBuffer[3] & 0xFF);
-				nextSector = ((readBuffer[4] & 0xFF) << 16)
-					| ((readBuffer[5] & 0xFF) << 8)
-					| (readBuffer[6] & 0xFF);
-				currentIndex = readBuffer[7] & 0xFF;
+				currentArchive = ((buf[0] & 0xFF) << 8)
+					| (buf[1] & 0xFF);
+				currentPart = ((buf[2] & 0xFF) << 8)
+					| (buf[3] & 0xFF);
+				nextSector = ((buf[4] & 0xFF) << 16)
+					| ((buf[5] & 0xFF) << 8)
+					| (buf[6] & 0xFF);
+				currentIndex = buf[7] & 0xFF;
 			}
 
 			if (archiveId != currentArchive || currentPart != part || indexId != currentIndex)
@@ -153,20 +142,34 @@ public class DataFile implements Closeable
 				return null;
 			}
 
-			if (nextSector < 0 || dat.length() / SECTOR_SIZE < (long) nextSector)
+			if (nextSector < 0 || sectors < (long) nextSector)
 			{
 				logger.warn("Invalid next sector");
 				return null;
 			}
 
-			buffer.put(readBuffer, headerSize, dataBlockSize);
+			System.arraycopy(buf, headerSize, data, readBytesCount, dataBlockSize);
 			readBytesCount += dataBlockSize;
 
 			++part;
 		}
 
-		buffer.flip();
-		return buffer.array();
+		return data;
+	}
+
+	private int readFully(ByteBuffer buffer, long position) throws IOException
+	{
+		int total = 0;
+		while (buffer.hasRemaining())
+		{
+			int i = channel.read(buffer, position + total);
+			if (i < 0)
+			{
+				break;
+			}
+			total += i;
+		}
+		return total;
 	}
 
 	public synchronized DataFileWriteResult write(int indexId, int archiveId, byte[] compressedData) throws IOException
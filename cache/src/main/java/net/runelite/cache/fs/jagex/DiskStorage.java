@@ -28,8 +28,8 @@ import com.google.common.primitives.Ints;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.Container;
 import net.runelite.cache.fs.Index;
@@ -52,7 +52,8 @@ public class DiskStorage implements Storage
 
 	private final DataFile data;
 	private final IndexFile index255;
-	private final List<IndexFile> indexFiles = new ArrayList<>();
+	// copy on write so loadArchive can look up index files from many threads
+	private final List<IndexFile> indexFiles = new CopyOnWriteArrayList<>();
 
 	public DiskStorage(File folder) throws IOException
 	{
@@ -86,6 +87,17 @@ public class DiskStorage implements Storage
 	}
 
 	private IndexFile getIndex(int i) throws FileNotFoundException
+	{
+		IndexFile indexFile = findIndex(i);
+		if (indexFile != null)
+		{
+			return indexFile;
+		}
+
+		return createIndex(i);
+	}
+
+	private IndexFile findIndex(int i)
 	{
 		for (IndexFile indexFile : indexFiles)
 		{
@@ -94,8 +106,18 @@ public class DiskStorage implements Storage
 				return indexFile;
 			}
 		}
+		return null;
+	}
+
+	private synchronized IndexFile createIndex(int i) throws FileNotFoundException
+	{
+		IndexFile indexFile = findIndex(i);
+		if (indexFile != null)
+		{
+			return indexFile;
+		}
 
-		IndexFile indexFile = new IndexFile(i, new File(folder, MAIN_FILE_CACHE_IDX + i));
+		indexFile = new IndexFile(i, new File(folder, MAIN_FILE_CACHE_IDX + i));
 		indexFiles.add(indexFile);
 		return indexFile;
 	}
@@ -29,6 +29,8 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.Objects;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -42,6 +44,7 @@ public class IndexFile implements Closeable
 	private final int indexFileId;
 	private final File file;
 	private final RandomAccessFile idx;
+	private final FileChannel channel;
 	private final byte[] buffer = new byte[INDEX_ENTRY_LEN];
 
 	public IndexFile(int indexFileId, File file) throws FileNotFoundException
@@ -49,6 +52,7 @@ public class IndexFile implements Closeable
 		this.indexFileId = indexFileId;
 		this.file = file;
 		this.idx = new RandomAccessFile(file, "rw");
+		this.channel = idx.getChannel();
 	}
 
 	@Override
@@ -109,16 +113,32 @@ public class IndexFile implements Closeable
 		idx.write(buffer);
 	}
 
-	public synchronized IndexEntry read(int id) throws IOException
+	/**
+	 * Reads an entry with a positional read, without taking the lock held by {@link #write(IndexEntry)}
+	 */
+	public IndexEntry read(int id) throws IOException
 	{
-		idx.seek(id * INDEX_ENTRY_LEN);
-		int i = idx.read(buffer);
+		ByteBuffer entry = ByteBuffer.allocate(INDEX_ENTRY_LEN);
+		long position = (long) id * INDEX_ENTRY_LEN;
+		int i = 0;
+		while (entry.hasRemaining())
+		{
+			int read = channel.read(entry, position + i);
+			if (read < 0)
+			{
+				break;
+			}
+			i += read;
+		}
+
 		if (i != INDEX_ENTRY_LEN)
 		{
 			logger.debug("short read for id {} on index {}: {}", id, indexFileId, i);
 			return null;
 		}
 
+		byte[] buffer = entry.array();
+
 		int length = ((buffer[0] & 0xFF) << 16) | ((buffer[1] & 0xFF) << 8) | (buffer[2] & 0xFF);
 		int sector = ((buffer[3] & 0xFF) << 16) | ((buffer[4] & 0xFF) << 8) | (buffer[5] & 0xFF);
 
@@ -131,8 +151,8 @@ public class IndexFile implements Closeable
 		return new IndexEntry(this, id, sector, length);
 	}
 
-	public synchronized int getIndexCount() throws IOException
+	public int getIndexCount() throws IOException
 	{
-		return (int) (idx.length() / INDEX_ENTRY_LEN);
+		return (int) (channel.size() / INDEX_ENTRY_LEN);
 	}
 }
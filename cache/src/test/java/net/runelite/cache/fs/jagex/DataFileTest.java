@@ -26,6 +26,12 @@ package net.runelite.cache.fs.jagex;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import net.runelite.cache.StoreLocation;
 import net.runelite.cache.fs.Container;
 import org.junit.Assert;
@@ -167,4 +173,46 @@ public class DataFileTest
 		Assert.assertEquals("testtesttesttest1", str);
 		Assert.assertEquals(42, res2.revision);
 	}
+
+	@Test
+	public void testConcurrentRead() throws Exception
+	{
+		DataFile df = new DataFile(folder.newFile());
+
+		Random random = new Random(42);
+		byte[][] data = new byte[64][];
+		int[] sectors = new int[data.length];
+		for (int i = 0; i < data.length; ++i)
+		{
+			data[i] = new byte[1 + random.nextInt(4096)];
+			random.nextBytes(data[i]);
+			sectors[i] = df.write(7, i, data[i]).sector;
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try
+		{
+			List<Future<?>> futures = new ArrayList<>();
+			for (int t = 0; t < 8; ++t)
+			{
+				futures.add(executor.submit(() ->
+				{
+					for (int i = 0; i < data.length; ++i)
+					{
+						Assert.assertArrayEquals(data[i], df.read(7, i, sectors[i], data[i].length));
+					}
+					return null;
+				}));
+			}
+
+			for (Future<?> future : futures)
+			{
+				future.get();
+			}
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+	}
 }
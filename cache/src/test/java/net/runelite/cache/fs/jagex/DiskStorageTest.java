@@ -25,6 +25,12 @@
 package net.runelite.cache.fs.jagex;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import net.runelite.cache.StoreLocation;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.Container;
@@ -35,9 +41,13 @@ import org.junit.Test;
 import static org.junit.Assert.*;
 import org.junit.Rule;
 import org.junit.rules.TemporaryFolder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class DiskStorageTest
 {
+	private static final Logger logger = LoggerFactory.getLogger(DiskStorageTest.class);
+
 	@Rule
 	public TemporaryFolder folder = StoreLocation.getTemporaryFolder();
 
@@ -99,4 +109,50 @@ public class DiskStorageTest
 		}
 	}
 
+	@Test
+	public void testLoadAllArchives() throws Exception
+	{
+		try (Store store = new Store(StoreLocation.LOCATION))
+		{
+			store.load();
+
+			DiskStorage storage = (DiskStorage) store.getStorage();
+			long sequential = loadAllArchives(store, storage, false);
+			long parallel = loadAllArchives(store, storage, true);
+
+			assertEquals(sequential, parallel);
+		}
+	}
+
+	private static long loadAllArchives(Store store, DiskStorage storage, boolean parallel)
+	{
+		List<Archive> archives = new ArrayList<>();
+		for (Index index : store.getIndexes())
+		{
+			archives.addAll(index.getArchives());
+		}
+
+		AtomicLong bytes = new AtomicLong();
+		long start = System.nanoTime();
+
+		(parallel ? archives.parallelStream() : archives.stream()).forEach(archive ->
+		{
+			try
+			{
+				byte[] data = storage.loadArchive(archive);
+				if (data != null)
+				{
+					bytes.addAndGet(data.length);
+				}
+			}
+			catch (IOException e)
+			{
+				throw new UncheckedIOException(e);
+			}
+		});
+
+		logger.info("Loaded {} archives, {} bytes, {} in {} ms", archives.size(), bytes.get(),
+			parallel ? "parallel" : "sequentially", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+		return bytes.get();
+	}
 }
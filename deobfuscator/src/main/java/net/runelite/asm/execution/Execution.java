@@ -30,10 +30,11 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 import net.runelite.asm.ClassFile;
 import net.runelite.asm.ClassGroup;
 import net.runelite.asm.Field;
@@ -49,7 +50,9 @@ public class Execution
 	private static final Logger logger = LoggerFactory.getLogger(Execution.class);
 
 	private final ClassGroup group;
-	public List<Frame> frames = new ArrayList<>(), framesOther = new ArrayList<>();
+	public List<Frame> frames = new ArrayList<>();
+	// frames of other methods, grouped by method in the order each method's first pending frame was added
+	private final Map<Method, List<Frame>> framesOther = new LinkedHashMap<>();
 	public Set<Instruction> executed = new HashSet<>(); // executed instructions
 	private Multimap<WeakInstructionContext, Method> stepInvokes = HashMultimap.create();
 	private Set<Method> invokes = new HashSet<>();
@@ -165,7 +168,7 @@ public class Execution
 		}
 		else
 		{
-			framesOther.add(frame);
+			framesOther.computeIfAbsent(frame.getMethod(), k -> new ArrayList<>()).add(frame);
 		}
 	}
 
@@ -253,12 +256,10 @@ public class Execution
 					break;
 				}
 
-				Frame begin = framesOther.remove(0);
-				frames.add(begin);
-
-				List<Frame> toMove = framesOther.stream().filter(f -> f.getMethod() == begin.getMethod()).collect(Collectors.toList());
-				frames.addAll(toMove);
-				framesOther.removeAll(toMove);
+				// continue with every pending frame of the method with the oldest pending frame
+				Iterator<List<Frame>> it = framesOther.values().iterator();
+				frames.addAll(it.next());
+				it.remove();
 			}
 		}
 
@@ -27,6 +27,9 @@ package net.runelite.deob;
 import com.google.common.base.Stopwatch;
 import java.io.File;
 import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import net.runelite.asm.ClassGroup;
 import net.runelite.asm.execution.Execution;
 import net.runelite.deob.deobfuscators.CastNull;
@@ -55,6 +58,7 @@ import net.runelite.deob.deobfuscators.transformers.GetPathTransformer;
 import net.runelite.deob.deobfuscators.transformers.OpcodesTransformer;
 import net.runelite.deob.deobfuscators.transformers.ReflectionTransformer;
 import net.runelite.deob.util.JarUtil;
+import net.runelite.deob.util.ParallelMethods;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -65,6 +69,9 @@ public class Deob
 	public static final int OBFUSCATED_NAME_MAX_LEN = 3;
 	private static final boolean CHECK_EXEC = false;
 
+	// total time spent in each pass, by pass name in the order passes first ran
+	private static final Map<String, Long> timings = new LinkedHashMap<>();
+
 	public static void main(String[] args) throws IOException
 	{
 		if (args == null || args.length < 2)
@@ -73,7 +80,7 @@ public class Deob
 			System.exit(-1);
 		}
 
-		logger.info("Deobfuscator revision {}", DeobProperties.getRevision());
+		logger.info("Deobfuscator revision {}, using {} threads", DeobProperties.getRevision(), ParallelMethods.getThreads());
 
 		Stopwatch stopwatch = Stopwatch.createStarted();
 
@@ -125,15 +132,15 @@ public class Deob
 
 		run(group, new EnumDeobfuscator());
 
-		new OpcodesTransformer().transform(group);
+		time("OpcodesTransformer", () -> new OpcodesTransformer().transform(group));
 		//run(group, new PacketHandlerOrder());
 		//run(group, new PacketWriteDeobfuscator());
 
 		run(group, new MenuActionDeobfuscator());
 
-		new GetPathTransformer().transform(group);
-		new ClientErrorTransformer().transform(group);
-		new ReflectionTransformer().transform(group);
+		time("GetPathTransformer", () -> new GetPathTransformer().transform(group));
+		time("ClientErrorTransformer", () -> new ClientErrorTransformer().transform(group));
+		time("ReflectionTransformer", () -> new ReflectionTransformer().transform(group));
 		//new MaxMemoryTransformer().transform(group);
 		//new RuneliteBufferTransformer().transform(group);
 
@@ -141,6 +148,8 @@ public class Deob
 
 		stopwatch.stop();
 		logger.info("Done in {}", stopwatch);
+
+		timings.forEach((name, nanos) -> logger.info("{}: {} ms", name, TimeUnit.NANOSECONDS.toMillis(nanos)));
 	}
 
 	public static boolean isObfuscated(String name)
@@ -159,18 +168,18 @@ public class Deob
 	private static void runMath(ClassGroup group)
 	{
 		ModArith mod = new ModArith();
-		mod.run(group);
+		time("ModArith", () -> mod.run(group));
 
 		int last = -1, cur;
 		while ((cur = mod.runOnce()) > 0)
 		{
-			new MultiplicationDeobfuscator().run(group);
+			time("MultiplicationDeobfuscator", () -> new MultiplicationDeobfuscator().run(group));
 
 			// do not remove 1 * field so that ModArith can detect
 			// the change in guessDecreasesConstants()
-			new MultiplyOneDeobfuscator(true).run(group);
+			time("MultiplyOneDeobfuscator", () -> new MultiplyOneDeobfuscator(true).run(group));
 
-			new MultiplyZeroDeobfuscator().run(group);
+			time("MultiplyZeroDeobfuscator", () -> new MultiplyZeroDeobfuscator().run(group));
 
 			if (last == cur)
 			{
@@ -181,11 +190,20 @@ public class Deob
 		}
 
 		// now that modarith is done, remove field * 1
-		new MultiplyOneDeobfuscator(false).run(group);
+		time("MultiplyOneDeobfuscator", () -> new MultiplyOneDeobfuscator(false).run(group));
 
 		mod.annotateEncryption();
 	}
 
+	private static void time(String name, Runnable pass)
+	{
+		Stopwatch stopwatch = Stopwatch.createStarted();
+		pass.run();
+		stopwatch.stop();
+
+		timings.merge(name, stopwatch.elapsed(TimeUnit.NANOSECONDS), Long::sum);
+	}
+
 	private static void run(ClassGroup group, Deobfuscator deob)
 	{
 		Stopwatch stopwatch = Stopwatch.createStarted();
@@ -193,6 +211,7 @@ public class Deob
 		stopwatch.stop();
 
 		logger.info("{} took {}", deob.getClass().getSimpleName(), stopwatch);
+		timings.merge(deob.getClass().getSimpleName(), stopwatch.elapsed(TimeUnit.NANOSECONDS), Long::sum);
 
 		// check code is still correct
 		if (CHECK_EXEC)
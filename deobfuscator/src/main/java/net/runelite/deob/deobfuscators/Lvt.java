@@ -24,7 +24,7 @@
  */
 package net.runelite.deob.deobfuscators;
 
-import net.runelite.asm.ClassFile;
+import java.util.concurrent.atomic.AtomicInteger;
 import net.runelite.asm.ClassGroup;
 import net.runelite.asm.Method;
 import net.runelite.asm.attributes.Code;
@@ -32,6 +32,7 @@ import net.runelite.asm.attributes.code.Instruction;
 import net.runelite.asm.attributes.code.instruction.types.LVTInstruction;
 import net.runelite.deob.Deobfuscator;
 import net.runelite.deob.deobfuscators.lvt.Mappings;
+import net.runelite.deob.util.ParallelMethods;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -46,7 +47,7 @@ public class Lvt implements Deobfuscator
 {
 	private static final Logger logger = LoggerFactory.getLogger(Lvt.class);
 
-	private int count = 0;
+	private final AtomicInteger count = new AtomicInteger();
 
 	private void process(Method method)
 	{
@@ -78,20 +79,15 @@ public class Lvt implements Deobfuscator
 			Instruction newIns = lv.setVariableIndex(newIdx);
 			assert ins == newIns;
 
-			++count;
+			count.incrementAndGet();
 		}
 	}
 
 	@Override
 	public void run(ClassGroup group)
 	{
-		for (ClassFile cf : group.getClasses())
-		{
-			for (Method m : cf.getMethods())
-			{
-				process(m);
-			}
-		}
+		// lvt indexes are local to each method
+		ParallelMethods.forEach(group, this::process);
 
 		logger.info("Remapped {} lvt indexes", count);
 	}
@@ -25,15 +25,15 @@
 package net.runelite.deob.deobfuscators.cfg;
 
 import java.util.List;
-import net.runelite.asm.ClassFile;
+import java.util.concurrent.atomic.AtomicInteger;
 import net.runelite.asm.ClassGroup;
-import net.runelite.asm.Method;
 import net.runelite.asm.attributes.Code;
 import net.runelite.asm.attributes.code.Instruction;
 import net.runelite.asm.attributes.code.Instructions;
 import net.runelite.asm.attributes.code.Label;
 import net.runelite.asm.attributes.code.instructions.Goto;
 import net.runelite.deob.Deobfuscator;
+import net.runelite.deob.util.ParallelMethods;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -41,31 +41,29 @@ public class ControlFlowDeobfuscator implements Deobfuscator
 {
 	private static final Logger logger = LoggerFactory.getLogger(ControlFlowDeobfuscator.class);
 
-	private int insertedJump;
-	private int placedBlocks;
-	private int removedJumps;
+	private final AtomicInteger insertedJump = new AtomicInteger();
+	private final AtomicInteger placedBlocks = new AtomicInteger();
+	private final AtomicInteger removedJumps = new AtomicInteger();
 
 	@Override
 	public void run(ClassGroup group)
 	{
-		for (ClassFile cf : group.getClasses())
+		// each method's graph is rebuilt from its own code only
+		ParallelMethods.forEach(group, m ->
 		{
-			for (Method m : cf.getMethods())
-			{
-				Code code = m.getCode();
-
-				if (code == null || !code.getExceptions().getExceptions().isEmpty())
-				{
-					continue;
-				}
+			Code code = m.getCode();
 
-				run(code);
-				runJumpLabel(code);
+			if (code == null || !code.getExceptions().getExceptions().isEmpty())
+			{
+				return;
 			}
-		}
+
+			run(code);
+			runJumpLabel(code);
+		});
 
 		logger.info("Inserted {} jumps, reordered {} blocks, and removed {} jumps. jump delta {}",
-			insertedJump, placedBlocks, removedJumps, insertedJump - removedJumps);
+			insertedJump, placedBlocks, removedJumps, insertedJump.get() - removedJumps.get());
 	}
 
 	private void run(Code code)
@@ -84,7 +82,7 @@ public class ControlFlowDeobfuscator implements Deobfuscator
 		final List<Block> sorted = graph.topologicalSort();
 		for (Block b : sorted)
 		{
-			++placedBlocks;
+			placedBlocks.incrementAndGet();
 			for (Instruction i : b.getInstructions())
 			{
 				ins.addInstruction(i);
@@ -103,7 +101,7 @@ public class ControlFlowDeobfuscator implements Deobfuscator
 						next.getInstructions().add(0, maybeLabel);
 					}
 					ins.addInstruction(new Goto(ins, (Label) maybeLabel));
-					++insertedJump;
+					insertedJump.incrementAndGet();
 				}
 			}
 		}
@@ -135,7 +133,7 @@ public class ControlFlowDeobfuscator implements Deobfuscator
 			}
 
 			ins.remove(i1); // remove jump
-			++removedJumps;
+			removedJumps.incrementAndGet();
 
 			// i now points to i2, so next loop we go to next instruction
 		}
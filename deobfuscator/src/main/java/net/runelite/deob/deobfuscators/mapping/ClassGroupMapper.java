@@ -25,7 +25,10 @@
 
 package net.runelite.deob.deobfuscators.mapping;
 
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ListMultimap;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import net.runelite.asm.ClassFile;
 import net.runelite.asm.ClassGroup;
@@ -43,8 +46,13 @@ public class ClassGroupMapper
 	
 	public void map()
 	{
+		// only classes with the same field and method cardinalities can be the same
+		ListMultimap<List<?>, ClassFile> index = ArrayListMultimap.create();
+		for (ClassFile cf2 : two.getClasses())
+			index.put(ClassMapper.getShape(cf2), cf2);
+
 		for (ClassFile cf1 : one.getClasses())
-			for (ClassFile cf2 : two.getClasses())
+			for (ClassFile cf2 : index.get(ClassMapper.getShape(cf1)))
 			{
 				if (!MappingExecutorUtil.isMaybeEqual(cf1, cf2))
 					continue;
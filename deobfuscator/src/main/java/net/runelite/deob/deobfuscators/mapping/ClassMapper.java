@@ -42,7 +42,15 @@ public class ClassMapper
 		this.two = two;
 	}
 
-	private Multiset<Type> fieldCardinalities(ClassFile cf)
+	/**
+	 * Key which is equal for two classes whenever {@link #same()} is true
+	 */
+	static List<Multiset<?>> getShape(ClassFile cf)
+	{
+		return List.of(fieldCardinalities(cf), methodCardinalities(cf));
+	}
+
+	private static Multiset<Type> fieldCardinalities(ClassFile cf)
 	{
 		List<Type> t = cf.getFields().stream()
 			.filter(f -> !f.isStatic())
@@ -52,7 +60,7 @@ public class ClassMapper
 		return ImmutableMultiset.copyOf(t);
 	}
 
-	private Multiset<Signature> methodCardinalities(ClassFile cf)
+	private static Multiset<Signature> methodCardinalities(ClassFile cf)
 	{
 		List<Signature> t = cf.getMethods().stream()
 			.filter(m -> !m.isStatic())
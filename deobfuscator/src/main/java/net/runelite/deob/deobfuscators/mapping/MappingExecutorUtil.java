@@ -268,6 +268,31 @@ public class MappingExecutorUtil
 		return true;
 	}
 
+	/**
+	 * Key which is equal for two signatures exactly when {@link #isMaybeEqual(Signature, Signature)}
+	 * is true, for indexing candidate methods by signature
+	 */
+	public static String getShape(Signature s)
+	{
+		StringBuilder sb = new StringBuilder();
+		appendShape(sb, s.getReturnValue());
+		for (int i = 0; i < s.size(); ++i)
+		{
+			appendShape(sb, s.getTypeOfArg(i));
+		}
+		return sb.toString();
+	}
+
+	private static void appendShape(StringBuilder sb, Type t)
+	{
+		sb.append(t.getDimensions());
+		while (t.getDimensions() > 0)
+		{
+			t = t.getSubtype();
+		}
+		sb.append(t.isPrimitive() ? t.toString() : "L").append(';');
+	}
+
 	public static boolean isMaybeEqual(ClassFile cf1, ClassFile cf2)
 	{
 		if (cf1 == null && cf2 == null)
@@ -25,7 +25,9 @@
 
 package net.runelite.deob.deobfuscators.mapping;
 
+import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.LinkedHashMultimap;
+import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Multimap;
 import java.util.ArrayList;
 import java.util.List;
@@ -49,19 +51,25 @@ public class MethodSignatureMapper
 		return methods;
 	}
 
-	private List<Method> getMethodsOfSignature(ClassGroup group, ClassFile cf, Signature sig)
+	private List<Method> getMethodsOfSignature(ListMultimap<String, Method> index, ClassFile cf, Signature sig)
 	{
-		return getMethods(group).stream()
+		return index.get(MappingExecutorUtil.getShape(sig)).stream()
 			.filter(m -> MappingExecutorUtil.isMaybeEqual(cf, m.getClassFile()))
-			.filter(m -> MappingExecutorUtil.isMaybeEqual(m.getDescriptor(), sig))
 			.collect(Collectors.toList());
 	}
 
 	public void map(ClassGroup group1, ClassGroup group2)
 	{
+		// candidates by signature shape, in group order
+		ListMultimap<String, Method> index = ArrayListMultimap.create();
+		for (Method m : getMethods(group2))
+		{
+			index.put(MappingExecutorUtil.getShape(m.getDescriptor()), m);
+		}
+
 		for (Method m : getMethods(group1))
 		{
-			map.putAll(m, getMethodsOfSignature(group2, m.getClassFile(), m.getDescriptor()));
+			map.putAll(m, getMethodsOfSignature(index, m.getClassFile(), m.getDescriptor()));
 		}
 	}
 
@@ -24,15 +24,15 @@
  */
 package net.runelite.deob.deobfuscators.mapping;
 
+import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.LinkedHashMultimap;
+import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Multimap;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 import net.runelite.asm.ClassFile;
 import net.runelite.asm.ClassGroup;
 import net.runelite.asm.Method;
-import net.runelite.asm.signature.Signature;
 
 public class StaticMethodSignatureMapper
 {
@@ -65,18 +65,18 @@ public class StaticMethodSignatureMapper
 		return methods;
 	}
 
-	private List<Method> getStaticMethodsOfSignature(ClassGroup group, Signature sig)
-	{
-		return getStaticMethods(group).stream().filter(
-			m -> MappingExecutorUtil.isMaybeEqual(m.getDescriptor(), sig)
-		).collect(Collectors.toList());
-	}
-
 	public void map(ClassGroup group1, ClassGroup group2)
 	{
+		// candidates by signature shape, in group order
+		ListMultimap<String, Method> index = ArrayListMultimap.create();
+		for (Method m : getStaticMethods(group2))
+		{
+			index.put(MappingExecutorUtil.getShape(m.getDescriptor()), m);
+		}
+
 		for (Method m : getStaticMethods(group1))
 		{
-			map.putAll(m, getStaticMethodsOfSignature(group2, m.getDescriptor()));
+			map.putAll(m, index.get(MappingExecutorUtil.getShape(m.getDescriptor())));
 		}
 	}
 
@@ -0,0 +1,72 @@
+package net.runelite.deob.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import net.runelite.asm.ClassFile;
+import net.runelite.asm.ClassGroup;
+import net.runelite.asm.Method;
+
+/**
+ * Runs a per-method transformation over every method of a group on a fork-join pool. Only for passes where
+ * each method is transformed independently of every other method, so the result does not depend on the
+ * order methods are processed in.
+ * <p>
+ * The number of threads is set with the deob.threads system property, and defaults to the number of
+ * processors. A value of 1 runs the methods sequentially in class order.
+ */
+public class ParallelMethods
+{
+	public static final String THREADS_PROPERTY = "deob.threads";
+
+	public static int getThreads()
+	{
+		return Integer.getInteger(THREADS_PROPERTY, Runtime.getRuntime().availableProcessors());
+	}
+
+	public static void forEach(ClassGroup group, Consumer<Method> action)
+	{
+		List<Method> methods = new ArrayList<>();
+		for (ClassFile cf : group.getClasses())
+		{
+			methods.addAll(cf.getMethods());
+		}
+
+		int threads = getThreads();
+		if (threads <= 1)
+		{
+			methods.forEach(action);
+			return;
+		}
+
+		ForkJoinPool pool = new ForkJoinPool(threads);
+		try
+		{
+			pool.submit(() -> methods.parallelStream().forEach(action)).get();
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(e);
+		}
+		catch (ExecutionException e)
+		{
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException)
+			{
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error)
+			{
+				throw (Error) cause;
+			}
+			throw new RuntimeException(cause);
+		}
+		finally
+		{
+			pool.shutdown();
+		}
+	}
+}
@@ -26,11 +26,14 @@ package net.runelite.deob.deobfuscators.cfg;
 
 import java.io.File;
 import java.io.IOException;
+import net.runelite.asm.ClassFile;
 import net.runelite.asm.ClassGroup;
 import net.runelite.deob.DeobTestProperties;
 import net.runelite.deob.TemporyFolderLocation;
 import net.runelite.deob.util.JarUtil;
+import net.runelite.deob.util.ParallelMethods;
 import org.junit.After;
+import static org.junit.Assert.assertArrayEquals;
 import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Rule;
@@ -65,4 +68,28 @@ public class ControlFlowDeobfuscatorTest
 	{
 		new ControlFlowDeobfuscator().run(group);
 	}
+
+	@Test
+	@Ignore
+	public void testParallelMatchesSequential() throws Exception
+	{
+		ClassGroup sequential = JarUtil.load(new File(properties.getVanillaClient()));
+
+		System.setProperty(ParallelMethods.THREADS_PROPERTY, "1");
+		try
+		{
+			new ControlFlowDeobfuscator().run(sequential);
+		}
+		finally
+		{
+			System.clearProperty(ParallelMethods.THREADS_PROPERTY);
+		}
+
+		new ControlFlowDeobfuscator().run(group);
+
+		for (ClassFile cf : sequential.getClasses())
+		{
+			assertArrayEquals(cf.getName(), JarUtil.writeClass(sequential, cf), JarUtil.writeClass(group, group.findClass(cf.getName())));
+		}
+	}
 }
@@ -122,7 +122,8 @@ public interface TileObject extends SceneEntity
 	String getName();
 
 	/**
-	 * Gets the menu actions of the object
+	 * Gets the menu actions of the object. The array is cached on the object's definition and shared between
+	 * callers, so it must not be modified.
 	 */
 	String[] getActions();
 
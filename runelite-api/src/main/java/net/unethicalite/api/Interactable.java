@@ -12,6 +12,10 @@ public interface Interactable
 {
 	Point getClickPoint();
 
+	/**
+	 * The menu actions, with empty slots as null. NPCs, objects and ground items return the array cached on
+	 * their definition, which is shared between callers and must not be modified; clone it to change it.
+	 */
 	String[] getActions();
 
 	int getActionOpcode(int action);
@@ -11,16 +11,26 @@ public class Predicates
 {
 	public static <T extends EntityNameable> Predicate<T> names(String... names)
 	{
+		// entity names come from the composition's cached sanitized definition, which keeps its string hash,
+		// so most names are rejected with an integer comparison
+		int[] hashes = new int[names.length];
+		for (int i = 0; i < names.length; i++)
+		{
+			hashes[i] = names[i] == null ? 0 : names[i].hashCode();
+		}
+
 		return t ->
 		{
-			if (t.getName() == null)
+			String entityName = t.getName();
+			if (entityName == null)
 			{
 				return false;
 			}
 
-			for (String name : names)
+			int hash = entityName.hashCode();
+			for (int i = 0; i < names.length; i++)
 			{
-				if (t.getName().equals(name))
+				if (hash == hashes[i] && entityName.equals(names[i]))
 				{
 					return true;
 				}
@@ -0,0 +1,91 @@
+package net.unethicalite.api.util;
+
+/**
+ * Sanitized name and actions of a composition, cached on the composition so entity name and action lookups
+ * don't strip tags and allocate on every call. The cache is keyed on the raw name and action references, which
+ * the client replaces rather than mutates, so it is rebuilt whenever any of them change.
+ */
+public final class SanitizedDefinition
+{
+	private final String rawName;
+	private final String[] rawActions;
+	private final String name;
+	private final String[] actions;
+
+	private SanitizedDefinition(String rawName, String[] rawActions)
+	{
+		this.rawName = rawName;
+		this.rawActions = rawActions == null ? null : rawActions.clone();
+		this.name = Text.sanitize(rawName);
+
+		if (rawActions == null)
+		{
+			this.actions = null;
+		}
+		else
+		{
+			this.actions = new String[rawActions.length];
+			for (int i = 0; i < rawActions.length; i++)
+			{
+				this.actions[i] = Text.sanitize(rawActions[i]);
+			}
+		}
+	}
+
+	/**
+	 * Returns the cached definition if it was built from the same name and actions, or a new one otherwise.
+	 */
+	public static SanitizedDefinition of(SanitizedDefinition cached, String rawName, String[] rawActions)
+	{
+		if (cached != null && cached.matches(rawName, rawActions))
+		{
+			return cached;
+		}
+
+		return new SanitizedDefinition(rawName, rawActions);
+	}
+
+	/**
+	 * Sanitized name, null if the composition has no name.
+	 */
+	public String getName()
+	{
+		return name;
+	}
+
+	/**
+	 * Sanitized actions. The array is shared between callers and must not be modified.
+	 */
+	public String[] getActions()
+	{
+		return actions;
+	}
+
+	private boolean matches(String rawName, String[] rawActions)
+	{
+		if (rawName != this.rawName)
+		{
+			return false;
+		}
+
+		if (rawActions == null || this.rawActions == null)
+		{
+			return rawActions == this.rawActions;
+		}
+
+		if (rawActions.length != this.rawActions.length)
+		{
+			return false;
+		}
+
+		for (int i = 0; i < rawActions.length; i++)
+		{
+			if (rawActions[i] != this.rawActions[i])
+			{
+				return false;
+			}
+		}
+
+		return true;
+	}
+}
@@ -153,8 +153,14 @@ tasks {
     processResources {
         dependsOn("assembleScripts")
         dependsOn(":injected-client:inject")
+        dependsOn("compileTransports")
+        dependsOn("compileRegionGraph")
+        dependsOn("compilePluginIndex")
 
         from("${buildDir}/scripts")
+        from("${buildDir}/transports")
+        from("${buildDir}/regiongraph")
+        from("${buildDir}/pluginindex")
 
         from("${project(":injected-client").buildDir}/libs")
         from("${project(":injected-client").buildDir}/resources/main")
@@ -199,6 +205,49 @@ tasks {
         output.set(file(out))
     }
 
+    register<JavaExec>("compileTransports") {
+        dependsOn(compileJava)
+
+        val inp = "${projectDir}/src/main/resources/transports.json"
+        val out = "${buildDir}/transports/transports.bin"
+
+        inputs.file(inp)
+        outputs.file(out)
+
+        classpath = project.sourceSets.main.get().output.classesDirs + project.sourceSets.main.get().compileClasspath
+        mainClass.set("net.unethicalite.api.movement.pathfinder.TransportGraph")
+        args(inp, out)
+    }
+
+    register<JavaExec>("compileRegionGraph") {
+        dependsOn(compileJava)
+
+        val regions = "${projectDir}/src/main/resources/regions"
+        val transports = "${projectDir}/src/main/resources/transports.json"
+        val out = "${buildDir}/regiongraph/region-graph"
+
+        inputs.files(regions, transports)
+        outputs.file(out)
+
+        classpath = project.sourceSets.main.get().output.classesDirs + project.sourceSets.main.get().compileClasspath
+        mainClass.set("net.unethicalite.api.movement.pathfinder.RegionGraph")
+        maxHeapSize = "1g"
+        args(regions, transports, out)
+    }
+
+    register<JavaExec>("compilePluginIndex") {
+        dependsOn(compileJava)
+
+        val out = "${buildDir}/pluginindex/plugins.json"
+
+        inputs.files(project.sourceSets.main.get().output.classesDirs)
+        outputs.file(out)
+
+        classpath = project.sourceSets.main.get().output.classesDirs + project.sourceSets.main.get().compileClasspath
+        mainClass.set("net.runelite.client.plugins.PluginIndex")
+        args(out)
+    }
+
     withType<BootstrapTask> {
         group = "openosrs"
     }
@@ -0,0 +1,201 @@
+package net.runelite.client;
+
+import com.google.common.hash.Hashing;
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import joptsimple.OptionSet;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.Client;
+import net.runelite.api.GameState;
+import net.runelite.api.events.GameStateChanged;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.eventbus.Subscribe;
+
+/**
+ * Dynamic class data sharing archives of the client, so a JVM maps the already parsed and verified classes of the
+ * client and its libraries from a file shared by every client on the host instead of loading them from the jars.
+ * <p>
+ * With --cds-train the client relaunches itself with -XX:ArchiveClassesAtExit, boots to the login screen and
+ * exits, which dumps the archive. With --cds it relaunches itself with -XX:SharedArchiveFile pointing at that
+ * archive. Launchers can also pass the flags themselves, using the archive file from {@link #getArchive(Class)}.
+ * <p>
+ * The archive is per main class, JVM and class path, and the JVM only archives classes loaded from jars, so running
+ * from a build directory produces no archive. Dynamic archives need Java 13 or later, older JVMs ignore both options.
+ */
+@Slf4j
+public class ClassDataSharing
+{
+	private static final String DUMP_FLAG = "-XX:ArchiveClassesAtExit=";
+	private static final String ARCHIVE_FLAG = "-XX:SharedArchiveFile=";
+	private static final List<String> OPTIONS = Arrays.asList("--cds", "--cds-train");
+	/**
+	 * First JDK with dynamic archives, see JEP 350
+	 */
+	private static final int MIN_JAVA_VERSION = 13;
+	/**
+	 * Time the relaunched JVM must stay alive for, to catch it rejecting the flags
+	 */
+	private static final long RELAUNCH_CHECK_MILLIS = 2_000;
+
+	/**
+	 * Time spent at the login screen in a training run, for the classes loaded lazily once it shows to be loaded
+	 */
+	private static final long TRAINING_SETTLE_MILLIS = 10_000;
+
+	private boolean exiting;
+
+	public static File getArchive(Class<?> mainClass)
+	{
+		String key = System.getProperty("java.vm.version") + File.pathSeparator + System.getProperty("java.class.path");
+		String hash = Hashing.sha256().hashString(key, StandardCharsets.UTF_8).toString().substring(0, 16);
+		return new File(RuneLite.CACHE_DIR, "cds-" + mainClass.getSimpleName() + "-" + hash + ".jsa");
+	}
+
+	/**
+	 * Relaunches the client in a JVM using or dumping the archive if --cds or --cds-train was passed and this
+	 * JVM isn't already doing so.
+	 *
+	 * @return whether the client was relaunched, in which case this JVM should exit
+	 */
+	public static boolean relaunch(Class<?> mainClass, OptionSet options, String[] args)
+	{
+		boolean train = options.has("cds-train");
+		if (!train && !options.has("cds"))
+		{
+			return false;
+		}
+
+		if (Runtime.version().feature() < MIN_JAVA_VERSION)
+		{
+			log.warn("Class data sharing archives of the client need Java {} or later, running Java {}",
+				MIN_JAVA_VERSION, Runtime.version().feature());
+			return false;
+		}
+
+		List<String> jvmArgs = ManagementFactory.getRuntimeMXBean().getInputArguments();
+		if (jvmArgs.stream().anyMatch(arg -> arg.startsWith(train ? DUMP_FLAG : ARCHIVE_FLAG)))
+		{
+			return false;
+		}
+
+		File archive = getArchive(mainClass);
+		if (!train && !archive.exists())
+		{
+			log.warn("No class data sharing archive at {}, run the client once with --cds-train to create it", archive);
+			return false;
+		}
+
+		archive.getParentFile().mkdirs();
+
+		List<String> command = new ArrayList<>();
+		command.add(ProcessHandle.current().info().command()
+			.orElse(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java"));
+		for (String arg : jvmArgs)
+		{
+			if (!arg.startsWith(DUMP_FLAG) && !arg.startsWith(ARCHIVE_FLAG))
+			{
+				command.add(arg);
+			}
+		}
+		command.add((train ? DUMP_FLAG : ARCHIVE_FLAG) + archive.getAbsolutePath());
+		command.add("-cp");
+		command.add(System.getProperty("java.class.path"));
+		command.add(mainClass.getName());
+		for (String arg : args)
+		{
+			if (!OPTIONS.contains(arg))
+			{
+				command.add(arg);
+			}
+		}
+
+		try
+		{
+			Process process = new ProcessBuilder(command).inheritIO().start();
+			if (process.waitFor(RELAUNCH_CHECK_MILLIS, TimeUnit.MILLISECONDS))
+			{
+				log.warn("Relaunched client exited with code {}, continuing without class data sharing", process.exitValue());
+				return false;
+			}
+		}
+		catch (IOException e)
+		{
+			log.warn("Unable to relaunch the client with class data sharing", e);
+			return false;
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			return false;
+		}
+
+		log.info("Relaunched the client with class data sharing archive {}", archive);
+		return true;
+	}
+
+	/**
+	 * Exits the client once it reaches the login screen if this JVM is dumping an archive
+	 *
+	 * @param client the client, or null if it is outdated
+	 */
+	public static void registerTrainingRun(EventBus eventBus, Client client)
+	{
+		boolean training = ManagementFactory.getRuntimeMXBean().getInputArguments().stream()
+			.anyMatch(arg -> arg.startsWith(DUMP_FLAG));
+		if (!training)
+		{
+			return;
+		}
+
+		log.info("Class data sharing training run, exiting at the login screen");
+		ClassDataSharing trainingRun = new ClassDataSharing();
+		eventBus.register(trainingRun);
+
+		// the login screen may have been reached before registering
+		if (client == null || client.getGameState() == GameState.LOGIN_SCREEN)
+		{
+			trainingRun.exitAfterSettling();
+		}
+	}
+
+	@Subscribe
+	public void onGameStateChanged(GameStateChanged event)
+	{
+		if (event.getGameState() == GameState.LOGIN_SCREEN)
+		{
+			exitAfterSettling();
+		}
+	}
+
+	private synchronized void exitAfterSettling()
+	{
+		if (exiting)
+		{
+			return;
+		}
+
+		exiting = true;
+		Thread exit = new Thread(() ->
+		{
+			try
+			{
+				Thread.sleep(TRAINING_SETTLE_MILLIS);
+			}
+			catch (InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+			}
+
+			// the JVM dumps the archive on exit
+			System.exit(0);
+		}, "CDS training exit");
+		exit.setDaemon(true);
+		exit.start();
+	}
+}
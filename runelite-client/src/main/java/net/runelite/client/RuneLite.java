@@ -283,6 +283,11 @@ public class RuneLite
 			System.exit(0);
 		}
 
+		if (ClassDataSharing.relaunch(RuneLite.class, options, args))
+		{
+			return;
+		}
+
 		if (options.has("debug"))
 		{
 			final Logger logger = (Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME);
@@ -604,6 +609,7 @@ public class RuneLite
 		eventBus.register(overlayManager);
 		eventBus.register(configManager);
 		eventBus.register(discordService);
+		ClassDataSharing.registerTrainingRun(eventBus, client);
 
 		if (!isOutdated)
 		{
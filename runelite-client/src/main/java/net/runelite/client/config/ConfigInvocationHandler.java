@@ -24,40 +24,74 @@
  */
 package net.runelite.client.config;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.client.util.ReflectUtil;
 
+/**
+ * Handles the proxies of one config interface. Each {@link ConfigItem} getter has a slot holding its decoded
+ * value, which is loaded on first use and dropped when its key changes, so repeated reads skip the property
+ * lookup and unmarshalling.
+ */
 @Slf4j
 class ConfigInvocationHandler implements InvocationHandler
 {
-	// Special object to represent null values in the cache
+	// Special object to represent null values in a slot
 	private static final Object NULL = new Object();
+	// Special object to represent a slot which has to be loaded
+	private static final Object UNSET = new Object();
 
 	private final ConfigManager manager;
-	private final Cache<Method, Object> cache = CacheBuilder.newBuilder()
-			.maximumSize(256)
-			.build();
+	private final String group;
+	private final Map<Method, Slot> slots = new HashMap<>();
+	private final Map<String, List<Slot>> slotsByKey = new HashMap<>();
 
-	ConfigInvocationHandler(ConfigManager manager)
+	ConfigInvocationHandler(ConfigManager manager, Class<?> iface)
 	{
 		this.manager = manager;
+
+		ConfigGroup configGroup = iface.getAnnotation(ConfigGroup.class);
+		this.group = configGroup == null ? null : configGroup.value();
+
+		for (Method method : iface.getMethods())
+		{
+			ConfigItem item = method.getAnnotation(ConfigItem.class);
+			if (item == null || method.getParameterCount() != 0 || Modifier.isStatic(method.getModifiers()))
+			{
+				continue;
+			}
+
+			Slot slot = new Slot();
+			slots.put(method, slot);
+			slotsByKey.computeIfAbsent(item.keyName(), k -> new ArrayList<>(1)).add(slot);
+		}
 	}
 
 	@Override
 	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable
 	{
-		// Use cached configuration value if available
+		// Use the decoded configuration value if available
+		Slot slot = null;
+		long stamp = 0;
 		if (args == null)
 		{
-			Object cachedValue = cache.getIfPresent(method);
-			if (cachedValue != null)
+			slot = slots.get(method);
+			if (slot != null)
 			{
-				return cachedValue == NULL ? null : cachedValue;
+				// Read the stamp first, a value loaded before a concurrent change must not be stored
+				stamp = slot.stamp;
+				Object value = slot.value;
+				if (value != UNSET)
+				{
+					return value == NULL ? null : value;
+				}
 			}
 		}
 
@@ -95,7 +129,7 @@ class ConfigInvocationHandler implements InvocationHandler
 
 		if (args == null)
 		{
-			log.trace("cache miss (size: {}, group: {}, key: {})", cache.size(), group.value(), item.keyName());
+			log.trace("slot miss (group: {}, key: {})", group.value(), item.keyName());
 
 			// Getting configuration item
 			String value = manager.getConfiguration(group.value(), item.keyName());
@@ -105,11 +139,11 @@ class ConfigInvocationHandler implements InvocationHandler
 				if (method.isDefault())
 				{
 					Object defaultValue = callDefaultMethod(proxy, method, null);
-					cache.put(method, defaultValue == null ? NULL : defaultValue);
+					store(slot, stamp, defaultValue);
 					return defaultValue;
 				}
 
-				cache.put(method, NULL);
+				store(slot, stamp, null);
 				return null;
 			}
 
@@ -117,7 +151,7 @@ class ConfigInvocationHandler implements InvocationHandler
 			try
 			{
 				Object objectValue = manager.stringToObject(value, method.getGenericReturnType());
-				cache.put(method, objectValue == null ? NULL : objectValue);
+				store(slot, stamp, objectValue);
 				return objectValue;
 			}
 			catch (Exception e)
@@ -184,9 +218,61 @@ class ConfigInvocationHandler implements InvocationHandler
 				.invokeWithArguments(args);
 	}
 
+	/**
+	 * Drops the decoded values of the getters reading the key, if it belongs to this handler's group.
+	 */
+	void invalidate(String groupName, String key)
+	{
+		if (!Objects.equals(group, groupName))
+		{
+			return;
+		}
+
+		List<Slot> keySlots = slotsByKey.get(key);
+		if (keySlots != null)
+		{
+			log.trace("slot invalidate (group: {}, key: {})", groupName, key);
+			for (Slot slot : keySlots)
+			{
+				slot.invalidate();
+			}
+		}
+	}
+
 	void invalidate()
 	{
-		log.trace("cache invalidate");
-		cache.invalidateAll();
+		log.trace("slot invalidate (group: {})", group);
+		for (Slot slot : slots.values())
+		{
+			slot.invalidate();
+		}
+	}
+
+	private static void store(Slot slot, long stamp, Object value)
+	{
+		if (slot != null)
+		{
+			slot.store(stamp, value == null ? NULL : value);
+		}
+	}
+
+	private static final class Slot
+	{
+		private volatile long stamp;
+		private volatile Object value = UNSET;
+
+		synchronized void store(long expectedStamp, Object newValue)
+		{
+			if (stamp == expectedStamp)
+			{
+				value = newValue;
+			}
+		}
+
+		synchronized void invalidate()
+		{
+			stamp++;
+			value = UNSET;
+		}
 	}
 }
@@ -101,6 +101,7 @@ import java.util.Properties;
 import java.util.Set;
 import java.util.Stack;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -137,7 +138,7 @@ public class ConfigManager
 	@Nullable
 	private final Client client;
 
-	private final ConfigInvocationHandler handler = new ConfigInvocationHandler(this);
+	private final Map<Class<?>, ConfigInvocationHandler> handlers = new ConcurrentHashMap<>();
 	private final Map<String, String> pendingChanges = new HashMap<>();
 	private final Map<String, Consumer<? super Plugin>> consumers = new HashMap<>();
 
@@ -260,7 +261,7 @@ public class ConfigManager
 		Properties oldProperties;
 		synchronized (this)
 		{
-			handler.invalidate();
+			handlers.values().forEach(ConfigInvocationHandler::invalidate);
 			oldProperties = properties;
 			this.properties = newProperties;
 		}
@@ -413,11 +414,19 @@ public class ConfigManager
 		T t = (T) Proxy.newProxyInstance(clazz.getClassLoader(), new Class<?>[]
 			{
 				clazz
-			}, handler);
+			}, handlers.computeIfAbsent(clazz, c -> new ConfigInvocationHandler(this, c)));
 
 		return t;
 	}
 
+	private void invalidate(String groupName, String key)
+	{
+		for (ConfigInvocationHandler handler : handlers.values())
+		{
+			handler.invalidate(groupName, key);
+		}
+	}
+
 	public synchronized List<String> getConfigurationKeys(String prefix)
 	{
 		return properties.keySet().stream()
@@ -535,7 +544,7 @@ public class ConfigManager
 		}
 
 		log.debug("Setting configuration value for {} to {}", wholeKey, value);
-		handler.invalidate();
+		invalidate(groupName, key);
 
 		synchronized (pendingChanges)
 		{
@@ -627,7 +636,7 @@ public class ConfigManager
 		}
 
 		log.debug("Unsetting configuration value for {}", wholeKey);
-		handler.invalidate();
+		invalidate(groupName, key);
 
 		synchronized (pendingChanges)
 		{
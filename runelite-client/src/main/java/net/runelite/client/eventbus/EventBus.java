@@ -26,8 +26,6 @@
 package net.runelite.client.eventbus;
 
 import com.google.common.base.Preconditions;
-import com.google.common.collect.ImmutableMultimap;
-import com.google.common.collect.Iterables;
 import java.lang.invoke.CallSite;
 import java.lang.invoke.LambdaMetafactory;
 import java.lang.invoke.MethodHandle;
@@ -35,12 +33,24 @@ import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 import javax.annotation.Nonnull;
 import javax.annotation.concurrent.ThreadSafe;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.ToString;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.client.util.ReflectUtil;
@@ -53,6 +63,9 @@ import org.slf4j.MarkerFactory;
 public class EventBus
 {
 	private static final Marker DEDUPLICATE = MarkerFactory.getMarker("DEDUPLICATE");
+	private static final Subscriber[] EMPTY = new Subscriber[0];
+	private static final Comparator<Subscriber> ORDER = Comparator.comparingDouble(Subscriber::getPriority).reversed()
+		.thenComparing(s -> s.object.getClass().getName());
 
 	@Value
 	public static class Subscriber
@@ -63,23 +76,83 @@ public class EventBus
 		@EqualsAndHashCode.Exclude
 		private final Consumer<Object> lambda;
 
+		@Getter(AccessLevel.NONE)
+		@EqualsAndHashCode.Exclude
+		@ToString.Exclude
+		private final LongAdder invocations = new LongAdder();
+
+		@Getter(AccessLevel.NONE)
+		@EqualsAndHashCode.Exclude
+		@ToString.Exclude
+		private final LongAdder nanos = new LongAdder();
+
 		void invoke(final Object arg) throws Exception
 		{
-			if (lambda != null)
+			final long start = System.nanoTime();
+			try
 			{
-				lambda.accept(arg);
+				if (lambda != null)
+				{
+					lambda.accept(arg);
+				}
+				else
+				{
+					method.invoke(object, arg);
+				}
 			}
-			else
+			finally
 			{
-				method.invoke(object, arg);
+				nanos.add(System.nanoTime() - start);
+				invocations.increment();
 			}
 		}
+
+		/**
+		 * @return how many events this subscriber has been invoked with
+		 */
+		public long getInvocationCount()
+		{
+			return invocations.sum();
+		}
+
+		/**
+		 * @return total wall time spent in this subscriber, in nanoseconds
+		 */
+		public long getTotalNanos()
+		{
+			return nanos.sum();
+		}
+
+		void resetStatistics()
+		{
+			invocations.reset();
+			nanos.reset();
+		}
+	}
+
+	/**
+	 * The subscribers of one event class, ordered for dispatch. The array is replaced, never modified.
+	 */
+	private static final class Subscribers
+	{
+		private volatile Subscriber[] subscribers = EMPTY;
 	}
 
 	private final Consumer<Throwable> exceptionHandler;
 
-	@Nonnull
-	private ImmutableMultimap<Class<?>, Subscriber> subscribers = ImmutableMultimap.of();
+	private final ClassValue<Subscribers> subscribers = new ClassValue<>()
+	{
+		@Override
+		protected Subscribers computeValue(Class<?> type)
+		{
+			return new Subscribers();
+		}
+	};
+
+	// guarded by this
+	private final Set<Class<?>> eventClasses = new LinkedHashSet<>();
+	private final Map<Object, List<Subscriber>> subscribersByObject = new IdentityHashMap<>();
+	private final Map<Subscriber, Class<?>> eventClassBySubscriber = new IdentityHashMap<>();
 
 	/**
 	 * Instantiates EventBus with default exception handler
@@ -98,10 +171,8 @@ public class EventBus
 	 */
 	public synchronized void register(@Nonnull final Object object)
 	{
-		final ImmutableMultimap.Builder<Class<?>, Subscriber> builder = ImmutableMultimap.builder();
-		builder.putAll(subscribers);
-		builder.orderValuesBy(Comparator.comparingDouble(Subscriber::getPriority).reversed()
-			.thenComparing(s -> s.object.getClass().getName()));
+		final List<Class<?>> classes = new ArrayList<>();
+		final List<Subscriber> added = new ArrayList<>();
 
 		for (Class<?> clazz = object.getClass(); clazz != null; clazz = clazz.getSuperclass())
 		{
@@ -125,7 +196,7 @@ public class EventBus
 
 				for (Class<?> psc = parameterClazz.getSuperclass(); psc != null; psc = psc.getSuperclass())
 				{
-					if (subscribers.containsKey(psc))
+					if (eventClasses.contains(psc))
 					{
 						throw new IllegalArgumentException("@Subscribed method \"" + method + "\" cannot subscribe to class which inherits from subscribed class \"" + psc + "\"");
 					}
@@ -156,26 +227,23 @@ public class EventBus
 				}
 
 				final Subscriber subscriber = new Subscriber(object, method, sub.priority(), lambda);
-				builder.put(parameterClazz, subscriber);
+				classes.add(parameterClazz);
+				added.add(subscriber);
 				log.debug("Registering {} - {}", parameterClazz, subscriber);
 			}
 		}
 
-		subscribers = builder.build();
+		// Only publish once every method has been validated, like the old all-or-nothing rebuild
+		for (int i = 0; i < added.size(); i++)
+		{
+			add(classes.get(i), added.get(i));
+		}
 	}
 
 	public synchronized <T> Subscriber register(Class<T> clazz, Consumer<T> subFn, float priority)
 	{
-		final ImmutableMultimap.Builder<Class<?>, Subscriber> builder = ImmutableMultimap.builder();
-		builder.putAll(subscribers);
-		builder.orderValuesBy(Comparator.comparingDouble(Subscriber::getPriority).reversed()
-			.thenComparing(s -> s.object.getClass().getName()));
-
 		Subscriber sub = new Subscriber(subFn, null, priority, (Consumer<Object>) subFn);
-		builder.put(clazz, sub);
-
-		subscribers = builder.build();
-
+		add(clazz, sub);
 		return sub;
 	}
 
@@ -186,10 +254,16 @@ public class EventBus
 	 */
 	public synchronized void unregister(@Nonnull final Object object)
 	{
-		subscribers = ImmutableMultimap.copyOf(Iterables.filter(
-			subscribers.entries(),
-			e -> e.getValue().getObject() != object
-		));
+		final List<Subscriber> subs = subscribersByObject.get(object);
+		if (subs == null)
+		{
+			return;
+		}
+
+		for (Subscriber sub : subs.toArray(EMPTY))
+		{
+			remove(sub);
+		}
 	}
 
 	public synchronized void unregister(Subscriber sub)
@@ -199,10 +273,7 @@ public class EventBus
 			return;
 		}
 
-		subscribers = ImmutableMultimap.copyOf(Iterables.filter(
-			subscribers.entries(),
-			e -> sub != e.getValue()
-		));
+		remove(sub);
 	}
 
 	/**
@@ -213,7 +284,7 @@ public class EventBus
 	 */
 	public void post(@Nonnull final Object event)
 	{
-		for (final Subscriber subscriber : subscribers.get(event.getClass()))
+		for (final Subscriber subscriber : subscribers.get(event.getClass()).subscribers)
 		{
 			try
 			{
@@ -227,4 +298,98 @@ public class EventBus
 			}
 		}
 	}
+
+	/**
+	 * @return the subscribers of the event class, in dispatch order
+	 */
+	public List<Subscriber> getSubscribers(Class<?> eventClass)
+	{
+		return List.of(subscribers.get(eventClass).subscribers);
+	}
+
+	/**
+	 * @return the subscribers of every event class with at least one subscriber, in dispatch order
+	 */
+	public synchronized Map<Class<?>, List<Subscriber>> getSubscribers()
+	{
+		final Map<Class<?>, List<Subscriber>> out = new LinkedHashMap<>();
+		for (Class<?> eventClass : eventClasses)
+		{
+			out.put(eventClass, getSubscribers(eventClass));
+		}
+
+		return out;
+	}
+
+	/**
+	 * Resets the invocation counts and times of every registered subscriber.
+	 */
+	public synchronized void resetStatistics()
+	{
+		for (Subscriber sub : eventClassBySubscriber.keySet())
+		{
+			sub.resetStatistics();
+		}
+	}
+
+	private void add(Class<?> eventClass, Subscriber sub)
+	{
+		final Subscribers slot = subscribers.get(eventClass);
+		final Subscriber[] current = slot.subscribers;
+
+		// After any subscribers that sort equal, so registration order is kept among them
+		int index = current.length;
+		while (index > 0 && ORDER.compare(current[index - 1], sub) > 0)
+		{
+			index--;
+		}
+
+		final Subscriber[] updated = new Subscriber[current.length + 1];
+		System.arraycopy(current, 0, updated, 0, index);
+		updated[index] = sub;
+		System.arraycopy(current, index, updated, index + 1, current.length - index);
+		slot.subscribers = updated;
+
+		eventClasses.add(eventClass);
+		eventClassBySubscriber.put(sub, eventClass);
+		subscribersByObject.computeIfAbsent(sub.getObject(), k -> new ArrayList<>()).add(sub);
+	}
+
+	private void remove(Subscriber sub)
+	{
+		final Class<?> eventClass = eventClassBySubscriber.remove(sub);
+		if (eventClass == null)
+		{
+			return;
+		}
+
+		final Subscribers slot = subscribers.get(eventClass);
+		final Subscriber[] current = slot.subscribers;
+		int index = 0;
+		while (index < current.length && current[index] != sub)
+		{
+			index++;
+		}
+
+		if (index < current.length)
+		{
+			final Subscriber[] updated = Arrays.copyOf(current, current.length - 1);
+			System.arraycopy(current, index + 1, updated, index, current.length - index - 1);
+			slot.subscribers = updated;
+			if (updated.length == 0)
+			{
+				eventClasses.remove(eventClass);
+			}
+		}
+
+		final List<Subscriber> subs = subscribersByObject.get(sub.getObject());
+		if (subs != null)
+		{
+			subs.removeIf(s -> s == sub);
+			if (subs.isEmpty())
+			{
+				subscribersByObject.remove(sub.getObject());
+			}
+		}
+	}
 }
@@ -80,4 +80,11 @@ public @interface PluginDescriptor
 	boolean loadWhenOutdated() default false;
 
 	boolean loadInSafeMode() default true;
+
+	/**
+	 * If the plugin's startUp may run off the event dispatch thread, concurrently with the startUp of other
+	 * plugins in the same dependency layer during client startup. Plugins which create Swing components,
+	 * touch the client, or wait on the event dispatch thread in startUp must leave this false.
+	 */
+	boolean concurrentStartUp() default false;
 }
@@ -0,0 +1,130 @@
+package net.runelite.client.plugins;
+
+import com.google.common.reflect.ClassPath;
+import com.google.common.reflect.ClassPath.ClassInfo;
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import lombok.Data;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Index of the plugins built into the client, generated at build time by {@link #main(String[])} so startup
+ * does not have to walk the classpath and load every class of the plugin packages to find the plugins.
+ * <p>
+ * The index holds the parts of each plugin's descriptor deciding whether it is loaded at all, so developer plugins
+ * outside developer mode, plugins not loaded while the client is outdated and plugins disabled by safe mode are
+ * skipped without loading their classes. Plugins which are merely disabled are still loaded, as the plugin list and
+ * the enable toggles work on plugin instances.
+ */
+public class PluginIndex
+{
+	public static final String RESOURCE = "/plugins.json";
+
+	@Data
+	public static class Entry
+	{
+		private String className;
+		private String configName;
+		private boolean developerPlugin;
+		private boolean loadWhenOutdated;
+		private boolean loadInSafeMode;
+	}
+
+	public static void main(String[] args) throws IOException
+	{
+		if (args.length != 1)
+		{
+			System.err.println("Usage: PluginIndex <plugins.json>");
+			System.exit(1);
+		}
+
+		List<String> packages = new ArrayList<>();
+		packages.add(PluginManager.PLUGIN_PACKAGE);
+		packages.addAll(PluginManager.ADDITIONAL_PLUGIN_PACKAGES);
+
+		ClassPath classPath = ClassPath.from(PluginIndex.class.getClassLoader());
+
+		List<Entry> entries = new ArrayList<>();
+		for (String packageName : packages)
+		{
+			for (ClassInfo info : classPath.getTopLevelClassesRecursive(packageName))
+			{
+				Entry entry = index(info.load());
+				if (entry != null)
+				{
+					entries.add(entry);
+				}
+			}
+		}
+		entries.sort(Comparator.comparing(Entry::getClassName));
+
+		File out = new File(args[0]);
+		if (out.getParentFile() != null)
+		{
+			out.getParentFile().mkdirs();
+		}
+
+		try (Writer writer = Files.newBufferedWriter(out.toPath(), StandardCharsets.UTF_8))
+		{
+			new Gson().toJson(entries, writer);
+		}
+
+		System.out.println("Indexed " + entries.size() + " plugins to " + out);
+	}
+
+	/**
+	 * @return the index entry of the class, or null if it is not a plugin
+	 */
+	static Entry index(Class<?> clazz)
+	{
+		PluginDescriptor descriptor = clazz.getAnnotation(PluginDescriptor.class);
+		if (descriptor == null || Modifier.isAbstract(clazz.getModifiers()) || !Plugin.class.isAssignableFrom(clazz))
+		{
+			// left to the plugin manager to warn about when loaded
+			return null;
+		}
+
+		Entry entry = new Entry();
+		entry.setClassName(clazz.getName());
+		entry.setConfigName(descriptor.configName());
+		entry.setDeveloperPlugin(descriptor.developerPlugin());
+		entry.setLoadWhenOutdated(descriptor.loadWhenOutdated());
+		entry.setLoadInSafeMode(descriptor.loadInSafeMode());
+		return entry;
+	}
+
+	/**
+	 * Reads the index from the classpath.
+	 *
+	 * @return the indexed plugins, or null if the client was built without an index
+	 */
+	public static List<Entry> read() throws IOException
+	{
+		try (InputStream in = PluginIndex.class.getResourceAsStream(RESOURCE))
+		{
+			if (in == null)
+			{
+				return null;
+			}
+
+			try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8))
+			{
+				return new Gson().fromJson(reader, new TypeToken<List<Entry>>()
+				{
+				}.getType());
+			}
+		}
+	}
+}
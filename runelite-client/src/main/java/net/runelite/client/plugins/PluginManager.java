@@ -32,6 +32,7 @@ import com.google.common.graph.Graphs;
 import com.google.common.graph.MutableGraph;
 import com.google.common.reflect.ClassPath;
 import com.google.common.reflect.ClassPath.ClassInfo;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Binder;
 import com.google.inject.CreationException;
 import com.google.inject.Injector;
@@ -73,6 +74,7 @@ import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -81,6 +83,10 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
@@ -91,7 +97,22 @@ public class PluginManager
 	/**
 	 * Base package where the core plugins are
 	 */
-	private static final String PLUGIN_PACKAGE = "net.runelite.client.plugins";
+	static final String PLUGIN_PACKAGE = "net.runelite.client.plugins";
+
+	/**
+	 * Packages of the bundled plugins loaded after the core plugins
+	 */
+	static final List<String> ADDITIONAL_PLUGIN_PACKAGES = List.of(
+		"rs117",
+		"com.duckblade",
+		"ca.gauntlet",
+		"at.nightfirec",
+		"com.playeroutline",
+		"com.zulrahhelper",
+		"com.radiusmarkers",
+		"com.visualmetronome"
+	);
+
 	private static final File SIDELOADED_PLUGINS = new File(RuneLite.RUNELITE_DIR, "sideloaded-plugins");
 
 	private final boolean developerMode;
@@ -102,6 +123,8 @@ public class PluginManager
 	private final Provider<GameEventManager> sceneTileManager;
 	private final List<Plugin> plugins = new CopyOnWriteArrayList<>();
 	private final List<Plugin> activePlugins = new CopyOnWriteArrayList<>();
+	private final PluginStartupProfile startupProfile = new PluginStartupProfile();
+	private List<PluginIndex.Entry> pluginIndex;
 
 	@Setter
 	boolean isOutdated;
@@ -269,55 +292,234 @@ public class PluginManager
 		}
 	}
 
+	/**
+	 * Starts the loaded plugins one dependency layer at a time. Within a layer, the startUp of plugins with
+	 * {@link PluginDescriptor#concurrentStartUp()} runs on a thread pool while the other plugins are started
+	 * on the event dispatch thread. Writes the {@link PluginStartupProfile} once done.
+	 */
 	public void startPlugins()
 	{
 		List<Plugin> scannedPlugins = new ArrayList<>(plugins);
+		List<List<Plugin>> layers = dependencyLayers(scannedPlugins);
+		ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(),
+			new ThreadFactoryBuilder().setNameFormat("plugin-startup-%d").setDaemon(true).build());
+		long start = System.nanoTime();
 		int loaded = 0;
-		for (Plugin plugin : scannedPlugins)
+		try
 		{
-			try
+			for (int layer = 0; layer < layers.size(); layer++)
 			{
-				SwingUtilities.invokeAndWait(() ->
+				final int layerIdx = layer;
+				Map<Plugin, Future<?>> startUps = new HashMap<>();
+				for (Plugin plugin : layers.get(layer))
 				{
-					try
+					if (canStartUpConcurrently(plugin))
 					{
-						startPlugin(plugin);
+						startUps.put(plugin, executor.submit(() ->
+						{
+							long startUp = System.nanoTime();
+							plugin.startUp();
+							startupProfile.startedUp(plugin, layerIdx, true, System.nanoTime() - startUp);
+							return null;
+						}));
 					}
-					catch (PluginInstantiationException ex)
+				}
+
+				for (Plugin plugin : layers.get(layer))
+				{
+					Future<?> startUp = startUps.get(plugin);
+					SwingUtilities.invokeAndWait(() ->
 					{
-						log.warn("Unable to start plugin {}", plugin.getClass().getSimpleName(), ex);
-						plugins.remove(plugin);
-					}
-				});
+						try
+						{
+							boolean started;
+							if (startUp != null)
+							{
+								started = startPlugin(plugin, () -> awaitStartUp(startUp));
+							}
+							else
+							{
+								started = startPlugin(plugin, () ->
+								{
+									long startUpStart = System.nanoTime();
+									plugin.startUp();
+									startupProfile.startedUp(plugin, layerIdx, false, System.nanoTime() - startUpStart);
+								});
+							}
+
+							if (startUp != null && !started)
+							{
+								// a plugin started earlier in the layer disabled it, undo its startUp
+								awaitStartUp(startUp);
+								plugin.shutDown();
+							}
+						}
+						catch (PluginInstantiationException ex)
+						{
+							log.warn("Unable to start plugin {}", plugin.getClass().getSimpleName(), ex);
+							plugins.remove(plugin);
+						}
+						catch (Exception ex)
+						{
+							log.warn("Unable to stop plugin {}", plugin.getClass().getSimpleName(), ex);
+						}
+					});
+
+					loaded++;
+					SplashScreen.stage(.80, 1, null, "Starting plugins", loaded, scannedPlugins.size(), false);
+				}
 			}
-			catch (InterruptedException | InvocationTargetException e)
+		}
+		catch (InterruptedException | InvocationTargetException e)
+		{
+			throw new RuntimeException(e);
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+
+		startupProfile.write(System.nanoTime() - start);
+
+		for (Plugin plugin : plugins)
+		{
+			ReflectUtil.queueInjectorAnnotationCacheInvalidation(plugin.injector);
+		}
+	}
+
+	/**
+	 * Groups the plugins into dependency layers, each only depending on plugins of the layers before it.
+	 * Plugins keep their relative order within a layer.
+	 */
+	private static List<List<Plugin>> dependencyLayers(List<Plugin> plugins)
+	{
+		MutableGraph<Plugin> graph = GraphBuilder
+			.directed()
+			.build();
+
+		Map<Class<?>, Plugin> byClass = new HashMap<>();
+		Map<Plugin, Integer> order = new HashMap<>();
+		for (Plugin plugin : plugins)
+		{
+			graph.addNode(plugin);
+			byClass.put(plugin.getClass(), plugin);
+			order.put(plugin, order.size());
+		}
+
+		for (Plugin plugin : plugins)
+		{
+			for (PluginDependency dependency : plugin.getClass().getAnnotationsByType(PluginDependency.class))
 			{
-				throw new RuntimeException(e);
+				Plugin dependencyPlugin = byClass.get(dependency.value());
+				if (dependencyPlugin != null)
+				{
+					graph.putEdge(dependencyPlugin, plugin);
+				}
 			}
+		}
 
-			loaded++;
-			SplashScreen.stage(.80, 1, null, "Starting plugins", loaded, scannedPlugins.size(), false);
+		List<List<Plugin>> layers = topologicalGroupSort(graph);
+		for (List<Plugin> layer : layers)
+		{
+			layer.sort(Comparator.comparing(order::get));
 		}
+		return layers;
+	}
 
-		for (Plugin plugin : plugins)
+	private boolean canStartUpConcurrently(Plugin plugin)
+	{
+		PluginDescriptor descriptor = plugin.getClass().getAnnotation(PluginDescriptor.class);
+		return descriptor.concurrentStartUp()
+			&& !activePlugins.contains(plugin)
+			&& isPluginEnabled(plugin)
+			&& conflictsForPlugin(plugin).stream().noneMatch(this::isPluginEnabled);
+	}
+
+	private static void awaitStartUp(Future<?> startUp) throws Exception
+	{
+		try
 		{
-			ReflectUtil.queueInjectorAnnotationCacheInvalidation(plugin.injector);
+			startUp.get();
+		}
+		catch (ExecutionException e)
+		{
+			Throwable cause = e.getCause();
+			if (cause instanceof Error)
+			{
+				throw (Error) cause;
+			}
+			throw (Exception) cause;
 		}
 	}
 
 	public void loadCorePlugins() throws IOException, PluginInstantiationException
 	{
 		SplashScreen.stage(.59, null, "Loading plugins");
-		ClassPath classPath = ClassPath.from(getClass().getClassLoader());
-
-		List<Class<?>> plugins = classPath.getTopLevelClassesRecursive(PLUGIN_PACKAGE).stream()
-			.map(ClassInfo::load)
-			.collect(Collectors.toList());
+		List<Class<?>> plugins = findPlugins(List.of(PLUGIN_PACKAGE));
 
 		loadPlugins(plugins, (loaded, total) ->
 			SplashScreen.stage(.60, .67, null, "Loading plugins", loaded, total, false));
 	}
 
+	/**
+	 * Finds the plugin classes in the packages from the plugin index, or by scanning the classpath if the
+	 * client was built without one.
+	 */
+	private List<Class<?>> findPlugins(List<String> packages) throws IOException
+	{
+		if (pluginIndex == null)
+		{
+			pluginIndex = PluginIndex.read();
+		}
+
+		if (pluginIndex == null)
+		{
+			log.debug("No plugin index, scanning the classpath");
+			ClassPath classPath = ClassPath.from(getClass().getClassLoader());
+
+			List<Class<?>> plugins = new ArrayList<>();
+			for (String packageName : packages)
+			{
+				classPath.getTopLevelClassesRecursive(packageName).stream()
+					.map(ClassInfo::load)
+					.forEach(plugins::add);
+			}
+			return plugins;
+		}
+
+		List<Class<?>> plugins = new ArrayList<>();
+		for (PluginIndex.Entry entry : pluginIndex)
+		{
+			if (packages.stream().noneMatch(p -> entry.getClassName().startsWith(p + ".")))
+			{
+				continue;
+			}
+
+			// the same checks as loadPlugins, made before the class is loaded
+			if ((!entry.isLoadWhenOutdated() && isOutdated) || (entry.isDeveloperPlugin() && !developerMode))
+			{
+				continue;
+			}
+
+			if (safeMode && !entry.isLoadInSafeMode())
+			{
+				String className = entry.getClassName();
+				disableForSafeMode(className, className.substring(className.lastIndexOf('.') + 1), entry.getConfigName());
+				continue;
+			}
+
+			try
+			{
+				plugins.add(Class.forName(entry.getClassName(), false, getClass().getClassLoader()));
+			}
+			catch (ClassNotFoundException e)
+			{
+				// plugins stripped from the shaded jar are still in the index
+				log.debug("Indexed plugin {} is not on the classpath", entry.getClassName());
+			}
+		}
+		return plugins;
+	}
 
 	public List<Plugin> loadPlugins(List<Class<?>> plugins, BiConsumer<Integer, Integer> onPluginLoaded) throws PluginInstantiationException
 	{
@@ -361,10 +563,7 @@ public class PluginManager
 
 			if (safeMode && !pluginDescriptor.loadInSafeMode())
 			{
-				log.debug("Disabling {} due to safe mode", clazz);
-				// also disable the plugin from autostarting later
-				configManager.unsetConfiguration(RuneLiteConfig.GROUP_NAME,
-					(Strings.isNullOrEmpty(pluginDescriptor.configName()) ? clazz.getSimpleName() : pluginDescriptor.configName()).toLowerCase());
+				disableForSafeMode(clazz.getName(), clazz.getSimpleName(), pluginDescriptor.configName());
 				continue;
 			}
 
@@ -418,7 +617,20 @@ public class PluginManager
 		return newPlugins;
 	}
 
+	private void disableForSafeMode(String className, String simpleName, String configName)
+	{
+		log.debug("Disabling {} due to safe mode", className);
+		// also disable the plugin from autostarting later
+		configManager.unsetConfiguration(RuneLiteConfig.GROUP_NAME,
+			(Strings.isNullOrEmpty(configName) ? simpleName : configName).toLowerCase());
+	}
+
 	public boolean startPlugin(Plugin plugin) throws PluginInstantiationException
+	{
+		return startPlugin(plugin, plugin::startUp);
+	}
+
+	private boolean startPlugin(Plugin plugin, StartUp startUp) throws PluginInstantiationException
 	{
 		// plugins always start in the EDT
 		assert SwingUtilities.isEventDispatchThread();
@@ -445,7 +657,7 @@ public class PluginManager
 
 		try
 		{
-			plugin.startUp();
+			startUp.run();
 
 			log.debug("Plugin {} is now running", plugin.getClass().getSimpleName());
 			if (!isOutdated && sceneTileManager != null)
@@ -542,6 +754,7 @@ public class PluginManager
 			deps.add(dependency.get());
 		}
 
+		long instantiateStart = System.nanoTime();
 		Plugin plugin;
 		try
 		{
@@ -556,6 +769,7 @@ public class PluginManager
 			throw new PluginInstantiationException(ex);
 		}
 
+		long injectStart = System.nanoTime();
 		try
 		{
 			Injector parent = RuneLite.getInjector();
@@ -598,6 +812,9 @@ public class PluginManager
 			throw new PluginInstantiationException(ex);
 		}
 
+		long injectEnd = System.nanoTime();
+		startupProfile.instantiated(clazz, injectStart - instantiateStart, injectEnd - injectStart);
+
 		log.debug("Loaded plugin {}", clazz.getSimpleName());
 		return plugin;
 	}
@@ -804,31 +1021,18 @@ public class PluginManager
 			.collect(Collectors.toList());
 	}
 
-	public void loadAdditionalPlugins() throws PluginInstantiationException, IOException {
+	public void loadAdditionalPlugins() throws PluginInstantiationException, IOException
+	{
 		SplashScreen.stage(.67, null, "Loading additional plugins");
-		ClassPath classPath = ClassPath.from(getClass().getClassLoader());
-
-		List<Class<?>> plugins = new ArrayList<>();
-
-		ArrayList<String> packages = new ArrayList<>();
-		packages.add("rs117");
-		packages.add("com.duckblade");
-		packages.add("ca.gauntlet");
-		packages.add("at.nightfirec");
-		packages.add("com.playeroutline");
-		packages.add("com.zulrahhelper");
-		packages.add("com.radiusmarkers");
-		packages.add("com.visualmetronome");
-
-		for(String _package: packages) {
-			List<Class<?>> stagedPlugins = classPath.getTopLevelClassesRecursive(_package).stream()
-					.map(ClassInfo::load)
-					.collect(Collectors.toList());
-			plugins.addAll(stagedPlugins);
-		}
-
+		List<Class<?>> plugins = findPlugins(ADDITIONAL_PLUGIN_PACKAGES);
 
 		loadPlugins(plugins, (loaded, total) ->
 				SplashScreen.stage(.68, .70, null, "Loading additional plugins", loaded, total, false));
 	}
-}
\ No newline at end of file
+
+	@FunctionalInterface
+	private interface StartUp
+	{
+		void run() throws Exception;
+	}
+}
@@ -0,0 +1,130 @@
+package net.runelite.client.plugins;
+
+import com.google.gson.Gson;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.RuneLite;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-plugin durations of client startup, appended to {@link #FILE} once the plugins have been started so
+ * the slowest plugins can be found across launches. The file holds one JSON record per line and launch, and is
+ * shared by every client on the host, so records are appended under a file lock.
+ */
+@Slf4j
+class PluginStartupProfile
+{
+	static final File FILE = new File(RuneLite.LOGS_DIR, "plugin-startup.jsonl");
+
+	private static final double NANOS_PER_MS = 1_000_000d;
+
+	@Data
+	static class Timing
+	{
+		private final String plugin;
+		/**
+		 * Dependency layer the plugin was started in, 0 for plugins without dependencies
+		 */
+		private int layer = -1;
+		/**
+		 * Whether startUp ran off the event dispatch thread
+		 */
+		private boolean concurrent;
+		private double instantiateMs;
+		private double injectMs;
+		private double startUpMs;
+
+		double getTotalMs()
+		{
+			return instantiateMs + injectMs + startUpMs;
+		}
+	}
+
+	@Data
+	private static class Profile
+	{
+		private final long timestamp;
+		private final long pid;
+		private final String mainClass;
+		private final double totalMs;
+		private final List<Timing> plugins;
+	}
+
+	private final Map<String, Timing> timings = new LinkedHashMap<>();
+
+	synchronized void instantiated(Class<?> clazz, long instantiateNanos, long injectNanos)
+	{
+		Timing timing = timing(clazz);
+		timing.setInstantiateMs(instantiateNanos / NANOS_PER_MS);
+		timing.setInjectMs(injectNanos / NANOS_PER_MS);
+	}
+
+	synchronized void startedUp(Plugin plugin, int layer, boolean concurrent, long startUpNanos)
+	{
+		Timing timing = timing(plugin.getClass());
+		timing.setLayer(layer);
+		timing.setConcurrent(concurrent);
+		timing.setStartUpMs(startUpNanos / NANOS_PER_MS);
+	}
+
+	/**
+	 * Logs the slowest plugins and appends the profile
+	 *
+	 * @param startupNanos wall time of starting the plugins
+	 */
+	synchronized void write(long startupNanos)
+	{
+		List<Timing> sorted = new ArrayList<>(timings.values());
+		sorted.sort(Comparator.comparingDouble(Timing::getTotalMs).reversed());
+
+		log.debug("Started {} plugins in {}ms", sorted.size(), Math.round(startupNanos / NANOS_PER_MS));
+		for (Timing timing : sorted.subList(0, Math.min(10, sorted.size())))
+		{
+			log.debug("  {}: instantiate {}ms, inject {}ms, startUp {}ms", timing.getPlugin(),
+				Math.round(timing.getInstantiateMs()), Math.round(timing.getInjectMs()), Math.round(timing.getStartUpMs()));
+		}
+
+		Profile profile = new Profile(System.currentTimeMillis(), ProcessHandle.current().pid(), mainClass(),
+			startupNanos / NANOS_PER_MS, sorted);
+		ByteBuffer line = StandardCharsets.UTF_8.encode(new Gson().toJson(profile) + "\n");
+
+		FILE.getParentFile().mkdirs();
+		try (FileChannel channel = FileChannel.open(FILE.toPath(),
+			StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+			FileLock lock = channel.lock())
+		{
+			while (line.hasRemaining())
+			{
+				channel.write(line);
+			}
+		}
+		catch (IOException e)
+		{
+			log.warn("Unable to write plugin startup profile", e);
+		}
+	}
+
+	private static String mainClass()
+	{
+		String command = System.getProperty("sun.java.command", "");
+		int end = command.indexOf(' ');
+		return end == -1 ? command : command.substring(0, end);
+	}
+
+	private Timing timing(Class<?> clazz)
+	{
+		return timings.computeIfAbsent(clazz.getName(), Timing::new);
+	}
+}
@@ -127,6 +127,7 @@ public class RegionHandler
 			collisionMap.overwrite(new GlobalCollisionMap(
 					new GZIPInputStream(new ByteArrayInputStream(is.readAllBytes())).readAllBytes()
 			));
+			Walker.getPathCache().invalidate();
 		}
 		catch (IOException e)
 		{
@@ -60,6 +60,18 @@ public abstract class Overlay implements LayoutableRenderableEntity
 	private int minimumSize = 32;
 	private boolean resettable = true;
 
+	/**
+	 * Game ticks the output of this overlay is reused for before it is rendered again. 0 disables tick-based
+	 * staleness. See {@link #getCacheKey()}.
+	 */
+	private int cacheTicks;
+
+	private final OverlayRenderStatistics renderStatistics = new OverlayRenderStatistics();
+
+	@Getter(AccessLevel.NONE)
+	@Setter(AccessLevel.NONE)
+	OverlayImageCache imageCache;
+
 	/**
 	 * Whether this overlay can be dragged onto other overlays &amp; have
 	 * other overlays dragged onto it.
@@ -186,6 +198,24 @@ public abstract class Overlay implements LayoutableRenderableEntity
 	{
 	}
 
+	/**
+	 * Key of everything the output of this overlay depends on, for overlays whose output changes much less often
+	 * than every frame. When this or {@link #getCacheTicks()} is set, the overlay renders into a cached image which
+	 * is drawn on the following frames, and is only rendered again once the key is no longer equal to the key of the
+	 * cached output, once its cache ticks have passed, or once the font changes.
+	 * <p>
+	 * Only applies to overlays which are laid out by the renderer, not {@link OverlayPosition#DYNAMIC} or
+	 * {@link OverlayPosition#TOOLTIP} ones, and the output is clipped to the dimension returned by
+	 * {@link #render(java.awt.Graphics2D)}.
+	 *
+	 * @return the key, or null to render every frame unless cache ticks are set
+	 */
+	@Nullable
+	public Object getCacheKey()
+	{
+		return null;
+	}
+
 	public void setPosition(OverlayPosition position)
 	{
 		this.position = position;
@@ -0,0 +1,106 @@
+package net.runelite.client.ui.overlay;
+
+import java.awt.AlphaComposite;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.Objects;
+
+/**
+ * The cached output of a retained overlay. Only used on the client thread.
+ */
+class OverlayImageCache
+{
+	private BufferedImage image;
+	private Dimension dimension;
+	private Object key;
+	private Font font;
+	private int tick;
+
+	boolean isValid(Object key, Font font, int tick, int cacheTicks)
+	{
+		return dimension != null
+			&& Objects.equals(this.key, key)
+			&& this.font == font
+			&& (cacheTicks <= 0 || tick - this.tick < cacheTicks);
+	}
+
+	/**
+	 * Draws the cached output at the origin of the graphics
+	 *
+	 * @return the dimension the overlay returned when it was rendered
+	 */
+	Dimension draw(Graphics2D graphics)
+	{
+		graphics.drawImage(image, 0, 0, null);
+		return dimension;
+	}
+
+	/**
+	 * Renders the overlay into the cache and draws it
+	 *
+	 * @return the dimension returned by the overlay
+	 */
+	Dimension render(Overlay overlay, Graphics2D graphics, Object key, int tick)
+	{
+		// invalid until rendered, in case the overlay throws
+		dimension = null;
+
+		Dimension size = overlay.getBounds().getSize();
+		Dimension rendered;
+		for (int attempt = 0; ; attempt++)
+		{
+			allocate(graphics, size);
+
+			Graphics2D g = image.createGraphics();
+			try
+			{
+				g.setComposite(AlphaComposite.Clear);
+				g.fillRect(0, 0, image.getWidth(), image.getHeight());
+				g.setComposite(AlphaComposite.SrcOver);
+				g.setRenderingHints(graphics.getRenderingHints());
+				g.setFont(graphics.getFont());
+				g.setColor(graphics.getColor());
+				g.setStroke(graphics.getStroke());
+
+				rendered = overlay.render(g);
+			}
+			finally
+			{
+				g.dispose();
+			}
+
+			if (rendered == null)
+			{
+				rendered = new Dimension();
+			}
+
+			// the size is only known after rendering, so a grown overlay is rendered again into a larger image
+			if (attempt > 0 || (rendered.width <= image.getWidth() && rendered.height <= image.getHeight()))
+			{
+				break;
+			}
+			size = rendered;
+		}
+
+		this.dimension = rendered;
+		this.key = key;
+		this.font = graphics.getFont();
+		this.tick = tick;
+		return draw(graphics);
+	}
+
+	private void allocate(Graphics2D graphics, Dimension size)
+	{
+		int width = Math.max(1, size.width);
+		int height = Math.max(1, size.height);
+		if (image != null && image.getWidth() >= width && image.getHeight() >= height)
+		{
+			return;
+		}
+
+		image = graphics.getDeviceConfiguration().createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+	}
+}
@@ -0,0 +1,56 @@
+package net.runelite.client.ui.overlay;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Render statistics of an overlay, recorded by the {@link OverlayRenderer} so expensive overlays can be found
+ */
+public class OverlayRenderStatistics
+{
+	private final LongAdder renders = new LongAdder();
+	private final LongAdder cachedDraws = new LongAdder();
+	private final LongAdder nanos = new LongAdder();
+
+	void rendered(long nanos)
+	{
+		renders.increment();
+		this.nanos.add(nanos);
+	}
+
+	void drewCached(long nanos)
+	{
+		cachedDraws.increment();
+		this.nanos.add(nanos);
+	}
+
+	/**
+	 * @return how many times the overlay has been rendered
+	 */
+	public long getRenderCount()
+	{
+		return renders.sum();
+	}
+
+	/**
+	 * @return how many frames drew the overlay's cached output instead of rendering it
+	 */
+	public long getCachedDrawCount()
+	{
+		return cachedDraws.sum();
+	}
+
+	/**
+	 * @return total wall time spent rendering and drawing the overlay, in nanoseconds
+	 */
+	public long getTotalNanos()
+	{
+		return nanos.sum();
+	}
+
+	public void reset()
+	{
+		renders.reset();
+		cachedDraws.reset();
+		nanos.reset();
+	}
+}
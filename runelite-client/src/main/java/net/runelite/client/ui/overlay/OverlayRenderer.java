@@ -748,7 +748,7 @@ public class OverlayRenderer extends MouseAdapter
 		final Dimension overlayDimension;
 		try
 		{
-			overlayDimension = overlay.render(graphics);
+			overlayDimension = render(overlay, graphics);
 		}
 		catch (Exception ex)
 		{
@@ -771,6 +771,47 @@ public class OverlayRenderer extends MouseAdapter
 		overlay.getBounds().setSize(dimension);
 	}
 
+	/**
+	 * Renders the overlay, or draws its cached output if it is a retained overlay whose output is still valid
+	 */
+	private Dimension render(Overlay overlay, Graphics2D graphics)
+	{
+		final OverlayRenderStatistics statistics = overlay.getRenderStatistics();
+		final OverlayPosition position = overlay.getPosition();
+		final long start = System.nanoTime();
+
+		// dynamic and tooltip overlays draw anywhere on the canvas, so their output can't be cached in an image
+		final boolean retainable = position != OverlayPosition.DYNAMIC && position != OverlayPosition.TOOLTIP;
+		final Object key = retainable ? overlay.getCacheKey() : null;
+		final int cacheTicks = retainable ? overlay.getCacheTicks() : 0;
+		if (key == null && cacheTicks <= 0)
+		{
+			overlay.imageCache = null;
+
+			final Dimension dimension = overlay.render(graphics);
+			statistics.rendered(System.nanoTime() - start);
+			return dimension;
+		}
+
+		if (overlay.imageCache == null)
+		{
+			overlay.imageCache = new OverlayImageCache();
+		}
+
+		final OverlayImageCache cache = overlay.imageCache;
+		final int tick = client.getTickCount();
+		if (cache.isValid(key, graphics.getFont(), tick, cacheTicks))
+		{
+			final Dimension dimension = cache.draw(graphics);
+			statistics.drewCached(System.nanoTime() - start);
+			return dimension;
+		}
+
+		final Dimension dimension = cache.render(overlay, graphics, key, tick);
+		statistics.rendered(System.nanoTime() - start);
+		return dimension;
+	}
+
 	private OverlayPosition getCorrectedOverlayPosition(final Overlay overlay)
 	{
 		OverlayPosition overlayPosition = overlay.getPosition();
@@ -3,11 +3,17 @@ package net.unethicalite.api.commons;
 import net.unethicalite.api.game.Game;
 import net.runelite.api.GameState;
 import net.unethicalite.client.Static;
+import net.unethicalite.client.managers.WaitManager;
+import net.unethicalite.client.managers.WaitManager.Trigger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
 
 public class Time
 {
@@ -40,34 +46,14 @@ public class Time
 		return sleep(Rand.nextInt(min, max));
 	}
 
+	/**
+	 * Waits until the supplier is true, re-evaluating it on the client thread every client tick. The timeout
+	 * restarts whenever the reset supplier is true. The polling rate is no longer used, waiters are woken by
+	 * the client.
+	 */
 	public static boolean sleepUntil(BooleanSupplier supplier, BooleanSupplier resetSupplier, int pollingRate, int timeOut)
 	{
-		if (Static.getClient().isClientThread())
-		{
-			logger.debug("Tried to sleepUntil on client thread!");
-			return false;
-		}
-
-		long start = System.currentTimeMillis();
-		while (!supplier.getAsBoolean())
-		{
-			if (System.currentTimeMillis() > start + timeOut)
-			{
-				return false;
-			}
-
-			if (resetSupplier.getAsBoolean())
-			{
-				start = System.currentTimeMillis();
-			}
-
-			if (!sleep(pollingRate))
-			{
-				return false;
-			}
-		}
-
-		return true;
+		return sleepUntil(supplier, resetSupplier, timeOut, EnumSet.of(Trigger.CLIENT_TICK));
 	}
 
 	public static boolean sleepUntil(BooleanSupplier supplier, BooleanSupplier resetSupplier, int timeOut)
@@ -85,6 +71,31 @@ public class Time
 		return sleepUntil(supplier, DEFAULT_POLLING_RATE, timeOut);
 	}
 
+	/**
+	 * Waits until the supplier is true, re-evaluating it on the client thread only when one of the triggers
+	 * fires, e.g. {@link Trigger#ITEM_CONTAINER_CHANGED} for a condition on the inventory.
+	 */
+	public static boolean sleepUntil(BooleanSupplier supplier, int timeOut, Trigger first, Trigger... rest)
+	{
+		return sleepUntil(supplier, () -> false, timeOut, EnumSet.of(first, rest));
+	}
+
+	private static boolean sleepUntil(BooleanSupplier supplier, BooleanSupplier resetSupplier, int timeOut, Set<Trigger> triggers)
+	{
+		if (Static.getClient().isClientThread())
+		{
+			logger.debug("Tried to sleepUntil on client thread!");
+			return false;
+		}
+
+		if (supplier.getAsBoolean())
+		{
+			return true;
+		}
+
+		return await(() -> supplier.getAsBoolean() ? Boolean.TRUE : null, resetSupplier, triggers, Math.max(0, timeOut));
+	}
+
 	public static boolean sleepTicks(int ticks)
 	{
 		if (Static.getClient().isClientThread())
@@ -98,25 +109,13 @@ public class Time
 			return false;
 		}
 
-		for (int i = 0; i < ticks; i++)
+		if (ticks <= 0)
 		{
-			long start = Static.getClient().getTickCount();
-
-			while (Static.getClient().getTickCount() == start)
-			{
-				try
-				{
-					Thread.sleep(DEFAULT_POLLING_RATE);
-				}
-				catch (InterruptedException e)
-				{
-					logger.debug("Sleep interrupted");
-					return false;
-				}
-			}
+			return true;
 		}
 
-		return true;
+		TickCounter counter = new TickCounter(ticks);
+		return await(() -> counter.tick() ? Boolean.TRUE : null, null, EnumSet.of(Trigger.GAME_TICK), -1);
 	}
 
 	public static boolean sleepTick()
@@ -137,20 +136,27 @@ public class Time
 			return false;
 		}
 
-		for (int i = 0; i < ticks; i++)
+		if (ticks <= 0)
 		{
-			if (supplier.getAsBoolean())
-			{
-				return true;
-			}
+			return false;
+		}
+
+		if (supplier.getAsBoolean())
+		{
+			return true;
+		}
 
-			if (!sleepTick())
+		// Like the loop this replaces, the supplier is not checked again after the last tick
+		TickCounter counter = new TickCounter(ticks);
+		return await(() ->
+		{
+			if (counter.tick())
 			{
-				return false;
+				return Boolean.FALSE;
 			}
-		}
 
-		return false;
+			return supplier.getAsBoolean() ? Boolean.TRUE : null;
+		}, null, EnumSet.of(Trigger.GAME_TICK), -1);
 	}
 
 	public static String format(Duration duration)
@@ -158,4 +164,41 @@ public class Time
 		long secs = Math.abs(duration.getSeconds());
 		return String.format("%02d:%02d:%02d", secs / 3600L, secs % 3600L / 60L, secs % 60L);
 	}
+
+	private static boolean await(Supplier<Boolean> condition, BooleanSupplier reset, Set<Trigger> triggers, int timeOut)
+	{
+		WaitManager.Waiter waiter = WaitManager.register(condition, reset, triggers);
+		try
+		{
+			return waiter.await(timeOut, TimeUnit.MILLISECONDS);
+		}
+		catch (InterruptedException e)
+		{
+			logger.debug("Sleep interrupted");
+			return false;
+		}
+		finally
+		{
+			WaitManager.cancel(waiter);
+		}
+	}
+
+	/**
+	 * Counts game ticks on the client thread.
+	 */
+	private static final class TickCounter
+	{
+		private final int ticks;
+		private int elapsed;
+
+		private TickCounter(int ticks)
+		{
+			this.ticks = ticks;
+		}
+
+		private boolean tick()
+		{
+			return ++elapsed >= ticks;
+		}
+	}
 }
@@ -18,18 +18,52 @@ public abstract class Entities<T extends SceneEntity>
 {
 	protected abstract List<T> all(Predicate<? super T> filter);
 
+	/**
+	 * The spawn/despawn maintained index of these entities, or null to always scan the scene.
+	 */
+	protected EntityIndex<T> index()
+	{
+		return null;
+	}
+
+	/**
+	 * The plane indexed entities must be on to match a scan of the scene, or -1 for any plane.
+	 */
+	protected int indexPlane()
+	{
+		return -1;
+	}
+
 	protected List<T> all(String... names)
 	{
+		EntityIndex<T> index = index();
+		if (index != null && index.isReady())
+		{
+			return filter(index.candidates(indexPlane(), names), Predicates.names(names));
+		}
+
 		return all(Predicates.names(names));
 	}
 
 	protected List<T> all(int... ids)
 	{
+		EntityIndex<T> index = index();
+		if (index != null && index.isReady())
+		{
+			return filter(index.candidates(indexPlane(), ids), Predicates.ids(ids));
+		}
+
 		return all(Predicates.ids(ids));
 	}
 
 	protected T nearest(WorldPoint to, Predicate<? super T> filter)
 	{
+		EntityIndex<T> index = index();
+		if (index != null && index.isReady())
+		{
+			return index.nearest(to, indexPlane(), x -> x.getId() != -1 && filter.test(x));
+		}
+
 		return all(x -> x.getId() != -1 && filter.test(x)).stream()
 				.min(Comparator.comparingDouble(t -> t.getWorldLocation().distanceToHypotenuse(to)))
 				.orElse(null);
@@ -37,14 +71,36 @@ public abstract class Entities<T extends SceneEntity>
 
 	protected T nearest(WorldPoint to, String... names)
 	{
+		EntityIndex<T> index = index();
+		if (index != null && index.isReady())
+		{
+			return all(names).stream()
+					.filter(x -> x.getId() != -1)
+					.min(Comparator.comparingDouble(t -> t.getWorldLocation().distanceToHypotenuse(to)))
+					.orElse(null);
+		}
+
 		return nearest(to, Predicates.names(names));
 	}
 
 	protected T nearest(WorldPoint to, int... ids)
 	{
+		EntityIndex<T> index = index();
+		if (index != null && index.isReady())
+		{
+			Predicate<T> filter = Predicates.ids(ids);
+			return index.nearest(to, indexPlane(), ids, x -> x.getId() != -1 && filter.test(x));
+		}
+
 		return nearest(to, Predicates.ids(ids));
 	}
 
+	private static <T> List<T> filter(List<T> candidates, Predicate<? super T> filter)
+	{
+		candidates.removeIf(x -> !filter.test(x));
+		return candidates;
+	}
+
 	public static List<? extends SceneEntity> getHoveredEntities()
 	{
 		MenuEntry[] menuEntries = Static.getClient().getMenuEntries();
@@ -0,0 +1,430 @@
+package net.unethicalite.api.entities;
+
+import net.runelite.api.coords.WorldPoint;
+import net.unethicalite.api.SceneEntity;
+import net.unethicalite.client.Static;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Index of the entities in the scene, maintained from spawn and despawn events. Entities are bucketed by
+ * id, name and 8x8 chunk so id and name lookups only touch matching entities, and nearest lookups search
+ * chunks outwards from the source until no closer chunk can exist.
+ * <p>
+ * Entities whose definition can transform (varbit/varp impostors) may change id and name at any time, so
+ * they are kept apart and returned as candidates for every id and name lookup. Candidates must always be
+ * re-tested by the caller.
+ * <p>
+ * Mobile indexes (NPCs, players) rebuild their chunk buckets lazily, at most once per game tick.
+ */
+public class EntityIndex<T extends SceneEntity>
+{
+	private static final int CHUNK_SHIFT = 3;
+
+	private final boolean mobile;
+	private final Map<T, Entry<T>> entries = new IdentityHashMap<>();
+	private final Map<Integer, List<Entry<T>>> byId = new HashMap<>();
+	private final Map<String, List<Entry<T>>> byName = new HashMap<>();
+	private final List<Entry<T>> transforming = new ArrayList<>();
+	private final Map<Integer, List<Entry<T>>> byChunk = new HashMap<>();
+
+	private int chunkTick = -1;
+	private int minChunkX = Integer.MAX_VALUE;
+	private int minChunkY = Integer.MAX_VALUE;
+	private int maxChunkX = Integer.MIN_VALUE;
+	private int maxChunkY = Integer.MIN_VALUE;
+
+	private volatile boolean ready;
+
+	public EntityIndex(boolean mobile)
+	{
+		this.mobile = mobile;
+	}
+
+	/**
+	 * Whether the index has seen the scene from empty, and so holds every entity in it.
+	 */
+	public boolean isReady()
+	{
+		return ready;
+	}
+
+	public synchronized void reset(boolean ready)
+	{
+		entries.clear();
+		byId.clear();
+		byName.clear();
+		transforming.clear();
+		byChunk.clear();
+		chunkTick = -1;
+		minChunkX = minChunkY = Integer.MAX_VALUE;
+		maxChunkX = maxChunkY = Integer.MIN_VALUE;
+		this.ready = ready;
+	}
+
+	public synchronized void add(T entity, boolean transforms)
+	{
+		remove(entity);
+
+		WorldPoint location = entity.getWorldLocation();
+		Entry<T> entry = new Entry<>(entity, entity.getId(), entity.getName(), transforms);
+		entries.put(entity, entry);
+
+		if (transforms)
+		{
+			transforming.add(entry);
+		}
+		else
+		{
+			byId.computeIfAbsent(entry.id, k -> new ArrayList<>()).add(entry);
+			if (entry.name != null)
+			{
+				byName.computeIfAbsent(entry.name, k -> new ArrayList<>()).add(entry);
+			}
+		}
+
+		if (mobile)
+		{
+			chunkTick = -1;
+		}
+		else if (location != null)
+		{
+			place(entry, location.getX(), location.getY(), location.getPlane());
+		}
+	}
+
+	public synchronized void remove(T entity)
+	{
+		Entry<T> entry = entries.remove(entity);
+		if (entry == null)
+		{
+			return;
+		}
+
+		if (entry.transforms)
+		{
+			transforming.remove(entry);
+		}
+		else
+		{
+			removeFrom(byId, entry.id, entry);
+			if (entry.name != null)
+			{
+				removeFrom(byName, entry.name, entry);
+			}
+		}
+
+		if (mobile)
+		{
+			chunkTick = -1;
+		}
+		else if (entry.chunk != -1)
+		{
+			removeFrom(byChunk, entry.chunk, entry);
+		}
+	}
+
+	public synchronized int size()
+	{
+		return entries.size();
+	}
+
+	/**
+	 * Entities on the given plane (-1 for any) which may have one of the ids.
+	 */
+	public synchronized List<T> candidates(int plane, int... ids)
+	{
+		List<T> out = new ArrayList<>();
+		for (int i = 0; i < ids.length; i++)
+		{
+			if (!seen(ids, i))
+			{
+				collect(byId.get(ids[i]), plane, out);
+			}
+		}
+
+		collect(transforming, plane, out);
+		return out;
+	}
+
+	/**
+	 * Entities on the given plane (-1 for any) which may have one of the names.
+	 */
+	public synchronized List<T> candidates(int plane, String... names)
+	{
+		List<T> out = new ArrayList<>();
+		for (int i = 0; i < names.length; i++)
+		{
+			if (!seen(names, i))
+			{
+				collect(byName.get(names[i]), plane, out);
+			}
+		}
+
+		collect(transforming, plane, out);
+		return out;
+	}
+
+	/**
+	 * Nearest entity on the given plane (-1 for any) with one of the ids that matches the filter.
+	 */
+	public synchronized T nearest(WorldPoint to, int plane, int[] ids, Predicate<? super T> filter)
+	{
+		refreshChunks();
+
+		Entry<T> best = null;
+		float bestDistance = Float.MAX_VALUE;
+		for (int i = 0; i < ids.length; i++)
+		{
+			if (seen(ids, i))
+			{
+				continue;
+			}
+
+			List<Entry<T>> bucket = byId.get(ids[i]);
+			if (bucket == null)
+			{
+				continue;
+			}
+
+			for (Entry<T> entry : bucket)
+			{
+				float distance = distance(entry, to);
+				if ((best == null || distance < bestDistance) && matches(entry, plane, filter))
+				{
+					best = entry;
+					bestDistance = distance;
+				}
+			}
+		}
+
+		for (Entry<T> entry : transforming)
+		{
+			float distance = distance(entry, to);
+			if ((best == null || distance < bestDistance) && matches(entry, plane, filter))
+			{
+				best = entry;
+				bestDistance = distance;
+			}
+		}
+
+		return best == null ? null : best.entity;
+	}
+
+	/**
+	 * Nearest entity on the given plane (-1 for any) matching the filter, searching chunk rings outwards from
+	 * the source point and stopping once the next ring cannot contain anything closer.
+	 */
+	public synchronized T nearest(WorldPoint to, int plane, Predicate<? super T> filter)
+	{
+		refreshChunks();
+		if (entries.isEmpty())
+		{
+			return null;
+		}
+
+		int originX = to.getX() >> CHUNK_SHIFT;
+		int originY = to.getY() >> CHUNK_SHIFT;
+		int minDx = minChunkX - originX;
+		int maxDx = maxChunkX - originX;
+		int minDy = minChunkY - originY;
+		int maxDy = maxChunkY - originY;
+		int minRing = Math.max(0, Math.max(Math.max(minDx, -maxDx), Math.max(minDy, -maxDy)));
+		int maxRing = Math.max(Math.max(-minDx, maxDx), Math.max(-minDy, maxDy));
+
+		Entry<T> best = null;
+		float bestDistance = Float.MAX_VALUE;
+		for (int ring = minRing; ring <= maxRing; ring++)
+		{
+			// Only the part of the ring overlapping the occupied chunks is visited
+			for (int dx = Math.max(-ring, minDx); dx <= Math.min(ring, maxDx); dx++)
+			{
+				boolean edge = dx == -ring || dx == ring;
+				for (int dy = Math.max(-ring, minDy); dy <= Math.min(ring, maxDy); dy++)
+				{
+					if (!edge && dy != -ring && dy != ring)
+					{
+						dy = ring - 1;
+						continue;
+					}
+
+					List<Entry<T>> bucket = byChunk.get(chunk(originX + dx, originY + dy, to.getPlane()));
+					if (bucket == null)
+					{
+						continue;
+					}
+
+					for (Entry<T> entry : bucket)
+					{
+						float distance = distance(entry, to);
+						if ((best == null || distance < bestDistance) && matches(entry, plane, filter))
+						{
+							best = entry;
+							bestDistance = distance;
+						}
+					}
+				}
+			}
+
+			// Every tile in the next ring is at least this far from the source
+			if (best != null && bestDistance <= (ring << CHUNK_SHIFT) + 1)
+			{
+				break;
+			}
+		}
+
+		if (best == null)
+		{
+			// Nothing on the source plane, anything else is equally far away
+			for (Entry<T> entry : entries.values())
+			{
+				if (matches(entry, plane, filter))
+				{
+					return entry.entity;
+				}
+			}
+		}
+
+		return best == null ? null : best.entity;
+	}
+
+	private void refreshChunks()
+	{
+		if (!mobile)
+		{
+			return;
+		}
+
+		int tick = Static.getClient().getTickCount();
+		if (tick == chunkTick && chunkTick != -1)
+		{
+			return;
+		}
+
+		byChunk.clear();
+		minChunkX = minChunkY = Integer.MAX_VALUE;
+		maxChunkX = maxChunkY = Integer.MIN_VALUE;
+		chunkTick = tick;
+		for (Entry<T> entry : entries.values())
+		{
+			WorldPoint location = entry.entity.getWorldLocation();
+			if (location == null)
+			{
+				entry.chunk = -1;
+				continue;
+			}
+
+			place(entry, location.getX(), location.getY(), location.getPlane());
+		}
+	}
+
+	private void place(Entry<T> entry, int x, int y, int plane)
+	{
+		entry.x = x;
+		entry.y = y;
+		entry.plane = plane;
+		entry.chunk = chunk(x >> CHUNK_SHIFT, y >> CHUNK_SHIFT, plane);
+		byChunk.computeIfAbsent(entry.chunk, k -> new ArrayList<>()).add(entry);
+
+		minChunkX = Math.min(minChunkX, x >> CHUNK_SHIFT);
+		minChunkY = Math.min(minChunkY, y >> CHUNK_SHIFT);
+		maxChunkX = Math.max(maxChunkX, x >> CHUNK_SHIFT);
+		maxChunkY = Math.max(maxChunkY, y >> CHUNK_SHIFT);
+	}
+
+	private boolean matches(Entry<T> entry, int plane, Predicate<? super T> filter)
+	{
+		return (plane == -1 || entry.plane == plane) && filter.test(entry.entity);
+	}
+
+	private void collect(List<Entry<T>> bucket, int plane, List<T> out)
+	{
+		if (bucket == null)
+		{
+			return;
+		}
+
+		for (Entry<T> entry : bucket)
+		{
+			if (plane == -1 || entry.plane == plane)
+			{
+				out.add(entry.entity);
+			}
+		}
+	}
+
+	private static float distance(Entry<?> entry, WorldPoint to)
+	{
+		if (entry.chunk == -1 || entry.plane != to.getPlane())
+		{
+			return Float.MAX_VALUE;
+		}
+
+		return (float) Math.hypot(entry.x - to.getX(), entry.y - to.getY());
+	}
+
+	private static int chunk(int chunkX, int chunkY, int plane)
+	{
+		return (plane << 28) | ((chunkX & 0x3FFF) << 14) | (chunkY & 0x3FFF);
+	}
+
+	private static <K, V> void removeFrom(Map<K, List<V>> map, K key, V value)
+	{
+		List<V> bucket = map.get(key);
+		if (bucket != null && bucket.remove(value) && bucket.isEmpty())
+		{
+			map.remove(key);
+		}
+	}
+
+	private static boolean seen(int[] ids, int index)
+	{
+		for (int i = 0; i < index; i++)
+		{
+			if (ids[i] == ids[index])
+			{
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private static boolean seen(String[] names, int index)
+	{
+		for (int i = 0; i < index; i++)
+		{
+			if (names[i].equals(names[index]))
+			{
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private static final class Entry<T>
+	{
+		private final T entity;
+		private final int id;
+		private final String name;
+		private final boolean transforms;
+		private int x;
+		private int y;
+		private int plane = -1;
+		private int chunk = -1;
+
+		private Entry(T entity, int id, String name, boolean transforms)
+		{
+			this.entity = entity;
+			this.id = id;
+			this.name = name;
+			this.transforms = transforms;
+		}
+	}
+}
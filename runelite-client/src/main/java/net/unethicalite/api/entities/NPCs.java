@@ -2,6 +2,7 @@ package net.unethicalite.api.entities;
 
 import net.unethicalite.api.query.entities.NPCQuery;
 import net.unethicalite.client.Static;
+import net.unethicalite.client.managers.EntityIndexManager;
 import net.runelite.api.NPC;
 import net.runelite.api.coords.WorldPoint;
 
@@ -34,9 +35,15 @@ public class NPCs extends Entities<NPC>
 		return out;
 	}
 
+	@Override
+	protected EntityIndex<NPC> index()
+	{
+		return EntityIndexManager.getNpcs();
+	}
+
 	public static NPCQuery query()
 	{
-		return query(NPCs::getAll);
+		return new NPCQuery(NPCs::getAll, ids -> getAll(ids));
 	}
 
 	public static NPCQuery query(Supplier<List<NPC>> supplier)
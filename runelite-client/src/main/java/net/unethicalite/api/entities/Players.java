@@ -2,6 +2,7 @@ package net.unethicalite.api.entities;
 
 import net.unethicalite.api.query.entities.PlayerQuery;
 import net.unethicalite.client.Static;
+import net.unethicalite.client.managers.EntityIndexManager;
 import net.runelite.api.Player;
 import net.runelite.api.coords.WorldPoint;
 
@@ -27,6 +28,12 @@ public class Players extends Entities<Player>
 				.collect(Collectors.toList());
 	}
 
+	@Override
+	protected EntityIndex<Player> index()
+	{
+		return EntityIndexManager.getPlayers();
+	}
+
 	public static PlayerQuery query()
 	{
 		return query(Players::getAll);
@@ -6,6 +6,7 @@ import net.unethicalite.api.scene.Tiles;
 import net.runelite.api.Tile;
 import net.runelite.api.coords.WorldArea;
 import net.runelite.api.coords.WorldPoint;
+import net.unethicalite.client.Static;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -15,6 +16,12 @@ public abstract class TileEntities<T extends SceneEntity> extends Entities<T>
 {
 	protected abstract List<T> at(Tile tile, Predicate<? super T> filter);
 
+	@Override
+	protected int indexPlane()
+	{
+		return Static.getClient().getPlane();
+	}
+
 	protected List<T> at(Tile tile, int... ids)
 	{
 		return at(tile, Predicates.ids(ids));
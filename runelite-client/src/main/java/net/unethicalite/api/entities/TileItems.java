@@ -6,6 +6,7 @@ import net.runelite.api.Tile;
 import net.runelite.api.TileItem;
 import net.runelite.api.coords.WorldArea;
 import net.runelite.api.coords.WorldPoint;
+import net.unethicalite.client.managers.EntityIndexManager;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -22,9 +23,15 @@ public class TileItems extends TileEntities<TileItem>
 	{
 	}
 
+	@Override
+	protected EntityIndex<TileItem> index()
+	{
+		return EntityIndexManager.getTileItems();
+	}
+
 	public static TileItemQuery query()
 	{
-		return query(TileItems::getAll);
+		return new TileItemQuery(TileItems::getAll, ids -> getAll(ids));
 	}
 
 	public static TileItemQuery query(Supplier<List<TileItem>> supplier)
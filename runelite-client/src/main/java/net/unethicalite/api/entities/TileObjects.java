@@ -11,6 +11,7 @@ import net.runelite.api.WallObject;
 import net.runelite.api.coords.WorldArea;
 import net.runelite.api.coords.WorldPoint;
 import net.unethicalite.client.Static;
+import net.unethicalite.client.managers.EntityIndexManager;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -27,9 +28,15 @@ public class TileObjects extends TileEntities<TileObject>
 	{
 	}
 
+	@Override
+	protected EntityIndex<TileObject> index()
+	{
+		return EntityIndexManager.getTileObjects();
+	}
+
 	public static TileObjectQuery query()
 	{
-		return query(TileObjects::getAll);
+		return new TileObjectQuery(TileObjects::getAll, ids -> getAll(ids));
 	}
 
 	public static TileObjectQuery query(Supplier<List<TileObject>> supplier)
@@ -0,0 +1,114 @@
+package net.unethicalite.api.game;
+
+import net.unethicalite.client.Static;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * A set of reads executed together in a single client thread visit, so a script that needs many values waits
+ * for one client frame instead of one per value. All values are read within the same frame and are consistent
+ * with each other.
+ * <pre>
+ * Batch batch = GameThread.batch();
+ * Batch.Value&lt;Integer&gt; hp = batch.add(() -&gt; Skills.getBoostedLevel(Skill.HITPOINTS));
+ * Batch.Value&lt;Integer&gt; bit = batch.add(() -&gt; Vars.getBit(4070));
+ * batch.execute();
+ * </pre>
+ * A snapshot batch may be executed repeatedly and only reads again once the game tick has changed, giving a
+ * per-tick view of its values.
+ */
+public class Batch
+{
+	private final List<Value<?>> values = new ArrayList<>();
+	private final boolean snapshot;
+	private volatile int tick = -1;
+
+	Batch(boolean snapshot)
+	{
+		this.snapshot = snapshot;
+	}
+
+	public synchronized <T> Value<T> add(Callable<T> callable)
+	{
+		Value<T> value = new Value<>(callable);
+		values.add(value);
+		tick = -1;
+		return value;
+	}
+
+	/**
+	 * Reads every value on the client thread, or returns immediately if this is a snapshot batch which was
+	 * already executed during the current game tick.
+	 *
+	 * @return this batch
+	 */
+	public synchronized Batch execute()
+	{
+		if (snapshot && tick != -1 && tick == Static.getClient().getTickCount())
+		{
+			return this;
+		}
+
+		List<Value<?>> pending = List.copyOf(values);
+		tick = GameThread.invokeLater(() ->
+		{
+			for (Value<?> value : pending)
+			{
+				value.read();
+			}
+
+			return Static.getClient().getTickCount();
+		});
+		return this;
+	}
+
+	/**
+	 * Game tick the values were last read on, or -1 if the batch has not been executed.
+	 */
+	public int getTick()
+	{
+		return tick;
+	}
+
+	public static final class Value<T>
+	{
+		private final Callable<T> callable;
+		private volatile T value;
+		private volatile Exception error;
+
+		private Value(Callable<T> callable)
+		{
+			this.callable = callable;
+		}
+
+		private void read()
+		{
+			try
+			{
+				value = callable.call();
+				error = null;
+			}
+			catch (Exception e)
+			{
+				value = null;
+				error = e;
+			}
+		}
+
+		/**
+		 * Value from the last execution of the batch. Throws if the read failed.
+		 */
+		public T get()
+		{
+			Exception e = error;
+			if (e != null)
+			{
+				throw new RuntimeException("Batched read failed", e);
+			}
+
+			return value;
+		}
+	}
+}
@@ -0,0 +1,314 @@
+package net.unethicalite.api.game;
+
+import lombok.Value;
+import net.runelite.api.Actor;
+import net.runelite.api.Client;
+import net.runelite.api.InventoryID;
+import net.runelite.api.Item;
+import net.runelite.api.ItemContainer;
+import net.runelite.api.NPC;
+import net.runelite.api.Player;
+import net.runelite.api.Skill;
+import net.runelite.api.VarbitComposition;
+import net.runelite.api.coords.WorldPoint;
+import net.unethicalite.client.Static;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable copy of the game state most scripts read, captured on the client thread at the end of a game tick.
+ * Every value in a snapshot belongs to the same tick and can be read from any thread without synchronization.
+ *
+ * @see net.unethicalite.client.managers.SnapshotManager
+ */
+public class GameSnapshot
+{
+	private static final Map<Integer, VarbitComposition> VARBITS = new ConcurrentHashMap<>();
+	private static final int INVENTORY_CAPACITY = 28;
+
+	private final int tick;
+	private final int[] varps;
+	private final int[] levels;
+	private final int[] boostedLevels;
+	private final int[] experience;
+	private final ContainerSnapshot inventory;
+	private final ContainerSnapshot equipment;
+	private final ContainerSnapshot bank;
+	private final ActorSnapshot localPlayer;
+	private final List<ActorSnapshot> npcs;
+	private final List<ActorSnapshot> players;
+
+	private GameSnapshot(Client client)
+	{
+		tick = client.getTickCount();
+		varps = client.getVarps().clone();
+		levels = client.getRealSkillLevels().clone();
+		boostedLevels = client.getBoostedSkillLevels().clone();
+		experience = client.getSkillExperiences().clone();
+		inventory = ContainerSnapshot.of(client.getItemContainer(InventoryID.INVENTORY), INVENTORY_CAPACITY);
+		equipment = ContainerSnapshot.of(client.getItemContainer(InventoryID.EQUIPMENT), -1);
+		bank = ContainerSnapshot.of(client.getItemContainer(InventoryID.BANK), -1);
+
+		Player local = client.getLocalPlayer();
+		localPlayer = local == null ? null : ActorSnapshot.of(local, -1);
+
+		List<ActorSnapshot> npcs = new ArrayList<>();
+		for (NPC npc : client.getNpcs())
+		{
+			npcs.add(ActorSnapshot.of(npc, npc.getId()));
+		}
+
+		List<ActorSnapshot> players = new ArrayList<>();
+		for (Player player : client.getPlayers())
+		{
+			players.add(ActorSnapshot.of(player, -1));
+		}
+
+		this.npcs = Collections.unmodifiableList(npcs);
+		this.players = Collections.unmodifiableList(players);
+	}
+
+	/**
+	 * Captures the current game state. Must be called on the client thread.
+	 */
+	public static GameSnapshot capture(Client client)
+	{
+		return new GameSnapshot(client);
+	}
+
+	public int getTick()
+	{
+		return tick;
+	}
+
+	public int getVarp(int id)
+	{
+		return id >= 0 && id < varps.length ? varps[id] : 0;
+	}
+
+	/**
+	 * Varbit value from the captured varps. The varbit's definition is looked up on the client thread the first
+	 * time it is read and cached afterwards.
+	 */
+	public int getVarbit(int id)
+	{
+		VarbitComposition varbit = VARBITS.get(id);
+		if (varbit == null)
+		{
+			varbit = GameThread.invokeLater(() -> Static.getClient().getVarbit(id));
+			if (varbit == null)
+			{
+				return 0;
+			}
+
+			VARBITS.put(id, varbit);
+		}
+
+		int lsb = varbit.getLeastSignificantBit();
+		int bits = varbit.getMostSignificantBit() - lsb + 1;
+		int mask = bits >= 32 ? -1 : (1 << bits) - 1;
+		return (getVarp(varbit.getIndex()) >>> lsb) & mask;
+	}
+
+	public int getLevel(Skill skill)
+	{
+		return levels[skill.ordinal()];
+	}
+
+	public int getBoostedLevel(Skill skill)
+	{
+		return boostedLevels[skill.ordinal()];
+	}
+
+	public int getExperience(Skill skill)
+	{
+		return experience[skill.ordinal()];
+	}
+
+	public ContainerSnapshot getInventory()
+	{
+		return inventory;
+	}
+
+	public ContainerSnapshot getEquipment()
+	{
+		return equipment;
+	}
+
+	/**
+	 * Bank contents, empty unless the bank container was loaded when the snapshot was taken.
+	 */
+	public ContainerSnapshot getBank()
+	{
+		return bank;
+	}
+
+	/**
+	 * The local player, or null if there was none.
+	 */
+	public ActorSnapshot getLocalPlayer()
+	{
+		return localPlayer;
+	}
+
+	public List<ActorSnapshot> getNpcs()
+	{
+		return npcs;
+	}
+
+	public List<ActorSnapshot> getPlayers()
+	{
+		return players;
+	}
+
+	/**
+	 * Item ids and quantities of a container, by slot. Empty slots have id -1, and the client's arrays end after
+	 * the last slot it has used, so slots past {@link #size()} are empty as well.
+	 */
+	public static final class ContainerSnapshot
+	{
+		private final int[] ids;
+		private final int[] quantities;
+		private final int capacity;
+
+		private ContainerSnapshot(int[] ids, int[] quantities, int capacity)
+		{
+			this.ids = ids;
+			this.quantities = quantities;
+			this.capacity = capacity;
+		}
+
+		/**
+		 * @param capacity the number of slots of the container, or -1 if it isn't fixed and only the slots in the
+		 *                 client's array count
+		 */
+		private static ContainerSnapshot of(ItemContainer container, int capacity)
+		{
+			if (container == null)
+			{
+				return new ContainerSnapshot(new int[0], new int[0], Math.max(capacity, 0));
+			}
+
+			Item[] items = container.getItems();
+			int[] ids = new int[items.length];
+			int[] quantities = new int[items.length];
+			for (int i = 0; i < items.length; i++)
+			{
+				ids[i] = items[i].getId();
+				quantities[i] = items[i].getQuantity();
+			}
+
+			return new ContainerSnapshot(ids, quantities, capacity == -1 ? items.length : capacity);
+		}
+
+		public int size()
+		{
+			return ids.length;
+		}
+
+		public int getId(int slot)
+		{
+			return ids[slot];
+		}
+
+		public int getQuantity(int slot)
+		{
+			return quantities[slot];
+		}
+
+		public boolean contains(int... ids)
+		{
+			return getCount(ids) > 0;
+		}
+
+		/**
+		 * Total quantity of the items with any of the ids.
+		 */
+		public int getCount(int... ids)
+		{
+			int count = 0;
+			for (int slot = 0; slot < this.ids.length; slot++)
+			{
+				for (int id : ids)
+				{
+					if (this.ids[slot] == id)
+					{
+						count += quantities[slot];
+						break;
+					}
+				}
+			}
+
+			return count;
+		}
+
+		public int getCapacity()
+		{
+			return capacity;
+		}
+
+		public boolean isFull()
+		{
+			return getFreeSlots() == 0 && capacity > 0;
+		}
+
+		public int getFreeSlots()
+		{
+			int occupied = 0;
+			for (int id : ids)
+			{
+				if (id != -1)
+				{
+					occupied++;
+				}
+			}
+
+			return capacity - occupied;
+		}
+	}
+
+	/**
+	 * Descriptor of an NPC or player. Players have an id of -1.
+	 */
+	@Value
+	public static class ActorSnapshot
+	{
+		int index;
+		int id;
+		String name;
+		WorldPoint worldLocation;
+		int animation;
+		boolean moving;
+		int healthRatio;
+		int healthScale;
+		int combatLevel;
+		String interacting;
+
+		private static ActorSnapshot of(Actor actor, int id)
+		{
+			int index = actor instanceof NPC ? ((NPC) actor).getIndex() : ((Player) actor).getIndex();
+			Actor interacting = actor.getInteracting();
+			return new ActorSnapshot(
+					index,
+					id,
+					actor.getName(),
+					actor.getWorldLocation(),
+					actor.getAnimation(),
+					actor.getPoseAnimation() != actor.getIdlePoseAnimation(),
+					actor.getHealthRatio(),
+					actor.getHealthScale(),
+					actor.getCombatLevel(),
+					interacting == null ? null : interacting.getName()
+			);
+		}
+
+		public boolean isAnimating()
+		{
+			return animation != -1;
+		}
+	}
+}
@@ -3,7 +3,12 @@ package net.unethicalite.api.game;
 import net.unethicalite.client.Static;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.TimeUnit;
@@ -13,6 +18,8 @@ import java.util.concurrent.TimeoutException;
 public class GameThread
 {
 	private static final long TIMEOUT = 1000;
+	private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+	private static final Map<String, LatencyHistogram> LATENCIES = new ConcurrentHashMap<>();
 
 	public static void invoke(Runnable runnable)
 	{
@@ -40,6 +47,8 @@ public class GameThread
 			}
 		}
 
+		LatencyHistogram latency = latency();
+		long start = System.nanoTime();
 		try
 		{
 			FutureTask<T> futureTask = new FutureTask<>(callable);
@@ -51,6 +60,105 @@ public class GameThread
 			e.printStackTrace();
 			throw new RuntimeException("Client thread invoke timed out after " + TIMEOUT + " ms");
 		}
+		finally
+		{
+			latency.record(System.nanoTime() - start);
+		}
+	}
+
+	/**
+	 * Runs the callable on the client thread without blocking. The future completes exceptionally with a
+	 * {@link TimeoutException} if the client thread has not run it within the invoke timeout.
+	 */
+	public static <T> CompletableFuture<T> submit(Callable<T> callable)
+	{
+		CompletableFuture<T> future = new CompletableFuture<>();
+		if (Static.getClient().isClientThread())
+		{
+			complete(future, callable);
+			return future;
+		}
+
+		LatencyHistogram latency = latency();
+		long start = System.nanoTime();
+		Static.getClientThread().invokeLater(() ->
+		{
+			complete(future, callable);
+			latency.record(System.nanoTime() - start);
+		});
+		return future.orTimeout(TIMEOUT, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Runs all the callables in a single client thread visit and returns their results in order.
+	 */
+	public static <T> List<T> invokeAll(List<? extends Callable<T>> callables)
+	{
+		return invokeLater(() ->
+		{
+			List<T> out = new ArrayList<>(callables.size());
+			for (Callable<T> callable : callables)
+			{
+				out.add(callable.call());
+			}
+
+			return out;
+		});
+	}
+
+	/**
+	 * Creates a batch of reads executed in a single client thread visit.
+	 */
+	public static Batch batch()
+	{
+		return new Batch(false);
+	}
+
+	/**
+	 * Creates a batch of reads which is only read again when executed in a later game tick.
+	 */
+	public static Batch snapshot()
+	{
+		return new Batch(true);
+	}
+
+	/**
+	 * Latency of blocking and asynchronous client thread invokes, keyed by the calling class, method and line.
+	 */
+	public static Map<String, LatencyHistogram> getLatencyHistograms()
+	{
+		return Map.copyOf(LATENCIES);
+	}
+
+	public static void resetLatencyHistograms()
+	{
+		LATENCIES.values().forEach(LatencyHistogram::reset);
+	}
+
+	private static <T> void complete(CompletableFuture<T> future, Callable<T> callable)
+	{
+		try
+		{
+			future.complete(callable.call());
+		}
+		catch (Throwable t)
+		{
+			future.completeExceptionally(t);
+		}
 	}
-}
 
+	private static LatencyHistogram latency()
+	{
+		return LATENCIES.computeIfAbsent(callSite(), k -> new LatencyHistogram());
+	}
+
+	private static String callSite()
+	{
+		return STACK_WALKER.walk(frames -> frames
+				.filter(frame -> !frame.getClassName().startsWith(GameThread.class.getName())
+						&& !frame.getClassName().startsWith(Batch.class.getName()))
+				.findFirst()
+				.map(frame -> frame.getClassName() + "." + frame.getMethodName() + ":" + frame.getLineNumber())
+				.orElse("unknown"));
+	}
+}
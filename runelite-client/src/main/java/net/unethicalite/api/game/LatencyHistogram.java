@@ -0,0 +1,87 @@
+package net.unethicalite.api.game;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram of latencies in power of two microsecond buckets, from under 1us up to over a second.
+ */
+public class LatencyHistogram
+{
+	private static final int BUCKETS = 22;
+
+	private final LongAdder[] buckets = new LongAdder[BUCKETS];
+	private final LongAdder count = new LongAdder();
+	private final LongAdder totalNanos = new LongAdder();
+
+	public LatencyHistogram()
+	{
+		for (int i = 0; i < BUCKETS; i++)
+		{
+			buckets[i] = new LongAdder();
+		}
+	}
+
+	public void record(long nanos)
+	{
+		long micros = TimeUnit.NANOSECONDS.toMicros(Math.max(0, nanos));
+		int bucket = Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros));
+		buckets[bucket].increment();
+		count.increment();
+		totalNanos.add(nanos);
+	}
+
+	public long getCount()
+	{
+		return count.sum();
+	}
+
+	public long getTotalNanos()
+	{
+		return totalNanos.sum();
+	}
+
+	/**
+	 * Upper bound in microseconds of the bucket holding the given percentile (0-100) of recorded latencies.
+	 */
+	public long getPercentileMicros(double percentile)
+	{
+		long total = getCount();
+		if (total == 0)
+		{
+			return 0;
+		}
+
+		long target = (long) Math.ceil(total * percentile / 100.0);
+		long seen = 0;
+		for (int i = 0; i < BUCKETS; i++)
+		{
+			seen += buckets[i].sum();
+			if (seen >= Math.max(1, target))
+			{
+				return 1L << i;
+			}
+		}
+
+		return 1L << (BUCKETS - 1);
+	}
+
+	public void reset()
+	{
+		for (LongAdder bucket : buckets)
+		{
+			bucket.reset();
+		}
+
+		count.reset();
+		totalNanos.reset();
+	}
+
+	@Override
+	public String toString()
+	{
+		long n = getCount();
+		return String.format("n=%d avg=%dus p50<=%dus p99<=%dus", n, n == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(getTotalNanos() / n),
+				getPercentileMicros(50), getPercentileMicros(99));
+	}
+}
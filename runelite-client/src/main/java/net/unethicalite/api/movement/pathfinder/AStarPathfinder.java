@@ -0,0 +1,482 @@
+package net.unethicalite.api.movement.pathfinder;
+
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.coords.WorldArea;
+import net.runelite.api.coords.WorldPoint;
+import net.unethicalite.api.movement.pathfinder.model.Transport;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import static net.unethicalite.api.movement.pathfinder.model.MovementConstants.WILDERNESS_ABOVE_GROUND;
+import static net.unethicalite.api.movement.pathfinder.model.MovementConstants.WILDERNESS_UNDERGROUND;
+
+/**
+ * A* search over the collision map using packed integer coordinates, a primitive binary heap
+ * and lazily allocated per-region node tables, so no objects are created per expanded tile.
+ * <p>
+ * Walking one tile costs the same in any direction, so the octile heuristic collapses to the
+ * chebyshev distance. Transports are edges with their own weight, and the heuristic is capped by
+ * the cheapest "transport + remaining distance" bound to stay admissible, which keeps the
+ * returned paths at least as short as the ones produced by {@link Pathfinder}.
+ */
+@Slf4j
+public class AStarPathfinder implements Callable<List<WorldPoint>>
+{
+	public static final int STRAIGHT_COST = 1;
+	public static final int DIAGONAL_COST = 1;
+	public static final int DEFAULT_TRANSPORT_COST = 1;
+	private static final int DEFAULT_MAX_SEARCH = 5_000_000;
+	private static final int REGION_NODES = 64 * 64 * 4;
+
+	private static final int[] WILDERNESS_BOUNDS = {
+		WILDERNESS_ABOVE_GROUND.getX(), WILDERNESS_ABOVE_GROUND.getY(),
+		WILDERNESS_ABOVE_GROUND.getX() + WILDERNESS_ABOVE_GROUND.getWidth(), WILDERNESS_ABOVE_GROUND.getY() + WILDERNESS_ABOVE_GROUND.getHeight(),
+		WILDERNESS_UNDERGROUND.getX(), WILDERNESS_UNDERGROUND.getY(),
+		WILDERNESS_UNDERGROUND.getX() + WILDERNESS_UNDERGROUND.getWidth(), WILDERNESS_UNDERGROUND.getY() + WILDERNESS_UNDERGROUND.getHeight()
+	};
+
+	private final CollisionMap map;
+	private final List<WorldPoint> start;
+	private final WorldArea target;
+	private final int targetMinX;
+	private final int targetMinY;
+	private final int targetMaxX;
+	private final int targetMaxY;
+	private final boolean avoidWilderness;
+	private final int transportCost;
+
+	private final int[] transportSources;
+	private final int[] transportOffsets;
+	private final int[] transportDestinations;
+	private final int transportBound;
+
+	private final int[][] regionNodes = new int[256 * 256][];
+	private int[] nodePosition = new int[4096];
+	private int[] nodeParent = new int[4096];
+	private int[] nodeCost = new int[4096];
+	private long[] closed = new long[4096 / 64];
+	private int nodeCount;
+
+	private long[] heap = new long[4096];
+	private int heapSize;
+
+	public AStarPathfinder(CollisionMap collisionMap, Map<WorldPoint, List<Transport>> transports, List<WorldPoint> start, WorldArea target, boolean avoidWilderness)
+	{
+		this(collisionMap, transports, start, target, avoidWilderness, DEFAULT_TRANSPORT_COST);
+	}
+
+	public AStarPathfinder(CollisionMap collisionMap, Map<WorldPoint, List<Transport>> transports, List<WorldPoint> start, WorldArea target, boolean avoidWilderness, int transportCost)
+	{
+		this.map = collisionMap;
+		this.start = start;
+		this.target = target;
+		this.targetMinX = target.getX();
+		this.targetMinY = target.getY();
+		this.targetMaxX = target.getX() + target.getWidth() - 1;
+		this.targetMaxY = target.getY() + target.getHeight() - 1;
+		this.transportCost = Math.max(STRAIGHT_COST, transportCost);
+		this.avoidWilderness = avoidWilderness && target.toWorldPointList().stream()
+			.noneMatch(p -> isInWilderness(p.getX(), p.getY()));
+
+		int count = 0;
+		for (List<Transport> list : transports.values())
+		{
+			count += list.size();
+		}
+
+		long[] edges = new long[count];
+		int edgeCount = 0;
+		for (List<Transport> list : transports.values())
+		{
+			for (Transport transport : list)
+			{
+				if (!isPackable(transport.getSource()) || !isPackable(transport.getDestination()))
+				{
+					continue;
+				}
+
+				edges[edgeCount++] = ((long) pack(transport.getSource()) << 32) | pack(transport.getDestination());
+			}
+		}
+
+		Arrays.sort(edges, 0, edgeCount);
+
+		int[] sources = new int[edgeCount];
+		int[] offsets = new int[edgeCount + 1];
+		int[] destinations = new int[edgeCount];
+		int sourceCount = 0;
+		int bound = Integer.MAX_VALUE;
+		for (int i = 0; i < edgeCount; i++)
+		{
+			int source = (int) (edges[i] >>> 32);
+			int destination = (int) edges[i];
+			if (sourceCount == 0 || sources[sourceCount - 1] != source)
+			{
+				sources[sourceCount] = source;
+				offsets[sourceCount] = i;
+				sourceCount++;
+			}
+
+			destinations[i] = destination;
+			bound = Math.min(bound, this.transportCost + distance(destination));
+		}
+
+		offsets[sourceCount] = edgeCount;
+
+		this.transportSources = Arrays.copyOf(sources, sourceCount);
+		this.transportOffsets = Arrays.copyOf(offsets, sourceCount + 1);
+		this.transportDestinations = destinations;
+		this.transportBound = bound;
+	}
+
+	public List<WorldPoint> find()
+	{
+		long startTime = System.currentTimeMillis();
+		List<WorldPoint> path = find(DEFAULT_MAX_SEARCH);
+		log.debug("A* path calculation took {} ms to {}, {} nodes", System.currentTimeMillis() - startTime, target, nodeCount);
+		return path;
+	}
+
+	public List<WorldPoint> find(int maxSearch)
+	{
+		for (WorldPoint point : start)
+		{
+			if (isPackable(point))
+			{
+				relax(-1, pack(point), 0);
+			}
+		}
+
+		int nearest = -1;
+		int bestDistance = Integer.MAX_VALUE;
+		int expanded = 0;
+
+		while (heapSize > 0)
+		{
+			if ((expanded & 0xFFF) == 0 && Thread.interrupted())
+			{
+				return List.of();
+			}
+
+			if (expanded >= maxSearch)
+			{
+				break;
+			}
+
+			int node = (int) poll();
+			if (isClosed(node))
+			{
+				continue;
+			}
+
+			setClosed(node);
+			expanded++;
+
+			int position = nodePosition[node];
+			int distance = planeDistance(position);
+			if (distance == 0)
+			{
+				return path(node);
+			}
+
+			if (nearest == -1 || distance < bestDistance)
+			{
+				nearest = node;
+				bestDistance = distance;
+			}
+
+			expand(node, position);
+		}
+
+		if (nearest != -1)
+		{
+			return path(nearest);
+		}
+
+		return List.of();
+	}
+
+	@Override
+	public List<WorldPoint> call()
+	{
+		return find();
+	}
+
+	private void expand(int node, int position)
+	{
+		int x = unpackX(position);
+		int y = unpackY(position);
+		int z = unpackPlane(position);
+		int straight = nodeCost[node] + STRAIGHT_COST;
+		int diagonal = nodeCost[node] + DIAGONAL_COST;
+
+		if (map.w(x, y, z))
+		{
+			neighbor(node, x, y, x - 1, y, z, straight);
+		}
+
+		if (map.e(x, y, z))
+		{
+			neighbor(node, x, y, x + 1, y, z, straight);
+		}
+
+		if (map.s(x, y, z))
+		{
+			neighbor(node, x, y, x, y - 1, z, straight);
+		}
+
+		if (map.n(x, y, z))
+		{
+			neighbor(node, x, y, x, y + 1, z, straight);
+		}
+
+		if (map.sw(x, y, z))
+		{
+			neighbor(node, x, y, x - 1, y - 1, z, diagonal);
+		}
+
+		if (map.se(x, y, z))
+		{
+			neighbor(node, x, y, x + 1, y - 1, z, diagonal);
+		}
+
+		if (map.nw(x, y, z))
+		{
+			neighbor(node, x, y, x - 1, y + 1, z, diagonal);
+		}
+
+		if (map.ne(x, y, z))
+		{
+			neighbor(node, x, y, x + 1, y + 1, z, diagonal);
+		}
+
+		int source = Arrays.binarySearch(transportSources, position);
+		if (source < 0)
+		{
+			return;
+		}
+
+		int transported = nodeCost[node] + transportCost;
+		for (int i = transportOffsets[source]; i < transportOffsets[source + 1]; i++)
+		{
+			int destination = transportDestinations[i];
+			neighbor(node, x, y, unpackX(destination), unpackY(destination), unpackPlane(destination), transported);
+		}
+	}
+
+	private void neighbor(int node, int fromX, int fromY, int x, int y, int z, int cost)
+	{
+		if (x < 0 || y < 0 || x >= 0x4000 || y >= 0x4000)
+		{
+			return;
+		}
+
+		if (avoidWilderness && isInWilderness(x, y) && !isInWilderness(fromX, fromY))
+		{
+			return;
+		}
+
+		relax(node, pack(x, y, z), cost);
+	}
+
+	private void relax(int parent, int position, int cost)
+	{
+		int regionId = ((unpackX(position) >> 6) << 8) | (unpackY(position) >> 6);
+		int[] region = regionNodes[regionId];
+		if (region == null)
+		{
+			region = new int[REGION_NODES];
+			regionNodes[regionId] = region;
+		}
+
+		int local = (unpackPlane(position) << 12) | ((unpackY(position) & 63) << 6) | (unpackX(position) & 63);
+		int node = region[local] - 1;
+		if (node < 0)
+		{
+			node = addNode(position);
+			region[local] = node + 1;
+		}
+		else if (isClosed(node) || nodeCost[node] <= cost)
+		{
+			return;
+		}
+
+		nodeParent[node] = parent;
+		nodeCost[node] = cost;
+		push(((long) (cost + heuristic(position)) << 32) | node);
+	}
+
+	private int addNode(int position)
+	{
+		if (nodeCount == nodePosition.length)
+		{
+			int size = nodeCount * 2;
+			nodePosition = Arrays.copyOf(nodePosition, size);
+			nodeParent = Arrays.copyOf(nodeParent, size);
+			nodeCost = Arrays.copyOf(nodeCost, size);
+			closed = Arrays.copyOf(closed, size / 64);
+		}
+
+		nodePosition[nodeCount] = position;
+		return nodeCount++;
+	}
+
+	private boolean isClosed(int node)
+	{
+		return (closed[node >>> 6] & (1L << node)) != 0;
+	}
+
+	private void setClosed(int node)
+	{
+		closed[node >>> 6] |= 1L << node;
+	}
+
+	private void push(long entry)
+	{
+		if (heapSize == heap.length)
+		{
+			heap = Arrays.copyOf(heap, heapSize * 2);
+		}
+
+		int i = heapSize++;
+		while (i > 0)
+		{
+			int parent = (i - 1) >>> 1;
+			if (heap[parent] <= entry)
+			{
+				break;
+			}
+
+			heap[i] = heap[parent];
+			i = parent;
+		}
+
+		heap[i] = entry;
+	}
+
+	private long poll()
+	{
+		long head = heap[0];
+		long last = heap[--heapSize];
+		int i = 0;
+		int half = heapSize >>> 1;
+		while (i < half)
+		{
+			int child = (i << 1) + 1;
+			if (child + 1 < heapSize && heap[child + 1] < heap[child])
+			{
+				child++;
+			}
+
+			if (last <= heap[child])
+			{
+				break;
+			}
+
+			heap[i] = heap[child];
+			i = child;
+		}
+
+		heap[i] = last;
+		return head;
+	}
+
+	private List<WorldPoint> path(int node)
+	{
+		List<WorldPoint> path = new ArrayList<>();
+		while (node != -1)
+		{
+			int position = nodePosition[node];
+			path.add(new WorldPoint(unpackX(position), unpackY(position), unpackPlane(position)));
+			node = nodeParent[node];
+		}
+
+		Collections.reverse(path);
+		return path;
+	}
+
+	private int heuristic(int position)
+	{
+		return Math.min(distance(position), transportBound);
+	}
+
+	/**
+	 * Octile distance to the target area, ignoring the plane.
+	 */
+	private int distance(int position)
+	{
+		int x = unpackX(position);
+		int y = unpackY(position);
+		int dx = Math.max(0, Math.max(targetMinX - x, x - targetMaxX));
+		int dy = Math.max(0, Math.max(targetMinY - y, y - targetMaxY));
+		return STRAIGHT_COST * (dx + dy) + (DIAGONAL_COST - 2 * STRAIGHT_COST) * Math.min(dx, dy);
+	}
+
+	/**
+	 * Same metric as {@link WorldArea#distanceTo(WorldPoint)}, used to pick the nearest reachable tile.
+	 */
+	private int planeDistance(int position)
+	{
+		if (unpackPlane(position) != target.getPlane())
+		{
+			return Integer.MAX_VALUE;
+		}
+
+		int x = unpackX(position);
+		int y = unpackY(position);
+		return Math.max(
+			Math.max(0, Math.max(targetMinX - x, x - targetMaxX)),
+			Math.max(0, Math.max(targetMinY - y, y - targetMaxY))
+		);
+	}
+
+	private static boolean isInWilderness(int x, int y)
+	{
+		for (int i = 0; i < WILDERNESS_BOUNDS.length; i += 4)
+		{
+			if (x >= WILDERNESS_BOUNDS[i] && y >= WILDERNESS_BOUNDS[i + 1]
+				&& x < WILDERNESS_BOUNDS[i + 2] && y < WILDERNESS_BOUNDS[i + 3])
+			{
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private static boolean isPackable(WorldPoint point)
+	{
+		return point.getX() >= 0 && point.getX() < 0x4000 && point.getY() >= 0 && point.getY() < 0x4000
+			&& point.getPlane() >= 0 && point.getPlane() < 4;
+	}
+
+	public static int pack(WorldPoint point)
+	{
+		return pack(point.getX(), point.getY(), point.getPlane());
+	}
+
+	public static int pack(int x, int y, int plane)
+	{
+		return (plane << 28) | (x << 14) | y;
+	}
+
+	public static int unpackX(int packed)
+	{
+		return (packed >>> 14) & 0x3FFF;
+	}
+
+	public static int unpackY(int packed)
+	{
+		return packed & 0x3FFF;
+	}
+
+	public static int unpackPlane(int packed)
+	{
+		return (packed >>> 28) & 3;
+	}
+}
@@ -9,7 +9,8 @@ public class BitSet4D
 	private final int sizeY;
 	private final int sizeZ;
 	private final int sizeW;
-	private final BitSet bits;
+	private final ByteBuffer mapped;
+	private BitSet bits;
 
 	public BitSet4D(int sizeX, int sizeY, int sizeZ, int sizeW)
 	{
@@ -17,15 +18,36 @@ public class BitSet4D
 		this.sizeY = sizeY;
 		this.sizeZ = sizeZ;
 		this.sizeW = sizeW;
+		this.mapped = null;
 		bits = new BitSet(sizeX * sizeY * sizeZ * sizeW);
 	}
 
+	/**
+	 * Read-only view over bytes in the {@link BitSet#valueOf(ByteBuffer)} layout, usually a slice of a
+	 * memory-mapped file. The bits are only copied to the heap when the set is first written to.
+	 */
+	private BitSet4D(ByteBuffer mapped, BitSet bits, int sizeX, int sizeY, int sizeZ, int sizeW)
+	{
+		this.sizeX = sizeX;
+		this.sizeY = sizeY;
+		this.sizeZ = sizeZ;
+		this.sizeW = sizeW;
+		this.mapped = mapped;
+		this.bits = bits;
+	}
+
+	public static BitSet4D mapped(ByteBuffer buffer, int sizeX, int sizeY, int sizeZ, int sizeW)
+	{
+		return new BitSet4D(buffer, null, sizeX, sizeY, sizeZ, sizeW);
+	}
+
 	public BitSet4D(ByteBuffer buffer, int sizeX, int sizeY, int sizeZ, int sizeW)
 	{
 		this.sizeX = sizeX;
 		this.sizeY = sizeY;
 		this.sizeZ = sizeZ;
 		this.sizeW = sizeW;
+		this.mapped = null;
 
 		int bufferSize = buffer.limit();
 		int regionSize = buffer.position() + (sizeX * sizeY * sizeZ * sizeW + 7) / 8;
@@ -40,28 +62,56 @@ public class BitSet4D
 	public void write(ByteBuffer buffer)
 	{
 		var startPos = buffer.position();
-		buffer.put(bits.toByteArray());
+		if (bits == null)
+		{
+			buffer.put(mapped.duplicate());
+		}
+		else
+		{
+			buffer.put(bits.toByteArray());
+		}
 		buffer.position(startPos + (sizeX * sizeY * sizeZ * sizeW + 7) / 8);
 	}
 
+	public BitSet4D copy()
+	{
+		return new BitSet4D(mapped, bits == null ? null : (BitSet) bits.clone(), sizeX, sizeY, sizeZ, sizeW);
+	}
+
 	public boolean get(int index)
 	{
+		if (bits == null)
+		{
+			return (mapped.get(index >>> 3) & (1 << (index & 7))) != 0;
+		}
+
 		return bits.get(index);
 	}
 
 	public boolean get(int x, int y, int z, int w)
 	{
-		return bits.get(getIndex(x, y, z, w));
+		return get(getIndex(x, y, z, w));
 	}
 
 	public void set(int x, int y, int z, int flag, boolean value)
 	{
-		bits.set(getIndex(x, y, z, flag), value);
+		heapBits().set(getIndex(x, y, z, flag), value);
 	}
 
 	public void setAll(boolean value)
 	{
-		bits.set(0, bits.size(), value);
+		BitSet heapBits = heapBits();
+		heapBits.set(0, heapBits.size(), value);
+	}
+
+	private BitSet heapBits()
+	{
+		if (bits == null)
+		{
+			bits = BitSet.valueOf(mapped.duplicate());
+		}
+
+		return bits;
 	}
 
 	public int getIndex(int x, int y, int z, int w)
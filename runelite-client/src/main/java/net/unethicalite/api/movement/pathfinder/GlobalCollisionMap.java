@@ -1,6 +1,8 @@
 package net.unethicalite.api.movement.pathfinder;
 
+import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.coords.Direction;
+import net.runelite.client.RuneLite;
 import net.unethicalite.api.movement.Reachable;
 import net.unethicalite.client.Static;
 
@@ -11,21 +13,54 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
-import java.util.Arrays;
-import java.util.Objects;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.IntStream;
+import java.util.zip.CRC32;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 
+@Slf4j
 public class GlobalCollisionMap implements CollisionMap
 {
-	public final BitSet4D[] regions = new BitSet4D[256 * 256];
+	private static final int MAPPED_MAGIC = 0x434F4C4D;
+	private static final int MAPPED_VERSION = 1;
+	private static final int REGION_COUNT = 256 * 256;
+	private static final int REGION_BYTES = 64 * 64 * 4 * 2 / 8;
+	private static final int MAPPED_HEADER_SIZE = 12 + REGION_COUNT * 4;
+
+	/**
+	 * Decoded regions. When the map is backed by a mapped file, entries are filled in on first touch,
+	 * so use {@link #hasRegion(int)} or {@link #getRegion(int, int)} rather than reading this directly.
+	 */
+	public final BitSet4D[] regions = new BitSet4D[REGION_COUNT];
+	private final ByteBuffer mapped;
 
 	public GlobalCollisionMap()
 	{
+		this.mapped = null;
+	}
+
+	/**
+	 * Wraps a file in the fixed-offset format written by {@link #writeMapped(File)}: a header with the
+	 * slot of every region followed by uncompressed {@value #REGION_BYTES} byte regions.
+	 */
+	private GlobalCollisionMap(ByteBuffer mapped)
+	{
+		if (mapped.getInt(0) != MAPPED_MAGIC || mapped.getInt(4) != MAPPED_VERSION)
+		{
+			throw new IllegalArgumentException("Not a mapped collision map");
+		}
+
+		this.mapped = mapped;
 	}
 
 	public GlobalCollisionMap(byte[] data)
 	{
+		this.mapped = null;
 		var buffer = ByteBuffer.wrap(data);
 
 		while (buffer.hasRemaining())
@@ -71,24 +106,99 @@ public class GlobalCollisionMap implements CollisionMap
 
 	public byte[] toBytes()
 	{
-		var regionCount = (int) Arrays.stream(regions).filter(Objects::nonNull).count();
-		var buffer = ByteBuffer.allocate(regionCount * (2 + 64 * 64 * 4 * 2 / 8));
+		var regionCount = (int) IntStream.range(0, REGION_COUNT).filter(this::hasRegion).count();
+		var buffer = ByteBuffer.allocate(regionCount * (2 + REGION_BYTES));
 
 		for (var i = 0; i < regions.length; i++)
 		{
-			if (regions[i] != null)
+			if (hasRegion(i))
 			{
 				buffer.putShort((short) i);
-				regions[i].write(buffer);
+				region(i).write(buffer);
 			}
 		}
 
 		return buffer.array();
 	}
 
+	public void writeMapped(File file) throws IOException
+	{
+		int[] slots = new int[REGION_COUNT];
+		int slotCount = 0;
+		for (int i = 0; i < REGION_COUNT; i++)
+		{
+			slots[i] = hasRegion(i) ? slotCount++ : -1;
+		}
+
+		ByteBuffer buffer = ByteBuffer.allocate(MAPPED_HEADER_SIZE + slotCount * REGION_BYTES);
+		buffer.putInt(MAPPED_MAGIC);
+		buffer.putInt(MAPPED_VERSION);
+		buffer.putInt(slotCount);
+		for (int slot : slots)
+		{
+			buffer.putInt(slot);
+		}
+
+		for (int i = 0; i < REGION_COUNT; i++)
+		{
+			if (slots[i] != -1)
+			{
+				region(i).write(buffer);
+			}
+		}
+
+		// Other clients may be writing the same file, so publish it with an atomic rename
+		Path tmp = Files.createTempFile(file.getAbsoluteFile().getParentFile().toPath(), file.getName(), ".tmp");
+		Files.write(tmp, buffer.array());
+		Files.move(tmp, file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	public static GlobalCollisionMap map(File file) throws IOException
+	{
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ))
+		{
+			return new GlobalCollisionMap(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+		}
+	}
+
+	public boolean hasRegion(int regionId)
+	{
+		return region(regionId) != null;
+	}
+
+	private BitSet4D region(int regionId)
+	{
+		BitSet4D region = regions[regionId];
+		if (region != null || mapped == null)
+		{
+			return region;
+		}
+
+		int slot = mapped.getInt(12 + regionId * 4);
+		return slot < 0 ? null : mapRegion(regionId, slot);
+	}
+
+	/**
+	 * Creates the view of a region of the mapped file on first touch. Pathfinder threads and the client thread
+	 * may get here at once, and a second view would lose the writes made through the first, so only one is created.
+	 */
+	private synchronized BitSet4D mapRegion(int regionId, int slot)
+	{
+		BitSet4D region = regions[regionId];
+		if (region != null)
+		{
+			return region;
+		}
+
+		int offset = MAPPED_HEADER_SIZE + slot * REGION_BYTES;
+		region = BitSet4D.mapped(mapped.duplicate().position(offset).limit(offset + REGION_BYTES).slice(), 64, 64, 4, 2);
+		regions[regionId] = region;
+		return region;
+	}
+
 	public void set(int x, int y, int z, int w, boolean value)
 	{
-		var region = regions[x / 64 * 256 + y / 64];
+		var region = region(x / 64 * 256 + y / 64);
 
 		if (region == null)
 		{
@@ -101,7 +211,7 @@ public class GlobalCollisionMap implements CollisionMap
 	public BitSet4D getRegion(int x, int y)
 	{
 		int regionId = x / 64 * 256 + y / 64;
-		return regions[regionId];
+		return region(regionId);
 	}
 
 	public void createRegion(int region)
@@ -125,27 +235,38 @@ public class GlobalCollisionMap implements CollisionMap
 		return region.get(regionX, regionY, z, w);
 	}
 
+	/**
+	 * Copies the map without re-encoding it. Regions still backed by the mapped file stay shared
+	 * and are only copied to the heap once the copy writes to them.
+	 */
 	public GlobalCollisionMap copy()
 	{
-		return new GlobalCollisionMap(this.toBytes());
+		GlobalCollisionMap copy = mapped == null ? new GlobalCollisionMap() : new GlobalCollisionMap(mapped);
+		for (int i = 0; i < REGION_COUNT; i++)
+		{
+			if (regions[i] != null)
+			{
+				copy.regions[i] = regions[i].copy();
+			}
+		}
+
+		return copy;
 	}
 
-	public GlobalCollisionMap withLocalCollisions()
+	/**
+	 * Layers the collision flags of the loaded scene over this map. Only the patched regions are
+	 * stored, so this costs as much as the number of changed tiles rather than a copy of the world.
+	 */
+	public LayeredCollisionMap withLocalCollisions()
 	{
-		GlobalCollisionMap newMap = this.copy();
+		LayeredCollisionMap newMap = new LayeredCollisionMap(this);
 		Static.getRegionManager().getTileFlags().forEach(tileFlag ->
 		{
-			int region = tileFlag.getRegion();
 			int x = tileFlag.getX();
 			int y = tileFlag.getY();
 			int z = tileFlag.getZ();
 			int flag = tileFlag.getFlag();
 
-			if (newMap.regions[region] == null)
-			{
-				newMap.createRegion(region);
-			}
-
 			if (Reachable.isObstacle(flag))
 			{
 				newMap.set(x, y, z, 0, false);
@@ -153,26 +274,22 @@ public class GlobalCollisionMap implements CollisionMap
 			}
 			else
 			{
-				newMap.set(x, y, z, 0, true);
-				newMap.set(x, y, z, 1, true);
-
-				if (Reachable.isWalled(Direction.NORTH, flag))
-				{
-					newMap.set(x, y, z, 0, false);
-				}
-
-				if (Reachable.isWalled(Direction.EAST, flag))
-				{
-					newMap.set(x, y, z, 1, false);
-				}
+				newMap.set(x, y, z, 0, !Reachable.isWalled(Direction.NORTH, flag));
+				newMap.set(x, y, z, 1, !Reachable.isWalled(Direction.EAST, flag));
 			}
 		});
+
 		return newMap;
 	}
 
 	public void overwrite(GlobalCollisionMap globalCollisionMap)
 	{
-		System.arraycopy(globalCollisionMap.regions, 0, regions, 0, regions.length);
+		for (int i = 0; i < REGION_COUNT; i++)
+		{
+			regions[i] = globalCollisionMap.region(i);
+		}
+
+		RegionGraph.reset();
 	}
 
 	@Override
@@ -196,10 +313,40 @@ public class GlobalCollisionMap implements CollisionMap
 				return new GlobalCollisionMap();
 			}
 
+			byte[] compressed = is.readAllBytes();
+			try
+			{
+				return mapResource(compressed);
+			}
+			catch (IOException | RuntimeException e)
+			{
+				log.warn("Failed to map collision data, decoding it on the heap instead", e);
+			}
+
 			return new GlobalCollisionMap(
-					new GZIPInputStream(new ByteArrayInputStream(is.readAllBytes())).readAllBytes()
+					new GZIPInputStream(new ByteArrayInputStream(compressed)).readAllBytes()
 			);
 		}
 	}
+
+	/**
+	 * Expands the bundled collision data once into the cache directory, named after its checksum,
+	 * and maps it. Every client on the host then shares the same file through the page cache.
+	 */
+	private static GlobalCollisionMap mapResource(byte[] compressed) throws IOException
+	{
+		CRC32 crc = new CRC32();
+		crc.update(compressed);
+		File file = new File(RuneLite.CACHE_DIR, String.format("collision-%08x.dat", crc.getValue()));
+		if (!file.isFile())
+		{
+			RuneLite.CACHE_DIR.mkdirs();
+			new GlobalCollisionMap(new GZIPInputStream(new ByteArrayInputStream(compressed)).readAllBytes())
+				.writeMapped(file);
+			log.debug("Wrote mapped collision data to {}", file);
+		}
+
+		return map(file);
+	}
 }
 
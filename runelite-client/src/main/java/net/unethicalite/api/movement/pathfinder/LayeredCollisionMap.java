@@ -0,0 +1,136 @@
+package net.unethicalite.api.movement.pathfinder;
+
+import java.util.Arrays;
+
+/**
+ * Sparse, per-region set of collision overrides layered over an immutable {@link GlobalCollisionMap}.
+ * Only the regions that are written to get a delta, and lookups scan the few patched region ids
+ * before falling through to the base map, so reads do not allocate.
+ */
+public class LayeredCollisionMap implements CollisionMap
+{
+	private static final int REGION_BITS = 64 * 64 * 4 * 2;
+
+	private final GlobalCollisionMap base;
+	private int[] regionIds = new int[4];
+	private Delta[] deltas = new Delta[4];
+	private int regionCount;
+
+	public LayeredCollisionMap(GlobalCollisionMap base)
+	{
+		this.base = base;
+	}
+
+	public void set(int x, int y, int z, int w, boolean value)
+	{
+		int regionId = x / 64 * 256 + y / 64;
+		Delta delta = delta(regionId);
+		if (delta == null)
+		{
+			delta = addDelta(regionId);
+		}
+
+		int index = index(x % 64, y % 64, z, w);
+		long bit = 1L << index;
+		delta.mask[index >>> 6] |= bit;
+		if (value)
+		{
+			delta.values[index >>> 6] |= bit;
+		}
+		else
+		{
+			delta.values[index >>> 6] &= ~bit;
+		}
+	}
+
+	public boolean get(int x, int y, int z, int w)
+	{
+		Delta delta = delta(x / 64 * 256 + y / 64);
+		if (delta == null)
+		{
+			return base.get(x, y, z, w);
+		}
+
+		int index = index(x % 64, y % 64, z, w);
+		long bit = 1L << index;
+		if ((delta.mask[index >>> 6] & bit) != 0)
+		{
+			return (delta.values[index >>> 6] & bit) != 0;
+		}
+
+		// Regions missing from the global map are treated as open, matching GlobalCollisionMap#createRegion
+		return delta.baseMissing || base.get(x, y, z, w);
+	}
+
+	public boolean isPatched(int regionId)
+	{
+		return delta(regionId) != null;
+	}
+
+	public int getPatchedRegionCount()
+	{
+		return regionCount;
+	}
+
+	public int getPatchedRegion(int i)
+	{
+		return regionIds[i];
+	}
+
+	@Override
+	public boolean n(int x, int y, int z)
+	{
+		return get(x, y, z, 0);
+	}
+
+	@Override
+	public boolean e(int x, int y, int z)
+	{
+		return get(x, y, z, 1);
+	}
+
+	private Delta delta(int regionId)
+	{
+		for (int i = 0; i < regionCount; i++)
+		{
+			if (regionIds[i] == regionId)
+			{
+				return deltas[i];
+			}
+		}
+
+		return null;
+	}
+
+	private Delta addDelta(int regionId)
+	{
+		if (regionCount == regionIds.length)
+		{
+			regionIds = Arrays.copyOf(regionIds, regionCount * 2);
+			deltas = Arrays.copyOf(deltas, regionCount * 2);
+		}
+
+		Delta delta = new Delta(!base.hasRegion(regionId));
+		regionIds[regionCount] = regionId;
+		deltas[regionCount] = delta;
+		regionCount++;
+		return delta;
+	}
+
+	private static int index(int x, int y, int z, int w)
+	{
+		return ((z * 64 + y) * 64 + x) * 2 + w;
+	}
+
+	private static final class Delta
+	{
+		private final long[] mask = new long[REGION_BITS / 64];
+		private final long[] values = new long[REGION_BITS / 64];
+		private final boolean baseMissing;
+
+		private Delta(boolean baseMissing)
+		{
+			this.baseMissing = baseMissing;
+		}
+	}
+}
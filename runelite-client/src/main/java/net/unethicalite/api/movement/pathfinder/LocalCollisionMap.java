@@ -1,24 +1,70 @@
 package net.unethicalite.api.movement.pathfinder;
 
+import net.runelite.api.Client;
+import net.runelite.api.CollisionData;
+import net.runelite.api.Constants;
+import net.runelite.api.WallObject;
+import net.unethicalite.api.game.GameThread;
 import net.unethicalite.api.movement.Reachable;
 import net.unethicalite.api.scene.Tiles;
 import net.runelite.api.Tile;
 import net.runelite.api.coords.Direction;
 import net.runelite.api.coords.WorldPoint;
+import net.unethicalite.client.Static;
+
+import java.util.Arrays;
 
 public class LocalCollisionMap implements CollisionMap
 {
+	private static final int DOOR_NORTH = 0x1;
+	private static final int DOOR_EAST = 0x2;
+	private static final int OUTSIDE_SCENE = 0xFFFFFF;
+
+	private static volatile Snapshot latest;
+
 	private final boolean blockDoors;
+	private final Snapshot snapshot;
 
 	public LocalCollisionMap(boolean blockDoors)
+	{
+		this(blockDoors, null);
+	}
+
+	private LocalCollisionMap(boolean blockDoors, Snapshot snapshot)
 	{
 		this.blockDoors = blockDoors;
+		this.snapshot = snapshot;
 	}
 
+	/**
+	 * Returns a collision map served from a copy of the scene's collision flags and doors taken at most
+	 * once per game tick. Queries on the returned map do not touch the client and may run on any thread.
+	 */
+	public static LocalCollisionMap snapshot(boolean blockDoors)
+	{
+		Client client = Static.getClient();
+		Snapshot snapshot = latest;
+		if (snapshot == null
+				|| snapshot.tick != client.getTickCount()
+				|| snapshot.plane != client.getPlane()
+				|| snapshot.baseX != client.getBaseX()
+				|| snapshot.baseY != client.getBaseY())
+		{
+			snapshot = GameThread.invokeLater(LocalCollisionMap::capture);
+			latest = snapshot;
+		}
+
+		return new LocalCollisionMap(blockDoors, snapshot);
+	}
 
 	@Override
 	public boolean n(int x, int y, int z)
 	{
+		if (snapshot != null)
+		{
+			return snapshot.canMove(x, y, z, 0, 1, DOOR_NORTH, 0x2, blockDoors);
+		}
+
 		WorldPoint current = new WorldPoint(x, y, z);
 		if (Reachable.isObstacle(current))
 		{
@@ -43,6 +89,11 @@ public class LocalCollisionMap implements CollisionMap
 	@Override
 	public boolean e(int x, int y, int z)
 	{
+		if (snapshot != null)
+		{
+			return snapshot.canMove(x, y, z, 1, 0, DOOR_EAST, 0x8, blockDoors);
+		}
+
 		WorldPoint current = new WorldPoint(x, y, z);
 		if (Reachable.isObstacle(current))
 		{
@@ -63,4 +114,135 @@ public class LocalCollisionMap implements CollisionMap
 
 		return Reachable.canWalk(Direction.EAST, Reachable.getCollisionFlag(current), Reachable.getCollisionFlag(current.dx(1)));
 	}
+
+	private static Snapshot capture()
+	{
+		Client client = Static.getClient();
+		int plane = client.getPlane();
+		int[] flags = new int[Constants.SCENE_SIZE * Constants.SCENE_SIZE];
+		byte[] doors = new byte[Constants.SCENE_SIZE * Constants.SCENE_SIZE];
+
+		CollisionData[] collisionMaps = client.getCollisionMaps();
+		CollisionData collisionData = collisionMaps == null ? null : collisionMaps[plane];
+		if (collisionData == null)
+		{
+			Arrays.fill(flags, OUTSIDE_SCENE);
+		}
+		else
+		{
+			int[][] sceneFlags = collisionData.getFlags();
+			for (int x = 0; x < Constants.SCENE_SIZE; x++)
+			{
+				for (int y = 0; y < Constants.SCENE_SIZE; y++)
+				{
+					flags[x * Constants.SCENE_SIZE + y] = sceneFlags[x][y];
+				}
+			}
+		}
+
+		// Mirrors Reachable#isDoored for the two tiles either side of each north and east edge
+		Tile[][] tiles = client.getScene().getTiles()[plane];
+		for (int x = 0; x < Constants.SCENE_SIZE; x++)
+		{
+			for (int y = 0; y < Constants.SCENE_SIZE; y++)
+			{
+				Tile tile = tiles[x][y];
+				WallObject wall = tile == null ? null : tile.getWallObject();
+				if (wall == null || !wall.hasAction("Open"))
+				{
+					continue;
+				}
+
+				switch (wall.getOrientationA())
+				{
+					case 1:
+						if (x > 0 && tiles[x - 1][y] != null)
+						{
+							doors[(x - 1) * Constants.SCENE_SIZE + y] |= DOOR_EAST;
+						}
+						break;
+					case 2:
+						if (y < Constants.SCENE_SIZE - 1 && tiles[x][y + 1] != null)
+						{
+							doors[x * Constants.SCENE_SIZE + y] |= DOOR_NORTH;
+						}
+						break;
+					case 4:
+						if (x < Constants.SCENE_SIZE - 1 && tiles[x + 1][y] != null)
+						{
+							doors[x * Constants.SCENE_SIZE + y] |= DOOR_EAST;
+						}
+						break;
+					case 8:
+						if (y > 0 && tiles[x][y - 1] != null)
+						{
+							doors[x * Constants.SCENE_SIZE + y - 1] |= DOOR_NORTH;
+						}
+						break;
+				}
+			}
+		}
+
+		return new Snapshot(client.getTickCount(), plane, client.getBaseX(), client.getBaseY(), flags, doors);
+	}
+
+	private static final class Snapshot
+	{
+		private final int tick;
+		private final int plane;
+		private final int baseX;
+		private final int baseY;
+		private final int[] flags;
+		private final byte[] doors;
+
+		private Snapshot(int tick, int plane, int baseX, int baseY, int[] flags, byte[] doors)
+		{
+			this.tick = tick;
+			this.plane = plane;
+			this.baseX = baseX;
+			this.baseY = baseY;
+			this.flags = flags;
+			this.doors = doors;
+		}
+
+		private boolean canMove(int x, int y, int z, int dx, int dy, int door, int wall, boolean blockDoors)
+		{
+			int start = flag(x, y, z);
+			if (Reachable.isObstacle(start) || Reachable.isObstacle(flag(x + dx, y + dy, z)))
+			{
+				return false;
+			}
+
+			if (!blockDoors && (doorBits(x, y, z) & door) != 0)
+			{
+				return true;
+			}
+
+			return (start & wall) == 0;
+		}
+
+		private int flag(int x, int y, int z)
+		{
+			int sceneX = x - baseX;
+			int sceneY = y - baseY;
+			if (z != plane || sceneX < 0 || sceneY < 0 || sceneX >= Constants.SCENE_SIZE || sceneY >= Constants.SCENE_SIZE)
+			{
+				return OUTSIDE_SCENE;
+			}
+
+			return flags[sceneX * Constants.SCENE_SIZE + sceneY];
+		}
+
+		private int doorBits(int x, int y, int z)
+		{
+			int sceneX = x - baseX;
+			int sceneY = y - baseY;
+			if (z != plane || sceneX < 0 || sceneY < 0 || sceneX >= Constants.SCENE_SIZE || sceneY >= Constants.SCENE_SIZE)
+			{
+				return 0;
+			}
+
+			return doors[sceneX * Constants.SCENE_SIZE + sceneY];
+		}
+	}
 }
@@ -0,0 +1,206 @@
+package net.unethicalite.api.movement.pathfinder;
+
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.coords.WorldArea;
+import net.runelite.api.coords.WorldPoint;
+import net.unethicalite.api.movement.pathfinder.model.Transport;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded LRU cache of calculated paths, keyed by target, wilderness avoidance, algorithm and a
+ * fingerprint of the transports and teleports the path was calculated with. A lookup returns the
+ * remainder of a cached path when the position is already on it.
+ */
+@Slf4j
+public class PathCache
+{
+	private static final int MAX_PATHS_PER_ROUTE = 4;
+
+	private final Map<Route, List<Entry>> routes;
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong suffixHits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private final AtomicLong invalidations = new AtomicLong();
+
+	public PathCache(int maxRoutes)
+	{
+		this.routes = new LinkedHashMap<>(16, 0.75f, true)
+		{
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Route, List<Entry>> eldest)
+			{
+				return size() > maxRoutes;
+			}
+		};
+	}
+
+	public synchronized List<WorldPoint> get(Route route, WorldPoint position)
+	{
+		List<Entry> entries = routes.get(route);
+		if (entries != null)
+		{
+			for (Entry entry : entries)
+			{
+				if (entry.origin.equals(position))
+				{
+					hits.incrementAndGet();
+					return entry.path;
+				}
+			}
+
+			for (Entry entry : entries)
+			{
+				Integer index = entry.index.get(position);
+				if (index != null)
+				{
+					suffixHits.incrementAndGet();
+					return entry.path.subList(index, entry.path.size());
+				}
+			}
+		}
+
+		misses.incrementAndGet();
+		return null;
+	}
+
+	public synchronized void put(Route route, WorldPoint origin, List<WorldPoint> path)
+	{
+		if (path == null || path.isEmpty())
+		{
+			return;
+		}
+
+		List<Entry> entries = routes.computeIfAbsent(route, k -> new ArrayList<>());
+		entries.removeIf(entry -> entry.origin.equals(origin));
+		if (entries.size() >= MAX_PATHS_PER_ROUTE)
+		{
+			entries.remove(0);
+		}
+
+		entries.add(new Entry(origin, path));
+	}
+
+	public synchronized void invalidate()
+	{
+		if (!routes.isEmpty())
+		{
+			log.debug("Invalidating {} cached routes", routes.size());
+			routes.clear();
+			invalidations.incrementAndGet();
+		}
+	}
+
+	public synchronized int size()
+	{
+		return routes.size();
+	}
+
+	public long getHits()
+	{
+		return hits.get();
+	}
+
+	public long getSuffixHits()
+	{
+		return suffixHits.get();
+	}
+
+	public long getMisses()
+	{
+		return misses.get();
+	}
+
+	public long getInvalidations()
+	{
+		return invalidations.get();
+	}
+
+	@Override
+	public String toString()
+	{
+		return String.format("PathCache(routes=%d, hits=%d, suffixHits=%d, misses=%d, invalidations=%d)",
+			size(), getHits(), getSuffixHits(), getMisses(), getInvalidations());
+	}
+
+	/**
+	 * Order-independent hash of the transport edges and teleport destinations a path may use.
+	 */
+	public static long fingerprint(Map<WorldPoint, List<Transport>> transports, Collection<WorldPoint> teleports)
+	{
+		long hash = 0;
+		for (List<Transport> list : transports.values())
+		{
+			for (Transport transport : list)
+			{
+				hash += mix(((long) transport.getSource().hashCode() << 32) ^ transport.getDestination().hashCode());
+			}
+		}
+
+		for (WorldPoint teleport : teleports)
+		{
+			hash += mix(~(long) teleport.hashCode());
+		}
+
+		return hash;
+	}
+
+	private static long mix(long value)
+	{
+		value ^= value >>> 33;
+		value *= 0xff51afd7ed558ccdL;
+		value ^= value >>> 33;
+		value *= 0xc4ceb9fe1a85ec53L;
+		value ^= value >>> 33;
+		return value;
+	}
+
+	@Value
+	public static class Route
+	{
+		int x;
+		int y;
+		int width;
+		int height;
+		int plane;
+		boolean avoidWilderness;
+		PathfinderAlgorithm algorithm;
+		long fingerprint;
+
+		public Route(WorldArea target, boolean avoidWilderness, PathfinderAlgorithm algorithm, long fingerprint)
+		{
+			this.x = target.getX();
+			this.y = target.getY();
+			this.width = target.getWidth();
+			this.height = target.getHeight();
+			this.plane = target.getPlane();
+			this.avoidWilderness = avoidWilderness;
+			this.algorithm = algorithm;
+			this.fingerprint = fingerprint;
+		}
+	}
+
+	private static class Entry
+	{
+		private final WorldPoint origin;
+		private final List<WorldPoint> path;
+		private final Map<WorldPoint, Integer> index = new HashMap<>();
+
+		private Entry(WorldPoint origin, List<WorldPoint> path)
+		{
+			this.origin = origin;
+			this.path = List.copyOf(path);
+			for (int i = 0; i < path.size(); i++)
+			{
+				index.putIfAbsent(path.get(i), i);
+			}
+		}
+	}
+}
@@ -0,0 +1,38 @@
+package net.unethicalite.api.movement.pathfinder;
+
+import net.runelite.api.coords.WorldArea;
+import net.runelite.api.coords.WorldPoint;
+import net.unethicalite.api.movement.pathfinder.model.Transport;
+
+import java.util.List;
+import java.util.Map;
+
+public enum PathfinderAlgorithm
+{
+	BFS
+	{
+		@Override
+		public List<WorldPoint> find(CollisionMap map, Map<WorldPoint, List<Transport>> transports, List<WorldPoint> start, WorldArea target, boolean avoidWilderness)
+		{
+			return new Pathfinder(map, transports, start, target, avoidWilderness).find();
+		}
+	},
+	A_STAR
+	{
+		@Override
+		public List<WorldPoint> find(CollisionMap map, Map<WorldPoint, List<Transport>> transports, List<WorldPoint> start, WorldArea target, boolean avoidWilderness)
+		{
+			return new AStarPathfinder(map, transports, start, target, avoidWilderness).find();
+		}
+	},
+	HIERARCHICAL
+	{
+		@Override
+		public List<WorldPoint> find(CollisionMap map, Map<WorldPoint, List<Transport>> transports, List<WorldPoint> start, WorldArea target, boolean avoidWilderness)
+		{
+			return RegionGraph.get().find(map, transports, start, target, avoidWilderness);
+		}
+	};
+
+	public abstract List<WorldPoint> find(CollisionMap map, Map<WorldPoint, List<Transport>> transports, List<WorldPoint> start, WorldArea target, boolean avoidWilderness);
+}
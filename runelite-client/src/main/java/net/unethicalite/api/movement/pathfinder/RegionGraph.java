@@ -0,0 +1,876 @@
+package net.unethicalite.api.movement.pathfinder;
+
+import com.google.gson.Gson;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.coords.WorldArea;
+import net.runelite.api.coords.WorldPoint;
+import net.unethicalite.api.movement.pathfinder.model.Transport;
+import net.unethicalite.api.movement.pathfinder.model.dto.TransportDto;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static net.unethicalite.api.movement.pathfinder.AStarPathfinder.pack;
+import static net.unethicalite.api.movement.pathfinder.AStarPathfinder.unpackPlane;
+import static net.unethicalite.api.movement.pathfinder.AStarPathfinder.unpackX;
+import static net.unethicalite.api.movement.pathfinder.AStarPathfinder.unpackY;
+
+/**
+ * Abstract graph over 64x64 regions used for hierarchical (HPA*) path planning.
+ * <p>
+ * Every region and plane forms a cluster whose nodes are the entrance tiles on its borders and the
+ * endpoints of static transports inside it, with precomputed walking distances between them. Plans
+ * are made on this graph first and then refined by an {@link AStarPathfinder} restricted to the
+ * regions the abstract path crosses. Clusters of the {@link GlobalCollisionMap} are loaded from the
+ * resource compiled at build time by {@link #main(String[])}, or built on first use and shared between
+ * plans. Clusters touching regions patched by a {@link LayeredCollisionMap}, and all clusters of other
+ * maps, only live as long as the plan that needed them.
+ */
+@Slf4j
+public class RegionGraph
+{
+	private static final String RESOURCE = "/region-graph";
+	private static final int REGION_SIZE = 64;
+	private static final int MAX_ENTRANCE_WIDTH = 8;
+	private static final int GOAL = -1;
+
+	private static final int[] DX = {-1, 1, 0, 0, -1, 1, -1, 1};
+	private static final int[] DY = {0, 0, -1, 1, -1, -1, 1, 1};
+	private static final int[][] NEIGHBOURS = {{0, 0}, {-1, 0}, {1, 0}, {0, -1}, {0, 1}};
+
+	private static volatile RegionGraph instance;
+
+	private final Map<Integer, Cluster> clusters = new ConcurrentHashMap<>();
+	private final Supplier<List<Transport>> staticTransports;
+	private volatile Map<Integer, int[]> staticEndpoints = Map.of();
+	private List<Transport> staticTransportList;
+
+	/**
+	 * @param staticTransports the static transports, whose endpoints become nodes of their clusters. Read
+	 *                         again before every plan, as they may still be loading when the graph is created.
+	 *                         A new list must be supplied whenever they change, as lists are compared by identity.
+	 */
+	public RegionGraph(Supplier<List<Transport>> staticTransports)
+	{
+		this.staticTransports = staticTransports;
+	}
+
+	public static void main(String[] args) throws IOException
+	{
+		if (args.length != 3)
+		{
+			System.err.println("Usage: RegionGraph <regions> <transports.json> <region-graph>");
+			System.exit(1);
+		}
+
+		GlobalCollisionMap map;
+		try (InputStream is = new GZIPInputStream(new FileInputStream(args[0])))
+		{
+			map = new GlobalCollisionMap(is.readAllBytes());
+		}
+
+		TransportDto[] json = new Gson().fromJson(
+			new String(Files.readAllBytes(new File(args[1]).toPath()), StandardCharsets.UTF_8), TransportDto[].class);
+		List<Transport> transports = new ArrayList<>();
+		for (TransportDto transport : json)
+		{
+			transports.add(new Transport(transport.getSource(), transport.getDestination(), Integer.MAX_VALUE, 0, () ->
+			{
+			}));
+		}
+
+		RegionGraph graph = new RegionGraph(() -> transports);
+		graph.refreshStaticEndpoints();
+		graph.buildAll(map);
+
+		File out = new File(args[2]);
+		if (out.getParentFile() != null)
+		{
+			out.getParentFile().mkdirs();
+		}
+
+		try (DataOutputStream os = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(new FileOutputStream(out)))))
+		{
+			graph.write(os);
+		}
+
+		System.out.println("Compiled " + graph.clusters.size() + " region clusters to " + out + " (" + out.length() + " bytes)");
+	}
+
+	public static RegionGraph get()
+	{
+		if (instance == null)
+		{
+			synchronized (RegionGraph.class)
+			{
+				if (instance == null)
+				{
+					instance = load();
+				}
+			}
+		}
+
+		return instance;
+	}
+
+	/**
+	 * Drops the graph, so it is loaded again on next use. Called when the global collision map is replaced.
+	 */
+	public static void reset()
+	{
+		instance = null;
+	}
+
+	private static RegionGraph load()
+	{
+		RegionGraph graph = new RegionGraph(TransportLoader::getStaticTransports);
+		try (InputStream is = Walker.class.getResourceAsStream(RESOURCE))
+		{
+			if (is != null)
+			{
+				graph.read(is);
+			}
+		}
+		catch (IOException e)
+		{
+			log.error("Failed to load region graph", e);
+		}
+
+		log.debug("Loaded {} precomputed region clusters", graph.clusters.size());
+		return graph;
+	}
+
+	/**
+	 * Precomputes the clusters of every region present in the collision map.
+	 */
+	public void buildAll(GlobalCollisionMap map)
+	{
+		for (int regionId = 0; regionId < map.regions.length; regionId++)
+		{
+			if (!map.hasRegion(regionId))
+			{
+				continue;
+			}
+
+			for (int plane = 0; plane < 4; plane++)
+			{
+				clusters.computeIfAbsent((regionId << 2) | plane, key -> buildCluster(map, key));
+			}
+		}
+	}
+
+	public List<WorldPoint> find(CollisionMap map, Map<WorldPoint, List<Transport>> transports, List<WorldPoint> start, WorldArea target, boolean avoidWilderness)
+	{
+		long startTime = System.currentTimeMillis();
+
+		refreshStaticEndpoints();
+		Plan plan = new Plan(map, transports, target);
+		plan.search(start);
+
+		List<WorldPoint> path = List.of();
+		if (plan.abstractPath != null)
+		{
+			CollisionMap corridor = new CorridorCollisionMap(map, plan.corridor);
+			path = new AStarPathfinder(corridor, plan.usedTransports(transports), List.of(plan.origin), target, avoidWilderness).find();
+		}
+
+		if (path.isEmpty() || !target.contains(path.get(path.size() - 1)))
+		{
+			log.debug("Hierarchical plan to {} failed, falling back to a full search", target);
+			return new AStarPathfinder(map, transports, start, target, avoidWilderness).find();
+		}
+
+		log.debug("Hierarchical path calculation took {} ms to {}", System.currentTimeMillis() - startTime, target);
+		return path;
+	}
+
+	public File writeToFile()
+	{
+		File fileLoc = new File("region-graph");
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(new FileOutputStream(fileLoc)))))
+		{
+			write(out);
+		}
+		catch (IOException e)
+		{
+			e.printStackTrace();
+		}
+
+		return fileLoc;
+	}
+
+	public void write(DataOutputStream out) throws IOException
+	{
+		out.writeInt(clusters.size());
+		for (Map.Entry<Integer, Cluster> entry : clusters.entrySet())
+		{
+			Cluster cluster = entry.getValue();
+			out.writeInt(entry.getKey());
+			out.writeShort(cluster.nodes.length);
+			for (int node : cluster.nodes)
+			{
+				out.writeInt(node);
+			}
+
+			for (short distance : cluster.distances)
+			{
+				out.writeShort(distance);
+			}
+
+			out.writeShort(cluster.exits.length);
+			for (long exit : cluster.exits)
+			{
+				out.writeLong(exit);
+			}
+		}
+	}
+
+	public void read(InputStream is) throws IOException
+	{
+		DataInputStream in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(is)));
+		int count = in.readInt();
+		for (int i = 0; i < count; i++)
+		{
+			int key = in.readInt();
+			int[] nodes = new int[in.readUnsignedShort()];
+			for (int j = 0; j < nodes.length; j++)
+			{
+				nodes[j] = in.readInt();
+			}
+
+			short[] distances = new short[nodes.length * nodes.length];
+			for (int j = 0; j < distances.length; j++)
+			{
+				distances[j] = in.readShort();
+			}
+
+			long[] exits = new long[in.readUnsignedShort()];
+			for (int j = 0; j < exits.length; j++)
+			{
+				exits[j] = in.readLong();
+			}
+
+			clusters.put(key, new Cluster(nodes, distances, exits));
+		}
+	}
+
+	/**
+	 * Re-reads the endpoints of the static transports if a new list was published since the last plan,
+	 * dropping the shared clusters built without them.
+	 */
+	private synchronized void refreshStaticEndpoints()
+	{
+		List<Transport> transports = staticTransports.get();
+		if (transports == staticTransportList)
+		{
+			return;
+		}
+
+		Map<Integer, Set<Integer>> endpoints = new HashMap<>();
+		for (Transport transport : transports)
+		{
+			for (WorldPoint point : List.of(transport.getSource(), transport.getDestination()))
+			{
+				if (isPackable(point))
+				{
+					int packed = pack(point);
+					endpoints.computeIfAbsent(clusterKey(packed), k -> new TreeSet<>()).add(packed);
+				}
+			}
+		}
+
+		Map<Integer, int[]> packed = new HashMap<>();
+		endpoints.forEach((key, points) -> packed.put(key, points.stream().mapToInt(Integer::intValue).toArray()));
+		staticEndpoints = packed;
+		staticTransportList = transports;
+
+		packed.forEach((key, points) -> clusters.computeIfPresent(key, (k, cluster) ->
+			Arrays.stream(points).allMatch(point -> Arrays.binarySearch(cluster.nodes, point) >= 0) ? cluster : null));
+	}
+
+	/**
+	 * Whether the clusters of the region can be shared between plans on the map: the map is the global
+	 * collision map, or a layer over it which patches neither the region nor a neighbour sharing its borders.
+	 */
+	private static boolean isShared(CollisionMap map, int regionId)
+	{
+		if (map instanceof GlobalCollisionMap)
+		{
+			return true;
+		}
+
+		if (!(map instanceof LayeredCollisionMap))
+		{
+			return false;
+		}
+
+		LayeredCollisionMap layered = (LayeredCollisionMap) map;
+		int regionX = regionId >>> 8;
+		int regionY = regionId & 0xFF;
+		for (int[] offset : NEIGHBOURS)
+		{
+			int x = regionX + offset[0];
+			int y = regionY + offset[1];
+			if (x >= 0 && y >= 0 && x <= 0xFF && y <= 0xFF && layered.isPatched((x << 8) | y))
+			{
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private Cluster buildCluster(CollisionMap map, int key)
+	{
+		int regionId = key >>> 2;
+		int plane = key & 3;
+		int baseX = (regionId >>> 8) * REGION_SIZE;
+		int baseY = (regionId & 0xFF) * REGION_SIZE;
+
+		TreeSet<Integer> nodes = new TreeSet<>();
+		List<Long> exits = new ArrayList<>();
+
+		// West, east, south and north borders, matching the DX/DY direction order
+		scanBorder(map, nodes, exits, baseX, baseY, 0, 1, plane, 0);
+		scanBorder(map, nodes, exits, baseX + REGION_SIZE - 1, baseY, 0, 1, plane, 1);
+		scanBorder(map, nodes, exits, baseX, baseY, 1, 0, plane, 2);
+		scanBorder(map, nodes, exits, baseX, baseY + REGION_SIZE - 1, 1, 0, plane, 3);
+
+		for (int endpoint : staticEndpoints.getOrDefault(key, new int[0]))
+		{
+			nodes.add(endpoint);
+		}
+
+		int[] nodeArray = nodes.stream().mapToInt(Integer::intValue).toArray();
+		short[] distances = new short[nodeArray.length * nodeArray.length];
+		int[] dist = new int[REGION_SIZE * REGION_SIZE];
+		int[] queue = new int[REGION_SIZE * REGION_SIZE];
+		for (int i = 0; i < nodeArray.length; i++)
+		{
+			flood(map, baseX, baseY, plane, new int[]{nodeArray[i]}, dist, queue);
+			for (int j = 0; j < nodeArray.length; j++)
+			{
+				distances[i * nodeArray.length + j] = (short) dist[localIndex(nodeArray[j])];
+			}
+		}
+
+		long[] exitArray = exits.stream().mapToLong(Long::longValue).sorted().toArray();
+		return new Cluster(nodeArray, distances, exitArray);
+	}
+
+	/**
+	 * Groups consecutive tiles that can step over a region border into entrances. Both clusters sharing
+	 * the border see the same crossings, so they pick the same entrance tiles.
+	 */
+	private static void scanBorder(CollisionMap map, Set<Integer> nodes, List<Long> exits, int x, int y, int stepX, int stepY, int plane, int direction)
+	{
+		int runStart = -1;
+		for (int i = 0; i <= REGION_SIZE; i++)
+		{
+			int tileX = x + stepX * i;
+			int tileY = y + stepY * i;
+			boolean crossing = i < REGION_SIZE && isPackable(tileX + DX[direction], tileY + DY[direction])
+				&& canMove(map, tileX, tileY, plane, direction);
+
+			if (crossing && runStart == -1)
+			{
+				runStart = i;
+			}
+			else if (!crossing && runStart != -1)
+			{
+				int runEnd = i - 1;
+				if (runEnd - runStart + 1 <= MAX_ENTRANCE_WIDTH)
+				{
+					addEntrance(nodes, exits, x + stepX * ((runStart + runEnd) / 2), y + stepY * ((runStart + runEnd) / 2), plane, direction);
+				}
+				else
+				{
+					addEntrance(nodes, exits, x + stepX * runStart, y + stepY * runStart, plane, direction);
+					addEntrance(nodes, exits, x + stepX * runEnd, y + stepY * runEnd, plane, direction);
+				}
+
+				runStart = -1;
+			}
+		}
+	}
+
+	private static void addEntrance(Set<Integer> nodes, List<Long> exits, int x, int y, int plane, int direction)
+	{
+		int from = pack(x, y, plane);
+		int to = pack(x + DX[direction], y + DY[direction], plane);
+		nodes.add(from);
+		exits.add(((long) from << 32) | to);
+	}
+
+	/**
+	 * Breadth-first walk restricted to one region and plane, filling {@code dist} with step counts
+	 * (or -1) indexed by {@link #localIndex(int)}.
+	 */
+	private static void flood(CollisionMap map, int baseX, int baseY, int plane, int[] sources, int[] dist, int[] queue)
+	{
+		Arrays.fill(dist, -1);
+		int head = 0;
+		int tail = 0;
+		for (int source : sources)
+		{
+			int local = localIndex(source);
+			if (dist[local] == -1)
+			{
+				dist[local] = 0;
+				queue[tail++] = local;
+			}
+		}
+
+		while (head < tail)
+		{
+			int local = queue[head++];
+			int x = baseX + (local & 63);
+			int y = baseY + (local >>> 6);
+			for (int direction = 0; direction < DX.length; direction++)
+			{
+				int nx = x + DX[direction] - baseX;
+				int ny = y + DY[direction] - baseY;
+				if (nx < 0 || ny < 0 || nx >= REGION_SIZE || ny >= REGION_SIZE)
+				{
+					continue;
+				}
+
+				int next = (ny << 6) | nx;
+				if (dist[next] != -1 || !canMove(map, x, y, plane, direction))
+				{
+					continue;
+				}
+
+				dist[next] = dist[local] + 1;
+				queue[tail++] = next;
+			}
+		}
+	}
+
+	private static boolean canMove(CollisionMap map, int x, int y, int z, int direction)
+	{
+		switch (direction)
+		{
+			case 0:
+				return map.w(x, y, z);
+			case 1:
+				return map.e(x, y, z);
+			case 2:
+				return map.s(x, y, z);
+			case 3:
+				return map.n(x, y, z);
+			case 4:
+				return map.sw(x, y, z);
+			case 5:
+				return map.se(x, y, z);
+			case 6:
+				return map.nw(x, y, z);
+			default:
+				return map.ne(x, y, z);
+		}
+	}
+
+	private static int clusterKey(int packed)
+	{
+		return ((((unpackX(packed) >> 6) << 8) | (unpackY(packed) >> 6)) << 2) | unpackPlane(packed);
+	}
+
+	private static int localIndex(int packed)
+	{
+		return ((unpackY(packed) & 63) << 6) | (unpackX(packed) & 63);
+	}
+
+	private static boolean isPackable(WorldPoint point)
+	{
+		return point.getPlane() >= 0 && point.getPlane() < 4 && isPackable(point.getX(), point.getY());
+	}
+
+	private static boolean isPackable(int x, int y)
+	{
+		return x >= 0 && y >= 0 && x < 0x4000 && y < 0x4000;
+	}
+
+	private static final class Cluster
+	{
+		private final int[] nodes;
+		private final short[] distances;
+		private final long[] exits;
+
+		private Cluster(int[] nodes, short[] distances, long[] exits)
+		{
+			this.nodes = nodes;
+			this.distances = distances;
+			this.exits = exits;
+		}
+	}
+
+	/**
+	 * State of a single abstract search: the currently available transports, the start, target and
+	 * transport tiles temporarily linked into their clusters, and the resulting corridor.
+	 */
+	private final class Plan
+	{
+		private final CollisionMap map;
+		private final WorldArea target;
+		private final Map<Integer, int[]> transportEdges = new HashMap<>();
+		private final Map<Integer, List<Long>> extraEdges = new HashMap<>();
+		private final Map<Integer, Integer> goalCost = new HashMap<>();
+		private final BitSet corridor = new BitSet(256 * 256);
+		private final Set<Long> transportsUsed = new HashSet<>();
+		private final Map<Integer, Cluster> localClusters = new HashMap<>();
+		private int transportBound = Integer.MAX_VALUE;
+		private List<Integer> abstractPath;
+		private WorldPoint origin;
+
+		private Plan(CollisionMap map, Map<WorldPoint, List<Transport>> transports, WorldArea target)
+		{
+			this.map = map;
+			this.target = target;
+
+			Map<Integer, List<Integer>> edges = new HashMap<>();
+			for (List<Transport> list : transports.values())
+			{
+				for (Transport transport : list)
+				{
+					if (!isPackable(transport.getSource()) || !isPackable(transport.getDestination()))
+					{
+						continue;
+					}
+
+					int destination = pack(transport.getDestination());
+					edges.computeIfAbsent(pack(transport.getSource()), k -> new ArrayList<>()).add(destination);
+					transportBound = Math.min(transportBound, AStarPathfinder.DEFAULT_TRANSPORT_COST + distance(destination));
+				}
+			}
+
+			edges.forEach((source, destinations) -> transportEdges.put(source, destinations.stream().mapToInt(Integer::intValue).toArray()));
+		}
+
+		private void search(List<WorldPoint> start)
+		{
+			Map<Integer, Set<Integer>> extras = new HashMap<>();
+			List<Integer> sources = new ArrayList<>();
+			for (WorldPoint point : start)
+			{
+				if (isPackable(point))
+				{
+					int packed = pack(point);
+					sources.add(packed);
+					extras.computeIfAbsent(clusterKey(packed), k -> new TreeSet<>()).add(packed);
+				}
+			}
+
+			transportEdges.forEach((source, destinations) ->
+			{
+				extras.computeIfAbsent(clusterKey(source), k -> new TreeSet<>()).add(source);
+				for (int destination : destinations)
+				{
+					extras.computeIfAbsent(clusterKey(destination), k -> new TreeSet<>()).add(destination);
+				}
+			});
+
+			extras.forEach(this::link);
+			linkGoal(extras);
+
+			Map<Integer, Integer> cost = new HashMap<>();
+			Map<Integer, Integer> parent = new HashMap<>();
+			Set<Integer> closed = new HashSet<>();
+			PriorityQueue<Long> open = new PriorityQueue<>();
+			for (int source : sources)
+			{
+				cost.put(source, 0);
+				open.add(((long) heuristic(source) << 32) | source);
+			}
+
+			int goalParent = GOAL;
+			int goalCostBest = Integer.MAX_VALUE;
+			while (!open.isEmpty())
+			{
+				long entry = open.poll();
+				int node = (int) entry;
+				if (node == GOAL)
+				{
+					break;
+				}
+
+				if (!closed.add(node))
+				{
+					continue;
+				}
+
+				int g = cost.get(node);
+				Integer toGoal = goalCost.get(node);
+				if (toGoal != null && g + toGoal < goalCostBest)
+				{
+					goalCostBest = g + toGoal;
+					goalParent = node;
+					open.add(((long) goalCostBest << 32) | (GOAL & 0xFFFFFFFFL));
+				}
+
+				Cluster cluster = cluster(clusterKey(node));
+				int index = Arrays.binarySearch(cluster.nodes, node);
+				if (index >= 0)
+				{
+					int count = cluster.nodes.length;
+					for (int j = 0; j < count; j++)
+					{
+						int distance = cluster.distances[index * count + j];
+						if (distance > 0)
+						{
+							relax(open, cost, parent, closed, node, cluster.nodes[j], g + distance);
+						}
+					}
+
+					for (long exit : cluster.exits)
+					{
+						if ((int) (exit >>> 32) == node)
+						{
+							relax(open, cost, parent, closed, node, (int) exit, g + 1);
+						}
+					}
+				}
+
+				for (long edge : extraEdges.getOrDefault(node, List.of()))
+				{
+					relax(open, cost, parent, closed, node, (int) (edge >>> 32), g + (int) edge);
+				}
+
+				for (int destination : transportEdges.getOrDefault(node, new int[0]))
+				{
+					relax(open, cost, parent, closed, node, destination, g + AStarPathfinder.DEFAULT_TRANSPORT_COST);
+				}
+			}
+
+			if (goalParent == GOAL)
+			{
+				return;
+			}
+
+			abstractPath = new ArrayList<>();
+			for (Integer node = goalParent; node != null; node = parent.get(node))
+			{
+				abstractPath.add(0, node);
+			}
+
+			origin = new WorldPoint(unpackX(abstractPath.get(0)), unpackY(abstractPath.get(0)), unpackPlane(abstractPath.get(0)));
+			for (int i = 0; i < abstractPath.size(); i++)
+			{
+				int node = abstractPath.get(i);
+				corridor.set(clusterKey(node) >>> 2);
+				if (i > 0)
+				{
+					int previous = abstractPath.get(i - 1);
+					int[] destinations = transportEdges.get(previous);
+					if (destinations != null && Arrays.stream(destinations).anyMatch(d -> d == node))
+					{
+						transportsUsed.add(((long) previous << 32) | node);
+					}
+				}
+			}
+
+			for (int x = target.getX() >> 6; x <= (target.getX() + target.getWidth() - 1) >> 6; x++)
+			{
+				for (int y = target.getY() >> 6; y <= (target.getY() + target.getHeight() - 1) >> 6; y++)
+				{
+					corridor.set((x << 8) | y);
+				}
+			}
+		}
+
+		private Cluster cluster(int key)
+		{
+			if (isShared(map, key >>> 2))
+			{
+				return clusters.computeIfAbsent(key, k -> buildCluster(map, k));
+			}
+
+			return localClusters.computeIfAbsent(key, k -> buildCluster(map, k));
+		}
+
+		private void relax(PriorityQueue<Long> open, Map<Integer, Integer> cost, Map<Integer, Integer> parent, Set<Integer> closed, int from, int to, int g)
+		{
+			if (closed.contains(to))
+			{
+				return;
+			}
+
+			Integer current = cost.get(to);
+			if (current != null && current <= g)
+			{
+				return;
+			}
+
+			cost.put(to, g);
+			parent.put(to, from);
+			open.add(((long) (g + heuristic(to)) << 32) | to);
+		}
+
+		/**
+		 * Connects tiles that are not precomputed nodes to the nodes of their cluster and to each other.
+		 */
+		private void link(int key, Set<Integer> points)
+		{
+			Cluster cluster = cluster(key);
+			int baseX = ((key >>> 2) >>> 8) * REGION_SIZE;
+			int baseY = ((key >>> 2) & 0xFF) * REGION_SIZE;
+			int plane = key & 3;
+			int[] dist = new int[REGION_SIZE * REGION_SIZE];
+			int[] queue = new int[REGION_SIZE * REGION_SIZE];
+
+			for (int point : points)
+			{
+				if (Arrays.binarySearch(cluster.nodes, point) >= 0)
+				{
+					continue;
+				}
+
+				flood(map, baseX, baseY, plane, new int[]{point}, dist, queue);
+				for (int node : cluster.nodes)
+				{
+					int distance = dist[localIndex(node)];
+					if (distance > 0)
+					{
+						addExtraEdge(point, node, distance);
+						addExtraEdge(node, point, distance);
+					}
+				}
+
+				for (int other : points)
+				{
+					int distance = dist[localIndex(other)];
+					if (other != point && distance > 0)
+					{
+						addExtraEdge(point, other, distance);
+						addExtraEdge(other, point, distance);
+					}
+				}
+			}
+		}
+
+		private void linkGoal(Map<Integer, Set<Integer>> extras)
+		{
+			Map<Integer, List<Integer>> targetTiles = new HashMap<>();
+			for (WorldPoint point : target.toWorldPointList())
+			{
+				if (isPackable(point))
+				{
+					int packed = pack(point);
+					targetTiles.computeIfAbsent(clusterKey(packed), k -> new ArrayList<>()).add(packed);
+				}
+			}
+
+			int[] dist = new int[REGION_SIZE * REGION_SIZE];
+			int[] queue = new int[REGION_SIZE * REGION_SIZE];
+			targetTiles.forEach((key, tiles) ->
+			{
+				Cluster cluster = cluster(key);
+				flood(map, ((key >>> 2) >>> 8) * REGION_SIZE, ((key >>> 2) & 0xFF) * REGION_SIZE, key & 3,
+					tiles.stream().mapToInt(Integer::intValue).toArray(), dist, queue);
+
+				List<Integer> candidates = new ArrayList<>();
+				Arrays.stream(cluster.nodes).forEach(candidates::add);
+				candidates.addAll(extras.getOrDefault(key, Set.of()));
+				for (int candidate : candidates)
+				{
+					int distance = dist[localIndex(candidate)];
+					if (distance >= 0)
+					{
+						goalCost.merge(candidate, distance, Math::min);
+					}
+				}
+			});
+		}
+
+		private void addExtraEdge(int from, int to, int cost)
+		{
+			extraEdges.computeIfAbsent(from, k -> new ArrayList<>()).add(((long) to << 32) | cost);
+		}
+
+		private int heuristic(int packed)
+		{
+			return Math.min(distance(packed), transportBound);
+		}
+
+		private int distance(int packed)
+		{
+			int x = unpackX(packed);
+			int y = unpackY(packed);
+			int dx = Math.max(0, Math.max(target.getX() - x, x - (target.getX() + target.getWidth() - 1)));
+			int dy = Math.max(0, Math.max(target.getY() - y, y - (target.getY() + target.getHeight() - 1)));
+			return Math.max(dx, dy);
+		}
+
+		private Map<WorldPoint, List<Transport>> usedTransports(Map<WorldPoint, List<Transport>> transports)
+		{
+			Map<WorldPoint, List<Transport>> out = new HashMap<>();
+			for (List<Transport> list : transports.values())
+			{
+				for (Transport transport : list)
+				{
+					if (isPackable(transport.getSource()) && isPackable(transport.getDestination())
+						&& transportsUsed.contains(((long) pack(transport.getSource()) << 32) | pack(transport.getDestination())))
+					{
+						out.computeIfAbsent(transport.getSource(), k -> new ArrayList<>()).add(transport);
+					}
+				}
+			}
+
+			return out;
+		}
+	}
+
+	/**
+	 * Restricts movement to the regions an abstract path goes through.
+	 */
+	private static final class CorridorCollisionMap implements CollisionMap
+	{
+		private final CollisionMap map;
+		private final BitSet regions;
+
+		private CorridorCollisionMap(CollisionMap map, BitSet regions)
+		{
+			this.map = map;
+			this.regions = regions;
+		}
+
+		private boolean inside(int x, int y)
+		{
+			return isPackable(x, y) && regions.get(((x >> 6) << 8) | (y >> 6));
+		}
+
+		@Override
+		public boolean n(int x, int y, int z)
+		{
+			return inside(x, y) && inside(x, y + 1) && map.n(x, y, z);
+		}
+
+		@Override
+		public boolean e(int x, int y, int z)
+		{
+			return inside(x, y) && inside(x + 1, y) && map.e(x, y, z);
+		}
+	}
+}
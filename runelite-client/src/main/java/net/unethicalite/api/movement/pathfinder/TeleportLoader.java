@@ -2,9 +2,11 @@ package net.unethicalite.api.movement.pathfinder;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.regex.Pattern;
 import net.runelite.api.GameState;
 import net.runelite.api.Item;
@@ -44,7 +46,7 @@ import net.unethicalite.client.managers.RegionManager;
 public class TeleportLoader
 {
 	private static Pattern WILDY_PATTERN = Pattern.compile("Okay, teleport to level [\\d,]* Wilderness\\.");
-	private static List<Teleport> LAST_TELEPORT_LIST = new ArrayList<>();
+	private static volatile List<Teleport> LAST_TELEPORT_LIST = new ArrayList<>();
 
 	public static List<Teleport> buildTeleports()
 	{
@@ -115,263 +117,283 @@ public class TeleportLoader
 
 	public static void refreshTeleports()
 	{
-		GameThread.invoke(() ->
+		GameThread.invoke(TeleportLoader::updateTeleports);
+	}
+
+	/**
+	 * Rebuilds the teleports available with the current items, quests and config. Must be called on the
+	 * client thread.
+	 *
+	 * @return whether the set of teleport destinations changed
+	 */
+	public static synchronized boolean updateTeleports()
+	{
+		List<Teleport> teleports = new ArrayList<>();
+		if (Worlds.inMembersWorld())
 		{
-			List<Teleport> teleports = new ArrayList<>();
-			if (Worlds.inMembersWorld())
+			// One click teleport items
+			for (TeleportItem tele : TeleportItem.values())
 			{
-				// One click teleport items
-				for (TeleportItem tele : TeleportItem.values())
+				if (tele.canUse() && tele.getDestination().distanceTo(Players.getLocal().getWorldLocation()) > 20)
 				{
-					if (tele.canUse() && tele.getDestination().distanceTo(Players.getLocal().getWorldLocation()) > 20)
+					switch (tele)
 					{
-						switch (tele)
-						{
-							case ROYAL_SEED_POD:
-								if (Game.getWildyLevel() <= 30)
-								{
-									teleports.add(itemTeleport(tele));
-								}
-							default:
-								if (Game.getWildyLevel() <= 20)
-								{
-									teleports.add(itemTeleport(tele));
-								}
-						}
+						case ROYAL_SEED_POD:
+							if (Game.getWildyLevel() <= 30)
+							{
+								teleports.add(itemTeleport(tele));
+							}
+						default:
+							if (Game.getWildyLevel() <= 20)
+							{
+								teleports.add(itemTeleport(tele));
+							}
 					}
 				}
+			}
 
-				if (Game.getWildyLevel() <= 20)
+			if (Game.getWildyLevel() <= 20)
+			{
+				if (ringOfDueling())
 				{
-					if (ringOfDueling())
-					{
-						teleports.add(new Teleport(new WorldPoint(3315, 3235, 0), 6,
-							() -> jewelryTeleport("PvP Arena", RING_OF_DUELING)));
-						teleports.add(new Teleport(new WorldPoint(2440, 3090, 0), 2,
-							() -> jewelryTeleport("Castle Wars", RING_OF_DUELING)));
-						teleports.add(new Teleport(new WorldPoint(3151, 3635, 0), 2,
-							() -> jewelryTeleport("Ferox Enclave", RING_OF_DUELING)));
-					}
-
-					if (gamesNecklace())
-					{
-						teleports.add(new Teleport(new WorldPoint(2898, 3553, 0), 2,
-							() -> jewelryTeleport("Burthorpe", GAMES_NECKLACE)));
-						teleports.add(new Teleport(new WorldPoint(2520, 3571, 0), 6,
-							() -> jewelryTeleport("Barbarian Outpost", GAMES_NECKLACE)));
-						teleports.add(new Teleport(new WorldPoint(2964, 4382, 2), 2,
-							() -> jewelryTeleport("Corporeal Beast", GAMES_NECKLACE)));
-						teleports.add(new Teleport(new WorldPoint(3244, 9501, 2), 2,
-							() -> jewelryTeleport("Tears of Guthix", GAMES_NECKLACE)));
-						teleports.add(new Teleport(new WorldPoint(1624, 3938, 0), 1,
-							() -> jewelryTeleport("Wintertodt Camp", GAMES_NECKLACE)));
-					}
+					teleports.add(new Teleport(new WorldPoint(3315, 3235, 0), 6,
+						() -> jewelryTeleport("PvP Arena", RING_OF_DUELING)));
+					teleports.add(new Teleport(new WorldPoint(2440, 3090, 0), 2,
+						() -> jewelryTeleport("Castle Wars", RING_OF_DUELING)));
+					teleports.add(new Teleport(new WorldPoint(3151, 3635, 0), 2,
+						() -> jewelryTeleport("Ferox Enclave", RING_OF_DUELING)));
+				}
 
-					if (necklaceOfPassage())
-					{
-						teleports.add(new Teleport(new WorldPoint(3114, 3179, 0), 2,
-							() -> jewelryTeleport("Wizards' Tower", NECKLACE_OF_PASSAGE)));
-						teleports.add(new Teleport(new WorldPoint(2430, 3348, 0), 2,
-							() -> jewelryTeleport("The Outpost", NECKLACE_OF_PASSAGE)));
-						teleports.add(new Teleport(new WorldPoint(3405, 3157, 0), 2,
-							() -> jewelryTeleport("Eagle's Eyrie", NECKLACE_OF_PASSAGE)));
-					}
+				if (gamesNecklace())
+				{
+					teleports.add(new Teleport(new WorldPoint(2898, 3553, 0), 2,
+						() -> jewelryTeleport("Burthorpe", GAMES_NECKLACE)));
+					teleports.add(new Teleport(new WorldPoint(2520, 3571, 0), 6,
+						() -> jewelryTeleport("Barbarian Outpost", GAMES_NECKLACE)));
+					teleports.add(new Teleport(new WorldPoint(2964, 4382, 2), 2,
+						() -> jewelryTeleport("Corporeal Beast", GAMES_NECKLACE)));
+					teleports.add(new Teleport(new WorldPoint(3244, 9501, 2), 2,
+						() -> jewelryTeleport("Tears of Guthix", GAMES_NECKLACE)));
+					teleports.add(new Teleport(new WorldPoint(1624, 3938, 0), 1,
+						() -> jewelryTeleport("Wintertodt Camp", GAMES_NECKLACE)));
+				}
 
-					if (xericsTalisman())
-					{
-						teleports.add(new Teleport(new WorldPoint(1576, 3530, 0), 6,
-												   () -> jewelryTeleport("Xeric's Lookout", XERICS_TALISMAN)));
-						teleports.add(new Teleport(new WorldPoint(1752, 3566, 0), 6,
-												   () -> jewelryTeleport("Xeric's Glade", XERICS_TALISMAN)));
-						teleports.add(new Teleport(new WorldPoint(1504, 3817, 0), 6,
-												   () -> jewelryTeleport("Xeric's Inferno", XERICS_TALISMAN)));
-						if (Quests.isFinished(Quest.ARCHITECTURAL_ALLIANCE))
-						{
-							teleports.add(new Teleport(new WorldPoint(1640, 3674, 0), 6,
-														() -> jewelryTeleport("Xeric's Heart", XERICS_TALISMAN)));
-						}
-					}
+				if (necklaceOfPassage())
+				{
+					teleports.add(new Teleport(new WorldPoint(3114, 3179, 0), 2,
+						() -> jewelryTeleport("Wizards' Tower", NECKLACE_OF_PASSAGE)));
+					teleports.add(new Teleport(new WorldPoint(2430, 3348, 0), 2,
+						() -> jewelryTeleport("The Outpost", NECKLACE_OF_PASSAGE)));
+					teleports.add(new Teleport(new WorldPoint(3405, 3157, 0), 2,
+						() -> jewelryTeleport("Eagle's Eyrie", NECKLACE_OF_PASSAGE)));
+				}
 
-					if (digsitePendant())
+				if (xericsTalisman())
+				{
+					teleports.add(new Teleport(new WorldPoint(1576, 3530, 0), 6,
+											   () -> jewelryTeleport("Xeric's Lookout", XERICS_TALISMAN)));
+					teleports.add(new Teleport(new WorldPoint(1752, 3566, 0), 6,
+											   () -> jewelryTeleport("Xeric's Glade", XERICS_TALISMAN)));
+					teleports.add(new Teleport(new WorldPoint(1504, 3817, 0), 6,
+											   () -> jewelryTeleport("Xeric's Inferno", XERICS_TALISMAN)));
+					if (Quests.isFinished(Quest.ARCHITECTURAL_ALLIANCE))
 					{
-						teleports.add(new Teleport(new WorldPoint(3341, 3445, 0), 6,
-								() -> jewelryTeleport("Digsite", DIGSITE_PENDANT)));
-						teleports.add(new Teleport(new WorldPoint(3764, 3869, 1), 6,
-								() -> jewelryTeleport("Fossil Island", DIGSITE_PENDANT)));
-						if (Quests.isFinished(Quest.DRAGON_SLAYER_II))
-						{
-							teleports.add(new Teleport(new WorldPoint(3549, 10456, 0), 6,
-								() -> jewelryTeleport("Lithkren", DIGSITE_PENDANT)));
-						}
+						teleports.add(new Teleport(new WorldPoint(1640, 3674, 0), 6,
+													() -> jewelryTeleport("Xeric's Heart", XERICS_TALISMAN)));
 					}
 				}
 
-				if (Game.getWildyLevel() <= 30)
+				if (digsitePendant())
 				{
-					if (combatBracelet())
+					teleports.add(new Teleport(new WorldPoint(3341, 3445, 0), 6,
+							() -> jewelryTeleport("Digsite", DIGSITE_PENDANT)));
+					teleports.add(new Teleport(new WorldPoint(3764, 3869, 1), 6,
+							() -> jewelryTeleport("Fossil Island", DIGSITE_PENDANT)));
+					if (Quests.isFinished(Quest.DRAGON_SLAYER_II))
 					{
-						teleports.add(new Teleport(new WorldPoint(2882, 3548, 0), 2,
-							() -> jewelryTeleport("Warriors' Guild", COMBAT_BRACELET)));
-						teleports.add(new Teleport(new WorldPoint(3191, 3367, 0), 2,
-							() -> jewelryTeleport("Champions' Guild", COMBAT_BRACELET)));
-						teleports.add(new Teleport(new WorldPoint(3052, 3488, 0), 2,
-							() -> jewelryTeleport("Monastery", COMBAT_BRACELET)));
-						teleports.add(new Teleport(new WorldPoint(2655, 3441, 0), 2,
-							() -> jewelryTeleport("Ranging Guild", COMBAT_BRACELET)));
+						teleports.add(new Teleport(new WorldPoint(3549, 10456, 0), 6,
+							() -> jewelryTeleport("Lithkren", DIGSITE_PENDANT)));
 					}
+				}
+			}
 
-					if (skillsNecklace())
+			if (Game.getWildyLevel() <= 30)
+			{
+				if (combatBracelet())
+				{
+					teleports.add(new Teleport(new WorldPoint(2882, 3548, 0), 2,
+						() -> jewelryTeleport("Warriors' Guild", COMBAT_BRACELET)));
+					teleports.add(new Teleport(new WorldPoint(3191, 3367, 0), 2,
+						() -> jewelryTeleport("Champions' Guild", COMBAT_BRACELET)));
+					teleports.add(new Teleport(new WorldPoint(3052, 3488, 0), 2,
+						() -> jewelryTeleport("Monastery", COMBAT_BRACELET)));
+					teleports.add(new Teleport(new WorldPoint(2655, 3441, 0), 2,
+						() -> jewelryTeleport("Ranging Guild", COMBAT_BRACELET)));
+				}
+
+				if (skillsNecklace())
+				{
+					teleports.add(new Teleport(new WorldPoint(2611, 3390, 0), 6,
+						() -> jewelryPopupTeleport("Fishing Guild", SKILLS_NECKLACE)));
+					teleports.add(new Teleport(new WorldPoint(3050, 9763, 0), 6,
+						() -> jewelryPopupTeleport("Mining Guild", SKILLS_NECKLACE)));
+					teleports.add(new Teleport(new WorldPoint(2933, 3295, 0), 6,
+						() -> jewelryPopupTeleport("Crafting Guild", SKILLS_NECKLACE)));
+					teleports.add(new Teleport(new WorldPoint(3143, 3440, 0), 6,
+						() -> jewelryPopupTeleport("Cooking Guild", SKILLS_NECKLACE)));
+					teleports.add(new Teleport(new WorldPoint(1662, 3505, 0), 6,
+						() -> jewelryPopupTeleport("Woodcutting Guild", SKILLS_NECKLACE)));
+					teleports.add(new Teleport(new WorldPoint(1249, 3718, 0), 6,
+						() -> jewelryPopupTeleport("Farming Guild", SKILLS_NECKLACE)));
+				}
+
+				if (ringOfWealth())
+				{
+					teleports.add(new Teleport(new WorldPoint(3163, 3478, 0), 2,
+						() -> jewelryTeleport("Grand Exchange", RING_OF_WEALTH)));
+					teleports.add(new Teleport(new WorldPoint(2996, 3375, 0), 2,
+							() -> jewelryTeleport("Falador", RING_OF_WEALTH)));
+
+					if (Quests.isFinished(Quest.THRONE_OF_MISCELLANIA))
 					{
-						teleports.add(new Teleport(new WorldPoint(2611, 3390, 0), 6,
-							() -> jewelryPopupTeleport("Fishing Guild", SKILLS_NECKLACE)));
-						teleports.add(new Teleport(new WorldPoint(3050, 9763, 0), 6,
-							() -> jewelryPopupTeleport("Mining Guild", SKILLS_NECKLACE)));
-						teleports.add(new Teleport(new WorldPoint(2933, 3295, 0), 6,
-							() -> jewelryPopupTeleport("Crafting Guild", SKILLS_NECKLACE)));
-						teleports.add(new Teleport(new WorldPoint(3143, 3440, 0), 6,
-							() -> jewelryPopupTeleport("Cooking Guild", SKILLS_NECKLACE)));
-						teleports.add(new Teleport(new WorldPoint(1662, 3505, 0), 6,
-							() -> jewelryPopupTeleport("Woodcutting Guild", SKILLS_NECKLACE)));
-						teleports.add(new Teleport(new WorldPoint(1249, 3718, 0), 6,
-							() -> jewelryPopupTeleport("Farming Guild", SKILLS_NECKLACE)));
+						teleports.add(new Teleport(new WorldPoint(2538, 3863, 0), 2,
+								() -> jewelryTeleport("Miscellania", RING_OF_WEALTH)));
 					}
-
-					if (ringOfWealth())
+					if (Quests.isFinished(Quest.BETWEEN_A_ROCK))
 					{
-						teleports.add(new Teleport(new WorldPoint(3163, 3478, 0), 2,
-							() -> jewelryTeleport("Grand Exchange", RING_OF_WEALTH)));
-						teleports.add(new Teleport(new WorldPoint(2996, 3375, 0), 2,
-								() -> jewelryTeleport("Falador", RING_OF_WEALTH)));
+						teleports.add(new Teleport(new WorldPoint(2828, 10166, 0), 2,
+								() -> jewelryTeleport("Miscellania", RING_OF_WEALTH)));
+					}
 
-						if (Quests.isFinished(Quest.THRONE_OF_MISCELLANIA))
-						{
-							teleports.add(new Teleport(new WorldPoint(2538, 3863, 0), 2,
-									() -> jewelryTeleport("Miscellania", RING_OF_WEALTH)));
-						}
-						if (Quests.isFinished(Quest.BETWEEN_A_ROCK))
-						{
-							teleports.add(new Teleport(new WorldPoint(2828, 10166, 0), 2,
-									() -> jewelryTeleport("Miscellania", RING_OF_WEALTH)));
-						}
+				}
 
-					}
+				if (amuletOfGlory())
+				{
+					teleports.add(new Teleport(new WorldPoint(3087, 3496, 0), 0,
+						() -> jewelryTeleport("Edgeville", AMULET_OF_GLORY)));
+					teleports.add(new Teleport(new WorldPoint(2918, 3176, 0), 0,
+						() -> jewelryTeleport("Karamja", AMULET_OF_GLORY)));
+					teleports.add(new Teleport(new WorldPoint(3105, 3251, 0), 0,
+						() -> jewelryTeleport("Draynor Village", AMULET_OF_GLORY)));
+					teleports.add(new Teleport(new WorldPoint(3293, 3163, 0), 0,
+						() -> jewelryTeleport("Al Kharid", AMULET_OF_GLORY)));
+				}
 
-					if (amuletOfGlory())
-					{
-						teleports.add(new Teleport(new WorldPoint(3087, 3496, 0), 0,
-							() -> jewelryTeleport("Edgeville", AMULET_OF_GLORY)));
-						teleports.add(new Teleport(new WorldPoint(2918, 3176, 0), 0,
-							() -> jewelryTeleport("Karamja", AMULET_OF_GLORY)));
-						teleports.add(new Teleport(new WorldPoint(3105, 3251, 0), 0,
-							() -> jewelryTeleport("Draynor Village", AMULET_OF_GLORY)));
-						teleports.add(new Teleport(new WorldPoint(3293, 3163, 0), 0,
-							() -> jewelryTeleport("Al Kharid", AMULET_OF_GLORY)));
-					}
+				if (burningAmulet())
+				{
+					teleports.add(new Teleport(new WorldPoint(3235, 3636, 0), 5,
+							() -> jewelryWildernessTeleport( "Chaos Temple", BURNING_AMULET)));
+					teleports.add(new Teleport(new WorldPoint(3038, 3651, 0), 5,
+							() -> jewelryWildernessTeleport("Bandit Camp", BURNING_AMULET)));
+					teleports.add(new Teleport(new WorldPoint(3028, 3842, 0), 5,
+							() -> jewelryWildernessTeleport( "Lava Maze", BURNING_AMULET)));
+				}
 
-					if (burningAmulet())
+				if (slayerRing())
+				{
+					teleports.add(new Teleport(new WorldPoint(2432, 3423, 0), 2,
+							() -> slayerRingTeleport("Stronghold Slayer Cave", SLAYER_RING)));
+					teleports.add(new Teleport(new WorldPoint(3422, 3537, 0), 2,
+							() -> slayerRingTeleport("Slayer Tower", SLAYER_RING)));
+					teleports.add(new Teleport(new WorldPoint(2802, 10000, 0), 2,
+							() -> slayerRingTeleport("Fremennik Slayer Dungeon", SLAYER_RING)));
+					teleports.add(new Teleport(new WorldPoint(3185, 4601, 0), 2,
+							() -> slayerRingTeleport("Tarn's Lair", SLAYER_RING)));
+					if (Quests.isFinished(Quest.MOURNINGS_END_PART_II))
 					{
-						teleports.add(new Teleport(new WorldPoint(3235, 3636, 0), 5,
-								() -> jewelryWildernessTeleport( "Chaos Temple", BURNING_AMULET)));
-						teleports.add(new Teleport(new WorldPoint(3038, 3651, 0), 5,
-								() -> jewelryWildernessTeleport("Bandit Camp", BURNING_AMULET)));
-						teleports.add(new Teleport(new WorldPoint(3028, 3842, 0), 5,
-								() -> jewelryWildernessTeleport( "Lava Maze", BURNING_AMULET)));
+						teleports.add(new Teleport(new WorldPoint(2028, 4636, 0), 2,
+							() -> slayerRingTeleport("Dark Beasts", SLAYER_RING)));
 					}
+				}
+			}
 
-					if (slayerRing())
-					{
-						teleports.add(new Teleport(new WorldPoint(2432, 3423, 0), 2,
-								() -> slayerRingTeleport("Stronghold Slayer Cave", SLAYER_RING)));
-						teleports.add(new Teleport(new WorldPoint(3422, 3537, 0), 2,
-								() -> slayerRingTeleport("Slayer Tower", SLAYER_RING)));
-						teleports.add(new Teleport(new WorldPoint(2802, 10000, 0), 2,
-								() -> slayerRingTeleport("Fremennik Slayer Dungeon", SLAYER_RING)));
-						teleports.add(new Teleport(new WorldPoint(3185, 4601, 0), 2,
-								() -> slayerRingTeleport("Tarn's Lair", SLAYER_RING)));
-						if (Quests.isFinished(Quest.MOURNINGS_END_PART_II))
-						{
-							teleports.add(new Teleport(new WorldPoint(2028, 4636, 0), 2,
-								() -> slayerRingTeleport("Dark Beasts", SLAYER_RING)));
-						}
-					}
+			if (RegionManager.usePoh() && (canEnterHouse() || TileObjects.getNearest(ObjectID.PORTAL_4525) != null))
+			{
+				if (RegionManager.hasMountedGlory())
+				{
+					teleports.add(mountedPohTeleport(new WorldPoint(3087, 3496, 0), ObjectID.AMULET_OF_GLORY, "Edgeville"));
+					teleports.add(mountedPohTeleport(new WorldPoint(2918, 3176, 0), ObjectID.AMULET_OF_GLORY, "Karamja"));
+					teleports.add(mountedPohTeleport(new WorldPoint(3105, 3251, 0), ObjectID.AMULET_OF_GLORY, "Draynor Village"));
+					teleports.add(mountedPohTeleport(new WorldPoint(3293, 3163, 0), ObjectID.AMULET_OF_GLORY, "Al Kharid"));
 				}
 
-				if (RegionManager.usePoh() && (canEnterHouse() || TileObjects.getNearest(ObjectID.PORTAL_4525) != null))
+				if (RegionManager.hasMountedDigsitePendant())
 				{
-					if (RegionManager.hasMountedGlory())
+					teleports.add(pohDigsitePendantTeleport(new WorldPoint(3341, 3445, 0), 1));
+					teleports.add(pohDigsitePendantTeleport(new WorldPoint(3766, 3870, 1), 2));
+					if (Quests.isFinished(Quest.DRAGON_SLAYER_II))
 					{
-						teleports.add(mountedPohTeleport(new WorldPoint(3087, 3496, 0), ObjectID.AMULET_OF_GLORY, "Edgeville"));
-						teleports.add(mountedPohTeleport(new WorldPoint(2918, 3176, 0), ObjectID.AMULET_OF_GLORY, "Karamja"));
-						teleports.add(mountedPohTeleport(new WorldPoint(3105, 3251, 0), ObjectID.AMULET_OF_GLORY, "Draynor Village"));
-						teleports.add(mountedPohTeleport(new WorldPoint(3293, 3163, 0), ObjectID.AMULET_OF_GLORY, "Al Kharid"));
+						teleports.add(pohDigsitePendantTeleport(new WorldPoint(3549, 10456, 0), 3));
 					}
+				}
 
-					if (RegionManager.hasMountedDigsitePendant())
-					{
-						teleports.add(pohDigsitePendantTeleport(new WorldPoint(3341, 3445, 0), 1));
-						teleports.add(pohDigsitePendantTeleport(new WorldPoint(3766, 3870, 1), 2));
-						if (Quests.isFinished(Quest.DRAGON_SLAYER_II))
+				switch (RegionManager.hasJewelryBox())
+				{
+					case ORNATE:
+						if (Quests.isFinished(Quest.THRONE_OF_MISCELLANIA))
 						{
-							teleports.add(pohDigsitePendantTeleport(new WorldPoint(3549, 10456, 0), 3));
+							teleports.add(pohWidgetTeleport(new WorldPoint(2538, 3863, 0), 'j'));
 						}
-					}
-
-					switch (RegionManager.hasJewelryBox())
-					{
-						case ORNATE:
-							if (Quests.isFinished(Quest.THRONE_OF_MISCELLANIA))
-							{
-								teleports.add(pohWidgetTeleport(new WorldPoint(2538, 3863, 0), 'j'));
-							}
-							teleports.add(pohWidgetTeleport(new WorldPoint(3163, 3478, 0), 'k'));
-							teleports.add(pohWidgetTeleport(new WorldPoint(2996, 3375, 0), 'l'));
-							if (Quests.isFinished(Quest.BETWEEN_A_ROCK))
-							{
-								teleports.add(pohWidgetTeleport(new WorldPoint(2828, 10166, 0), 'm'));
-							}
-							teleports.add(pohWidgetTeleport(new WorldPoint(3087, 3496, 0), 'n'));
-							teleports.add(pohWidgetTeleport(new WorldPoint(2918, 3176, 0), 'o'));
-							teleports.add(pohWidgetTeleport(new WorldPoint(3105, 3251, 0), 'p'));
-							teleports.add(pohWidgetTeleport(new WorldPoint(3293, 3163, 0), 'q'));
-						case FANCY:
-							teleports.add(pohWidgetTeleport(new WorldPoint(2882, 3548, 0), '9'));
-							teleports.add(pohWidgetTeleport(new WorldPoint(3191, 3367, 0), 'a'));
-							teleports.add(pohWidgetTeleport(new WorldPoint(3052, 3488, 0), 'b'));
-							teleports.add(pohWidgetTeleport(new WorldPoint(2655, 3441, 0), 'c'));
-							teleports.add(pohWidgetTeleport(new WorldPoint(2611, 3390, 0), 'd'));
-							teleports.add(pohWidgetTeleport(new WorldPoint(3050, 9763, 0), 'e'));
-							teleports.add(pohWidgetTeleport(new WorldPoint(2933, 3295, 0), 'f'));
-							teleports.add(pohWidgetTeleport(new WorldPoint(3143, 3440, 0), 'g'));
-							teleports.add(pohWidgetTeleport(new WorldPoint(1662, 3505, 0), 'h'));
-							teleports.add(pohWidgetTeleport(new WorldPoint(1249, 3718, 0), 'i'));
-						case BASIC:
-							teleports.add(pohWidgetTeleport(new WorldPoint(3315, 3235, 0), '1'));
-							teleports.add(pohWidgetTeleport(new WorldPoint(2440, 3090, 0), '2'));
-							teleports.add(pohWidgetTeleport(new WorldPoint(3151, 3635, 0), '3'));
-							teleports.add(pohWidgetTeleport(new WorldPoint(2898, 3553, 0), '4'));
-							teleports.add(pohWidgetTeleport(new WorldPoint(2520, 3571, 0), '5'));
-							teleports.add(pohWidgetTeleport(new WorldPoint(2964, 4382, 2), '6'));
-							teleports.add(pohWidgetTeleport(new WorldPoint(3244, 9501, 2), '7'));
-							teleports.add(pohWidgetTeleport(new WorldPoint(1624, 3938, 0), '8'));
-							break;
-						default:
-					}
+						teleports.add(pohWidgetTeleport(new WorldPoint(3163, 3478, 0), 'k'));
+						teleports.add(pohWidgetTeleport(new WorldPoint(2996, 3375, 0), 'l'));
+						if (Quests.isFinished(Quest.BETWEEN_A_ROCK))
+						{
+							teleports.add(pohWidgetTeleport(new WorldPoint(2828, 10166, 0), 'm'));
+						}
+						teleports.add(pohWidgetTeleport(new WorldPoint(3087, 3496, 0), 'n'));
+						teleports.add(pohWidgetTeleport(new WorldPoint(2918, 3176, 0), 'o'));
+						teleports.add(pohWidgetTeleport(new WorldPoint(3105, 3251, 0), 'p'));
+						teleports.add(pohWidgetTeleport(new WorldPoint(3293, 3163, 0), 'q'));
+					case FANCY:
+						teleports.add(pohWidgetTeleport(new WorldPoint(2882, 3548, 0), '9'));
+						teleports.add(pohWidgetTeleport(new WorldPoint(3191, 3367, 0), 'a'));
+						teleports.add(pohWidgetTeleport(new WorldPoint(3052, 3488, 0), 'b'));
+						teleports.add(pohWidgetTeleport(new WorldPoint(2655, 3441, 0), 'c'));
+						teleports.add(pohWidgetTeleport(new WorldPoint(2611, 3390, 0), 'd'));
+						teleports.add(pohWidgetTeleport(new WorldPoint(3050, 9763, 0), 'e'));
+						teleports.add(pohWidgetTeleport(new WorldPoint(2933, 3295, 0), 'f'));
+						teleports.add(pohWidgetTeleport(new WorldPoint(3143, 3440, 0), 'g'));
+						teleports.add(pohWidgetTeleport(new WorldPoint(1662, 3505, 0), 'h'));
+						teleports.add(pohWidgetTeleport(new WorldPoint(1249, 3718, 0), 'i'));
+					case BASIC:
+						teleports.add(pohWidgetTeleport(new WorldPoint(3315, 3235, 0), '1'));
+						teleports.add(pohWidgetTeleport(new WorldPoint(2440, 3090, 0), '2'));
+						teleports.add(pohWidgetTeleport(new WorldPoint(3151, 3635, 0), '3'));
+						teleports.add(pohWidgetTeleport(new WorldPoint(2898, 3553, 0), '4'));
+						teleports.add(pohWidgetTeleport(new WorldPoint(2520, 3571, 0), '5'));
+						teleports.add(pohWidgetTeleport(new WorldPoint(2964, 4382, 2), '6'));
+						teleports.add(pohWidgetTeleport(new WorldPoint(3244, 9501, 2), '7'));
+						teleports.add(pohWidgetTeleport(new WorldPoint(1624, 3938, 0), '8'));
+						break;
+					default:
+				}
+
+				//nexus portal
+				List<Teleport> nexusTeleports = getNexusTeleports();
+				teleports.addAll(nexusTeleports);
+
+				//normal house portals (remove duplicate teleports)
+				RegionManager.getHousePortals().stream().
+					filter(housePortal -> nexusTeleports.stream().
+						noneMatch(teleport -> teleport.getDestination().equals(housePortal.getDestination()))).
+					forEach(housePortal -> teleports.add(pohPortalTeleport(housePortal)));
+			}
+		}
 
-					//nexus portal
-					List<Teleport> nexusTeleports = getNexusTeleports();
-					teleports.addAll(nexusTeleports);
+		boolean changed = !destinations(LAST_TELEPORT_LIST).equals(destinations(teleports));
+		LAST_TELEPORT_LIST = teleports;
+		return changed;
+	}
 
-					//normal house portals (remove duplicate teleports)
-					RegionManager.getHousePortals().stream().
-						filter(housePortal -> nexusTeleports.stream().
-							noneMatch(teleport -> teleport.getDestination().equals(housePortal.getDestination()))).
-						forEach(housePortal -> teleports.add(pohPortalTeleport(housePortal)));
-				}
-			}
+	private static Set<WorldPoint> destinations(List<Teleport> teleports)
+	{
+		Set<WorldPoint> out = new HashSet<>();
+		for (Teleport teleport : teleports)
+		{
+			out.add(teleport.getDestination());
+		}
 
-			LAST_TELEPORT_LIST.clear();
-			LAST_TELEPORT_LIST.addAll(teleports);
-		});
+		return out;
 	}
 
 	public static boolean canEnterHouse()
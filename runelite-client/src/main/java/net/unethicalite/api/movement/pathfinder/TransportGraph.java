@@ -0,0 +1,354 @@
+package net.unethicalite.api.movement.pathfinder;
+
+import com.google.gson.Gson;
+import net.runelite.api.Quest;
+import net.runelite.api.QuestState;
+import net.runelite.api.Skill;
+import net.runelite.api.coords.WorldPoint;
+import net.unethicalite.api.movement.pathfinder.model.Transport;
+import net.unethicalite.api.movement.pathfinder.model.dto.TransportDto;
+import net.unethicalite.api.movement.pathfinder.model.requirement.Comparison;
+import net.unethicalite.api.movement.pathfinder.model.requirement.ItemRequirement;
+import net.unethicalite.api.movement.pathfinder.model.requirement.QuestRequirement;
+import net.unethicalite.api.movement.pathfinder.model.requirement.Reduction;
+import net.unethicalite.api.movement.pathfinder.model.requirement.Requirements;
+import net.unethicalite.api.movement.pathfinder.model.requirement.SkillRequirement;
+import net.unethicalite.api.movement.pathfinder.model.requirement.VarRequirement;
+import net.unethicalite.api.movement.pathfinder.model.requirement.VarType;
+import net.unethicalite.api.movement.pathfinder.model.requirement.WorldRequirement;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compact binary form of transports.json, compiled at build time by {@link #main(String[])}.
+ * <p>
+ * Layout, big-endian:
+ * <pre>
+ * int magic, int version
+ * int stringCount, then per string: short length, UTF-8 bytes     (actions and enum names)
+ * int requirementsLength, then the requirement program bytes
+ * int transportCount, then per transport sorted by source:
+ *     int source, int destination (packed like {@link AStarPathfinder#pack}), int objectId,
+ *     short action string, int requirements offset (-1 for none)
+ * </pre>
+ * Each distinct requirement set is stored once as a sequence of ops ending in {@link #OP_END}, and
+ * transports with the same requirements share the decoded {@link Requirements}.
+ */
+public class TransportGraph
+{
+	private static final int MAGIC = 0x54524E53;
+	private static final int VERSION = 1;
+
+	private static final int OP_END = 0;
+	private static final int OP_ITEM = 1;
+	private static final int OP_SKILL = 2;
+	private static final int OP_VAR = 3;
+	private static final int OP_QUEST = 4;
+	private static final int OP_WORLD = 5;
+
+	public static void main(String[] args) throws IOException
+	{
+		if (args.length != 2)
+		{
+			System.err.println("Usage: TransportGraph <transports.json> <transports.bin>");
+			System.exit(1);
+		}
+
+		TransportDto[] transports = new Gson().fromJson(
+			new String(Files.readAllBytes(new File(args[0]).toPath()), StandardCharsets.UTF_8), TransportDto[].class);
+
+		File out = new File(args[1]);
+		if (out.getParentFile() != null)
+		{
+			out.getParentFile().mkdirs();
+		}
+
+		try (OutputStream os = Files.newOutputStream(out.toPath()))
+		{
+			write(transports, os);
+		}
+
+		System.out.println("Compiled " + transports.length + " transports to " + out + " (" + out.length() + " bytes)");
+	}
+
+	public static void write(TransportDto[] transports, OutputStream os) throws IOException
+	{
+		TransportDto[] sorted = transports.clone();
+		Arrays.sort(sorted, Comparator.comparingInt(t -> pack(t.getSource())));
+
+		Map<String, Integer> strings = new LinkedHashMap<>();
+		Map<String, Integer> programs = new HashMap<>();
+		ByteArrayOutputStream programBytes = new ByteArrayOutputStream();
+		DataOutputStream program = new DataOutputStream(programBytes);
+
+		int[] actions = new int[sorted.length];
+		int[] offsets = new int[sorted.length];
+		for (int i = 0; i < sorted.length; i++)
+		{
+			actions[i] = intern(strings, sorted[i].getAction());
+
+			byte[] code = compile(sorted[i].getRequirements(), strings);
+			if (code == null)
+			{
+				offsets[i] = -1;
+				continue;
+			}
+
+			String key = new String(code, StandardCharsets.ISO_8859_1);
+			Integer offset = programs.get(key);
+			if (offset == null)
+			{
+				offset = program.size();
+				program.write(code);
+				programs.put(key, offset);
+			}
+
+			offsets[i] = offset;
+		}
+
+		DataOutputStream dos = new DataOutputStream(os);
+		dos.writeInt(MAGIC);
+		dos.writeInt(VERSION);
+
+		dos.writeInt(strings.size());
+		for (String s : strings.keySet())
+		{
+			byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+			dos.writeShort(bytes.length);
+			dos.write(bytes);
+		}
+
+		dos.writeInt(program.size());
+		programBytes.writeTo(dos);
+
+		dos.writeInt(sorted.length);
+		for (int i = 0; i < sorted.length; i++)
+		{
+			TransportDto t = sorted[i];
+			dos.writeInt(pack(t.getSource()));
+			dos.writeInt(pack(t.getDestination()));
+			dos.writeInt(t.getObjectId() == null ? -1 : t.getObjectId());
+			dos.writeShort(actions[i]);
+			dos.writeInt(offsets[i]);
+		}
+
+		dos.flush();
+	}
+
+	/**
+	 * Decodes a compiled graph into object transports, sharing positions, actions and requirements between
+	 * transports where they are equal.
+	 */
+	public static List<Transport> read(ByteBuffer buf)
+	{
+		if (buf.getInt() != MAGIC)
+		{
+			throw new IllegalArgumentException("Not a transport graph");
+		}
+
+		int version = buf.getInt();
+		if (version != VERSION)
+		{
+			throw new IllegalArgumentException("Unsupported transport graph version " + version);
+		}
+
+		String[] strings = new String[buf.getInt()];
+		for (int i = 0; i < strings.length; i++)
+		{
+			byte[] bytes = new byte[buf.getShort() & 0xFFFF];
+			buf.get(bytes);
+			strings[i] = new String(bytes, StandardCharsets.UTF_8);
+		}
+
+		int programLength = buf.getInt();
+		ByteBuffer program = buf.slice();
+		program.limit(programLength);
+		buf.position(buf.position() + programLength);
+
+		Map<Integer, Requirements> requirements = new HashMap<>();
+		Map<Integer, WorldPoint> points = new HashMap<>();
+		int count = buf.getInt();
+		List<Transport> out = new ArrayList<>(count);
+		for (int i = 0; i < count; i++)
+		{
+			WorldPoint source = points.computeIfAbsent(buf.getInt(), TransportGraph::unpack);
+			WorldPoint destination = points.computeIfAbsent(buf.getInt(), TransportGraph::unpack);
+			int objectId = buf.getInt();
+			String action = strings[buf.getShort() & 0xFFFF];
+			int offset = buf.getInt();
+
+			Requirements reqs = offset == -1
+				? new Requirements()
+				: requirements.computeIfAbsent(offset, o -> decode(program, o, strings));
+			out.add(TransportLoader.objectTransport(source, destination, objectId, action, reqs));
+		}
+
+		return out;
+	}
+
+	private static byte[] compile(Requirements requirements, Map<String, Integer> strings) throws IOException
+	{
+		if (requirements == null)
+		{
+			return null;
+		}
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream code = new DataOutputStream(bytes);
+
+		for (ItemRequirement req : requirements.getItemRequirements())
+		{
+			code.writeByte(OP_ITEM);
+			code.writeByte(req.getReduction().ordinal());
+			code.writeBoolean(req.isEquipped());
+			code.writeInt(req.getAmount());
+			code.writeShort(req.getIds().size());
+			for (int id : req.getIds())
+			{
+				code.writeInt(id);
+			}
+		}
+
+		for (SkillRequirement req : requirements.getSkillRequirements())
+		{
+			code.writeByte(OP_SKILL);
+			code.writeShort(intern(strings, req.getSkill().name()));
+			code.writeShort(req.getLevel());
+		}
+
+		for (VarRequirement req : requirements.getVarRequirements())
+		{
+			code.writeByte(OP_VAR);
+			code.writeByte(req.getComparison().ordinal());
+			code.writeByte(req.getType().ordinal());
+			code.writeInt(req.getVar());
+			code.writeInt(req.getValue());
+		}
+
+		for (QuestRequirement req : requirements.getQuestRequirements())
+		{
+			code.writeByte(OP_QUEST);
+			code.writeShort(intern(strings, req.getQuest().name()));
+			code.writeByte(req.getStates().size());
+			for (QuestState state : req.getStates())
+			{
+				code.writeByte(state.ordinal());
+			}
+		}
+
+		for (WorldRequirement req : requirements.getWorldRequirements())
+		{
+			code.writeByte(OP_WORLD);
+			code.writeBoolean(req.isMemberWorld());
+		}
+
+		if (code.size() == 0)
+		{
+			return null;
+		}
+
+		code.writeByte(OP_END);
+		return bytes.toByteArray();
+	}
+
+	private static Requirements decode(ByteBuffer program, int offset, String[] strings)
+	{
+		Requirements requirements = new Requirements();
+		int pos = offset;
+		while (true)
+		{
+			int op = program.get(pos++);
+			switch (op)
+			{
+				case OP_END:
+					return requirements;
+				case OP_ITEM:
+				{
+					Reduction reduction = Reduction.values()[program.get(pos++)];
+					boolean equipped = program.get(pos++) != 0;
+					int amount = program.getInt(pos);
+					pos += 4;
+					int idCount = program.getShort(pos) & 0xFFFF;
+					pos += 2;
+					List<Integer> ids = new ArrayList<>(idCount);
+					for (int i = 0; i < idCount; i++)
+					{
+						ids.add(program.getInt(pos));
+						pos += 4;
+					}
+
+					requirements.getItemRequirements().add(new ItemRequirement(reduction, equipped, ids, amount));
+					break;
+				}
+				case OP_SKILL:
+				{
+					Skill skill = Skill.valueOf(strings[program.getShort(pos) & 0xFFFF]);
+					int level = program.getShort(pos + 2);
+					pos += 4;
+					requirements.getSkillRequirements().add(new SkillRequirement(skill, level));
+					break;
+				}
+				case OP_VAR:
+				{
+					Comparison comparison = Comparison.values()[program.get(pos++)];
+					VarType type = VarType.values()[program.get(pos++)];
+					int var = program.getInt(pos);
+					int value = program.getInt(pos + 4);
+					pos += 8;
+					requirements.getVarRequirements().add(new VarRequirement(comparison, type, var, value));
+					break;
+				}
+				case OP_QUEST:
+				{
+					Quest quest = Quest.valueOf(strings[program.getShort(pos) & 0xFFFF]);
+					pos += 2;
+					int stateCount = program.get(pos++);
+					Set<QuestState> states = EnumSet.noneOf(QuestState.class);
+					for (int i = 0; i < stateCount; i++)
+					{
+						states.add(QuestState.values()[program.get(pos++)]);
+					}
+
+					requirements.getQuestRequirements().add(new QuestRequirement(quest, states));
+					break;
+				}
+				case OP_WORLD:
+					requirements.getWorldRequirements().add(new WorldRequirement(program.get(pos++) != 0));
+					break;
+				default:
+					throw new IllegalArgumentException("Unknown requirement op " + op + " at " + (pos - 1));
+			}
+		}
+	}
+
+	private static int intern(Map<String, Integer> strings, String s)
+	{
+		return strings.computeIfAbsent(s, k -> strings.size());
+	}
+
+	private static int pack(WorldPoint point)
+	{
+		return AStarPathfinder.pack(point.getX(), point.getY(), point.getPlane());
+	}
+
+	private static WorldPoint unpack(int packed)
+	{
+		return new WorldPoint(AStarPathfinder.unpackX(packed), AStarPathfinder.unpackY(packed), AStarPathfinder.unpackPlane(packed));
+	}
+}
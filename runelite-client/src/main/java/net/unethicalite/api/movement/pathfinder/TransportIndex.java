@@ -0,0 +1,267 @@
+package net.unethicalite.api.movement.pathfinder;
+
+import net.runelite.api.Item;
+import net.runelite.api.Quest;
+import net.runelite.api.QuestState;
+import net.runelite.api.Skill;
+import net.unethicalite.api.game.Worlds;
+import net.unethicalite.api.movement.pathfinder.model.Transport;
+import net.unethicalite.api.movement.pathfinder.model.TransportDelta;
+import net.unethicalite.api.movement.pathfinder.model.requirement.ItemRequirement;
+import net.unethicalite.api.movement.pathfinder.model.requirement.QuestRequirement;
+import net.unethicalite.api.movement.pathfinder.model.requirement.Requirements;
+import net.unethicalite.api.movement.pathfinder.model.requirement.SkillRequirement;
+import net.unethicalite.api.movement.pathfinder.model.requirement.VarRequirement;
+import net.unethicalite.api.movement.pathfinder.model.requirement.VarType;
+import net.unethicalite.api.movement.pathfinder.model.requirement.WorldRequirement;
+import net.unethicalite.api.quests.Quests;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Availability of the static transports, kept up to date incrementally. Every transport is indexed under
+ * the items, skills, vars, quests and world type its requirements read, so a change to one of them only
+ * re-evaluates the transports it gates. Each update returns the transports that became available or
+ * unavailable.
+ * <p>
+ * Updates read game state and must be made on the client thread.
+ */
+public class TransportIndex
+{
+	private static final int ITEM = 1;
+	private static final int SKILL = 2;
+	private static final int VARBIT = 3;
+	private static final int VARP = 4;
+
+	private final List<Transport> transports;
+	private final BitSet available = new BitSet();
+	private final Map<Long, List<Integer>> dependents = new HashMap<>();
+	private final Map<Quest, List<Integer>> questDependents = new EnumMap<>(Quest.class);
+	private final List<Integer> worldDependents = new ArrayList<>();
+
+	private final Map<Integer, Integer> itemSlots = new HashMap<>();
+	private final Map<Integer, int[]> itemCounts = new HashMap<>();
+	private final Map<Quest, QuestState> questStates = new EnumMap<>(Quest.class);
+	private Boolean membersWorld;
+
+	public TransportIndex(List<Transport> transports)
+	{
+		this.transports = List.copyOf(transports);
+		for (int i = 0; i < this.transports.size(); i++)
+		{
+			Requirements requirements = this.transports.get(i).getRequirements();
+			for (ItemRequirement req : requirements.getItemRequirements())
+			{
+				for (int id : req.getIds())
+				{
+					itemSlots.putIfAbsent(id, itemSlots.size());
+					depend(key(ITEM, id), i);
+				}
+			}
+
+			for (SkillRequirement req : requirements.getSkillRequirements())
+			{
+				depend(key(SKILL, req.getSkill().ordinal()), i);
+			}
+
+			for (VarRequirement req : requirements.getVarRequirements())
+			{
+				depend(key(req.getType() == VarType.VARBIT ? VARBIT : VARP, req.getVar()), i);
+			}
+
+			for (QuestRequirement req : requirements.getQuestRequirements())
+			{
+				List<Integer> list = questDependents.computeIfAbsent(req.getQuest(), k -> new ArrayList<>());
+				if (list.isEmpty() || list.get(list.size() - 1) != i)
+				{
+					list.add(i);
+				}
+			}
+
+			if (!requirements.getWorldRequirements().isEmpty())
+			{
+				worldDependents.add(i);
+			}
+		}
+	}
+
+	/**
+	 * Currently available transports, in their original order.
+	 */
+	public synchronized List<Transport> getAvailable()
+	{
+		List<Transport> out = new ArrayList<>(available.cardinality());
+		for (int i = available.nextSetBit(0); i >= 0; i = available.nextSetBit(i + 1))
+		{
+			out.add(transports.get(i));
+		}
+
+		return out;
+	}
+
+	/**
+	 * Re-evaluates every transport and resets the tracked item, quest and world state.
+	 */
+	public synchronized TransportDelta evaluateAll()
+	{
+		itemCounts.clear();
+		questStates.clear();
+		for (Quest quest : questDependents.keySet())
+		{
+			questStates.put(quest, Quests.getState(quest));
+		}
+
+		membersWorld = Worlds.inMembersWorld();
+
+		BitSet all = new BitSet();
+		all.set(0, transports.size());
+		return evaluate(all);
+	}
+
+	public synchronized TransportDelta varChanged(int varbitId, int varpId)
+	{
+		BitSet affected = new BitSet();
+		if (varbitId != -1)
+		{
+			collect(dependents.get(key(VARBIT, varbitId)), affected);
+		}
+
+		if (varpId != -1)
+		{
+			collect(dependents.get(key(VARP, varpId)), affected);
+		}
+
+		return evaluate(affected);
+	}
+
+	public synchronized TransportDelta skillChanged(Skill skill)
+	{
+		BitSet affected = new BitSet();
+		collect(dependents.get(key(SKILL, skill.ordinal())), affected);
+		return evaluate(affected);
+	}
+
+	/**
+	 * Re-evaluates the transports gated by items whose total quantity in the container changed since the last
+	 * update for that container.
+	 */
+	public synchronized TransportDelta itemsChanged(int containerId, Item[] items)
+	{
+		if (itemSlots.isEmpty())
+		{
+			return TransportDelta.EMPTY;
+		}
+
+		int[] counts = new int[itemSlots.size()];
+		for (Item item : items)
+		{
+			Integer slot = itemSlots.get(item.getId());
+			if (slot != null)
+			{
+				counts[slot] += item.getQuantity();
+			}
+		}
+
+		int[] previous = itemCounts.put(containerId, counts);
+		BitSet affected = new BitSet();
+		for (Map.Entry<Integer, Integer> entry : itemSlots.entrySet())
+		{
+			int slot = entry.getValue();
+			if (previous == null || previous[slot] != counts[slot])
+			{
+				collect(dependents.get(key(ITEM, entry.getKey())), affected);
+			}
+		}
+
+		return evaluate(affected);
+	}
+
+	/**
+	 * Re-evaluates the transports gated by quests whose state changed since the last update.
+	 */
+	public synchronized TransportDelta questsChanged()
+	{
+		BitSet affected = new BitSet();
+		for (Map.Entry<Quest, List<Integer>> entry : questDependents.entrySet())
+		{
+			QuestState state = Quests.getState(entry.getKey());
+			if (questStates.put(entry.getKey(), state) != state)
+			{
+				collect(entry.getValue(), affected);
+			}
+		}
+
+		return evaluate(affected);
+	}
+
+	public synchronized TransportDelta worldChanged()
+	{
+		boolean members = Worlds.inMembersWorld();
+		if (membersWorld != null && membersWorld == members)
+		{
+			return TransportDelta.EMPTY;
+		}
+
+		membersWorld = members;
+		BitSet affected = new BitSet();
+		collect(worldDependents, affected);
+		return evaluate(affected);
+	}
+
+	private TransportDelta evaluate(BitSet affected)
+	{
+		if (affected.isEmpty())
+		{
+			return TransportDelta.EMPTY;
+		}
+
+		List<Transport> added = new ArrayList<>();
+		List<Transport> removed = new ArrayList<>();
+		for (int i = affected.nextSetBit(0); i >= 0; i = affected.nextSetBit(i + 1))
+		{
+			Transport transport = transports.get(i);
+			boolean fulfilled = transport.getRequirements().fulfilled();
+			if (fulfilled == available.get(i))
+			{
+				continue;
+			}
+
+			available.set(i, fulfilled);
+			(fulfilled ? added : removed).add(transport);
+		}
+
+		return added.isEmpty() && removed.isEmpty() ? TransportDelta.EMPTY : new TransportDelta(added, removed);
+	}
+
+	private void depend(long key, int index)
+	{
+		List<Integer> list = dependents.computeIfAbsent(key, k -> new ArrayList<>());
+		if (list.isEmpty() || list.get(list.size() - 1) != index)
+		{
+			list.add(index);
+		}
+	}
+
+	private static void collect(List<Integer> indices, BitSet out)
+	{
+		if (indices == null)
+		{
+			return;
+		}
+
+		for (int index : indices)
+		{
+			out.set(index);
+		}
+	}
+
+	private static long key(int kind, int id)
+	{
+		return ((long) kind << 32) | (id & 0xFFFFFFFFL);
+	}
+}
@@ -27,6 +27,7 @@ import net.unethicalite.api.items.Inventory;
 import net.unethicalite.api.movement.Movement;
 import net.unethicalite.api.movement.pathfinder.model.FairyRingLocation;
 import net.unethicalite.api.movement.pathfinder.model.Transport;
+import net.unethicalite.api.movement.pathfinder.model.TransportDelta;
 import net.unethicalite.api.movement.pathfinder.model.dto.TransportDto;
 import net.unethicalite.api.movement.pathfinder.model.requirement.Requirements;
 import net.unethicalite.api.quests.Quests;
@@ -36,10 +37,15 @@ import org.apache.commons.lang3.tuple.Pair;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static net.unethicalite.api.movement.pathfinder.model.MovementConstants.*;
@@ -49,33 +55,71 @@ public class TransportLoader
 {
 	private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
 
-	private static List<Transport> ALL_STATIC_TRANSPORTS = new ArrayList<>();
-	private static List<Transport> LAST_TRANSPORT_LIST = new ArrayList<>();
+	private static volatile List<Transport> ALL_STATIC_TRANSPORTS = List.of();
+	private static volatile List<Transport> LAST_TRANSPORT_LIST = new ArrayList<>();
+	private static volatile List<Transport> LAST_HARDCODED_LIST = new ArrayList<>();
+	private static volatile TransportIndex STATIC_INDEX = new TransportIndex(List.of());
 
 	public static void init()
 	{
 		log.info("Loading transports");
+		long start = System.nanoTime();
+		List<Transport> transports = List.of();
+		try (InputStream stream = Walker.class.getResourceAsStream("/transports.bin"))
+		{
+			if (stream != null)
+			{
+				transports = TransportGraph.read(ByteBuffer.wrap(stream.readAllBytes()));
+			}
+		}
+		catch (IOException | RuntimeException e)
+		{
+			log.warn("Failed to load compiled transports, falling back to json", e);
+			transports = List.of();
+		}
+
+		if (transports.isEmpty())
+		{
+			transports = loadJson();
+		}
+
+		// published once complete, so readers never see a partially loaded list
+		ALL_STATIC_TRANSPORTS = List.copyOf(transports);
+		STATIC_INDEX = new TransportIndex(ALL_STATIC_TRANSPORTS);
+
+		log.info("Loaded {} transports in {}ms", ALL_STATIC_TRANSPORTS.size(),
+				TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+	}
+
+	private static List<Transport> loadJson()
+	{
 		try (InputStream stream = Walker.class.getResourceAsStream("/transports.json"))
 		{
 			if (stream == null)
 			{
 				log.error("Failed to load transports.");
-				return;
+				return List.of();
 			}
 
 			TransportDto[] json = GSON.fromJson(new String(stream.readAllBytes()), TransportDto[].class);
 
-			List<Transport> list = Arrays.stream(json)
+			return Arrays.stream(json)
 					.map(TransportDto::toTransport)
 					.collect(Collectors.toList());
-			ALL_STATIC_TRANSPORTS.addAll(list);
 		}
 		catch (IOException e)
 		{
 			log.error("Failed to load transports.", e);
+			return List.of();
 		}
+	}
 
-		log.info("Loaded {} transports", ALL_STATIC_TRANSPORTS.size());
+	/**
+	 * @return the static transports, an immutable list replaced as a whole once loading completes
+	 */
+	public static List<Transport> getStaticTransports()
+	{
+		return ALL_STATIC_TRANSPORTS;
 	}
 
 	public static List<Transport> buildTransports()
@@ -85,270 +129,332 @@ public class TransportLoader
 
 	public static void refreshTransports()
 	{
-		GameThread.invoke(() ->
+		GameThread.invoke(() -> updateTransports(TransportIndex::evaluateAll, true));
+	}
+
+	/**
+	 * Applies a state change to the static transport index, re-evaluating only the transports it gates, and
+	 * optionally rebuilds the hardcoded transports. The transport list is only republished when the set of
+	 * available transports changed. Must be called on the client thread.
+	 *
+	 * @return the transports which became available or unavailable
+	 */
+	public static synchronized TransportDelta updateTransports(Function<TransportIndex, TransportDelta> change, boolean rebuildHardcoded)
+	{
+		TransportIndex index = STATIC_INDEX;
+		TransportDelta delta = change.apply(index);
+		List<Transport> hardcoded = LAST_HARDCODED_LIST;
+		if (rebuildHardcoded)
 		{
-			List<Transport> filteredStatic = ALL_STATIC_TRANSPORTS.stream()
-					.filter(it -> it.getRequirements().fulfilled())
-					.collect(Collectors.toList());
+			List<Transport> rebuilt = buildHardcodedTransports();
+			delta = delta.plus(diff(hardcoded, rebuilt));
+			hardcoded = rebuilt;
+		}
+
+		if (!delta.isEmpty())
+		{
+			List<Transport> refreshed = index.getAvailable();
+			refreshed.addAll(hardcoded);
+			LAST_HARDCODED_LIST = hardcoded;
+			LAST_TRANSPORT_LIST = refreshed;
+		}
 
-			List<Transport> transports = new ArrayList<>();
+		return delta;
+	}
 
-			int gold = Inventory.getFirst(995) != null ? Inventory.getFirst(995).getQuantity() : 0;
+	/**
+	 * Hardcoded transports are rebuilt with fresh handlers every time, so they are compared by their
+	 * source and destination.
+	 */
+	private static TransportDelta diff(List<Transport> previous, List<Transport> current)
+	{
+		Map<Pair<WorldPoint, WorldPoint>, Integer> counts = new HashMap<>();
+		for (Transport transport : previous)
+		{
+			counts.merge(Pair.of(transport.getSource(), transport.getDestination()), 1, Integer::sum);
+		}
 
-			if (gold >= 30)
+		List<Transport> added = new ArrayList<>();
+		for (Transport transport : current)
+		{
+			Pair<WorldPoint, WorldPoint> key = Pair.of(transport.getSource(), transport.getDestination());
+			if (counts.merge(key, -1, Integer::sum) < 0)
 			{
-				if (Quests.isFinished(Quest.PIRATES_TREASURE))
-				{
-					transports.add(npcTransport(new WorldPoint(3027, 3218, 0), new WorldPoint(2956, 3143, 1), 3644, "Pay-fare"));
-					transports.add(npcTransport(new WorldPoint(2954, 3147, 0), new WorldPoint(3032, 3217, 1), 3648, "Pay-Fare"));
-				}
-				else
-				{
-					transports.add(npcDialogTransport(new WorldPoint(3027, 3218, 0), new WorldPoint(2956, 3143, 1), 3644, "Yes please."));
-					transports.add(npcDialogTransport(new WorldPoint(2954, 3147, 0), new WorldPoint(3032, 3217, 1), 3648, "Can I journey on this ship?", "Search away, I have nothing to hide.", "Ok"));
-				}
+				added.add(transport);
 			}
+		}
 
-			if (Worlds.inMembersWorld())
-			{
-				//Shamans
-				transports.add(objectTransport(new WorldPoint(1312, 3685, 0), new WorldPoint(1312, 10086, 0), 34405, "Enter"));
-				/**
-				 * Doors for shamans
-				 */
-				transports.add(objectTransport(new WorldPoint(1293, 10090, 0), new WorldPoint(1293, 10093, 0), 34642, "Pass"));
-				transports.add(objectTransport(new WorldPoint(1293, 10093, 0), new WorldPoint(1293, 10091, 0), 34642, "Pass"));
-				transports.add(objectTransport(new WorldPoint(1296, 10096, 0), new WorldPoint(1298, 10096, 0), 34642, "Pass"));
-				transports.add(objectTransport(new WorldPoint(1298, 10096, 0), new WorldPoint(1296, 10096, 0), 34642, "Pass"));
-				transports.add(objectTransport(new WorldPoint(1307, 10096, 0), new WorldPoint(1309, 10096, 0), 34642, "Pass"));
-				transports.add(objectTransport(new WorldPoint(1309, 10096, 0), new WorldPoint(1307, 10096, 0), 34642, "Pass"));
-				transports.add(objectTransport(new WorldPoint(1316, 10096, 0), new WorldPoint(1318, 10096, 0), 34642, "Pass"));
-				transports.add(objectTransport(new WorldPoint(1318, 10096, 0), new WorldPoint(1316, 10096, 0), 34642, "Pass"));
-				transports.add(objectTransport(new WorldPoint(1324, 10096, 0), new WorldPoint(1326, 10096, 0), 34642, "Pass"));
-				transports.add(objectTransport(new WorldPoint(1326, 10096, 0), new WorldPoint(1324, 10096, 0), 34642, "Pass"));
-
-				// Crabclaw island
-				if (gold >= 10_000)
-				{
-					transports.add(npcTransport(new WorldPoint(1782, 3458, 0), new WorldPoint(1778, 3417, 0), 7483, "Travel"));
-				}
+		List<Transport> removed = new ArrayList<>();
+		for (Transport transport : previous)
+		{
+			Pair<WorldPoint, WorldPoint> key = Pair.of(transport.getSource(), transport.getDestination());
+			if (counts.getOrDefault(key, 0) > 0)
+			{
+				counts.merge(key, -1, Integer::sum);
+				removed.add(transport);
+			}
+		}
+
+		return added.isEmpty() && removed.isEmpty() ? TransportDelta.EMPTY : new TransportDelta(added, removed);
+	}
 
-				transports.add(npcTransport(new WorldPoint(1779, 3418, 0), new WorldPoint(1784, 3458, 0), 7484, "Travel"));
+	private static List<Transport> buildHardcodedTransports()
+	{
+		List<Transport> transports = new ArrayList<>();
+
+		int gold = Inventory.getFirst(995) != null ? Inventory.getFirst(995).getQuantity() : 0;
 
-				// Port sarim
-				if (Vars.getBit(4897) == 0)
+		if (gold >= 30)
+		{
+			if (Quests.isFinished(Quest.PIRATES_TREASURE))
+			{
+				transports.add(npcTransport(new WorldPoint(3027, 3218, 0), new WorldPoint(2956, 3143, 1), 3644, "Pay-fare"));
+				transports.add(npcTransport(new WorldPoint(2954, 3147, 0), new WorldPoint(3032, 3217, 1), 3648, "Pay-Fare"));
+			}
+			else
+			{
+				transports.add(npcDialogTransport(new WorldPoint(3027, 3218, 0), new WorldPoint(2956, 3143, 1), 3644, "Yes please."));
+				transports.add(npcDialogTransport(new WorldPoint(2954, 3147, 0), new WorldPoint(3032, 3217, 1), 3648, "Can I journey on this ship?", "Search away, I have nothing to hide.", "Ok"));
+			}
+		}
+
+		if (Worlds.inMembersWorld())
+		{
+			//Shamans
+			transports.add(objectTransport(new WorldPoint(1312, 3685, 0), new WorldPoint(1312, 10086, 0), 34405, "Enter"));
+			/**
+			 * Doors for shamans
+			 */
+			transports.add(objectTransport(new WorldPoint(1293, 10090, 0), new WorldPoint(1293, 10093, 0), 34642, "Pass"));
+			transports.add(objectTransport(new WorldPoint(1293, 10093, 0), new WorldPoint(1293, 10091, 0), 34642, "Pass"));
+			transports.add(objectTransport(new WorldPoint(1296, 10096, 0), new WorldPoint(1298, 10096, 0), 34642, "Pass"));
+			transports.add(objectTransport(new WorldPoint(1298, 10096, 0), new WorldPoint(1296, 10096, 0), 34642, "Pass"));
+			transports.add(objectTransport(new WorldPoint(1307, 10096, 0), new WorldPoint(1309, 10096, 0), 34642, "Pass"));
+			transports.add(objectTransport(new WorldPoint(1309, 10096, 0), new WorldPoint(1307, 10096, 0), 34642, "Pass"));
+			transports.add(objectTransport(new WorldPoint(1316, 10096, 0), new WorldPoint(1318, 10096, 0), 34642, "Pass"));
+			transports.add(objectTransport(new WorldPoint(1318, 10096, 0), new WorldPoint(1316, 10096, 0), 34642, "Pass"));
+			transports.add(objectTransport(new WorldPoint(1324, 10096, 0), new WorldPoint(1326, 10096, 0), 34642, "Pass"));
+			transports.add(objectTransport(new WorldPoint(1326, 10096, 0), new WorldPoint(1324, 10096, 0), 34642, "Pass"));
+
+			// Crabclaw island
+			if (gold >= 10_000)
+			{
+				transports.add(npcTransport(new WorldPoint(1782, 3458, 0), new WorldPoint(1778, 3417, 0), 7483, "Travel"));
+			}
+
+			transports.add(npcTransport(new WorldPoint(1779, 3418, 0), new WorldPoint(1784, 3458, 0), 7484, "Travel"));
+
+			// Port sarim
+			if (Vars.getBit(4897) == 0)
+			{
+				if (Vars.getBit(8063) >= 7)
 				{
-					if (Vars.getBit(8063) >= 7)
-					{
-						transports.add(npcDialogTransport(new WorldPoint(3054, 3245, 0),
-								new WorldPoint(1824, 3691, 0),
-								8484,
-								"Can you take me to Great Kourend?"));
-					}
-					else
-					{
-						transports.add(npcDialogTransport(new WorldPoint(3054, 3245, 0),
-								new WorldPoint(1824, 3691, 0),
-								8484,
-								"That's great, can you take me there please?"));
-					}
+					transports.add(npcDialogTransport(new WorldPoint(3054, 3245, 0),
+							new WorldPoint(1824, 3691, 0),
+							8484,
+							"Can you take me to Great Kourend?"));
 				}
 				else
 				{
-					transports.add(npcTransport(new WorldPoint(3054, 3245, 0),
-							new WorldPoint(1824, 3695, 1),
-							"Veos",
-							"Port Piscarilius"));
+					transports.add(npcDialogTransport(new WorldPoint(3054, 3245, 0),
+							new WorldPoint(1824, 3691, 0),
+							8484,
+							"That's great, can you take me there please?"));
 				}
+			}
+			else
+			{
+				transports.add(npcTransport(new WorldPoint(3054, 3245, 0),
+						new WorldPoint(1824, 3695, 1),
+						"Veos",
+						"Port Piscarilius"));
+			}
 
-				if (Quests.getState(Quest.LUNAR_DIPLOMACY) != QuestState.NOT_STARTED)
-				{
-					transports.add(npcTransport(new WorldPoint(2222, 3796, 2), new WorldPoint(2130, 3899, 2), NpcID.CAPTAIN_BENTLEY_6650, "Travel"));
-					transports.add(npcTransport(new WorldPoint(2130, 3899, 2), new WorldPoint(2222, 3796, 2), NpcID.CAPTAIN_BENTLEY_6650, "Travel"));
-				}
+			if (Quests.getState(Quest.LUNAR_DIPLOMACY) != QuestState.NOT_STARTED)
+			{
+				transports.add(npcTransport(new WorldPoint(2222, 3796, 2), new WorldPoint(2130, 3899, 2), NpcID.CAPTAIN_BENTLEY_6650, "Travel"));
+				transports.add(npcTransport(new WorldPoint(2130, 3899, 2), new WorldPoint(2222, 3796, 2), NpcID.CAPTAIN_BENTLEY_6650, "Travel"));
+			}
 
-				// Spirit Trees
-				if (Quests.isFinished(Quest.TREE_GNOME_VILLAGE))
+			// Spirit Trees
+			if (Quests.isFinished(Quest.TREE_GNOME_VILLAGE))
+			{
+				for (var source : SPIRIT_TREES)
 				{
-					for (var source : SPIRIT_TREES)
+					if (source.location.equals("Gnome Stronghold") && !Quests.isFinished(Quest.THE_GRAND_TREE))
+					{
+						continue;
+					}
+					for (var target : SPIRIT_TREES)
 					{
-						if (source.location.equals("Gnome Stronghold") && !Quests.isFinished(Quest.THE_GRAND_TREE))
+						if (source == target)
 						{
 							continue;
 						}
-						for (var target : SPIRIT_TREES)
-						{
-							if (source == target)
-							{
-								continue;
-							}
 
-							transports.add(spritTreeTransport(source.position, target.position, target.location));
-						}
+						transports.add(spritTreeTransport(source.position, target.position, target.location));
 					}
 				}
+			}
 
-				if (Quests.isFinished(Quest.THE_LOST_TRIBE))
-				{
-					transports.add(npcTransport(new WorldPoint(3229, 9610, 0), new WorldPoint(3316, 9613, 0), NpcID.KAZGAR_7301, "Mines"));
-					transports.add(npcTransport(new WorldPoint(3316, 9613, 0), new WorldPoint(3229, 9610, 0), NpcID.MISTAG_7299, "Cellar"));
-				}
+			if (Quests.isFinished(Quest.THE_LOST_TRIBE))
+			{
+				transports.add(npcTransport(new WorldPoint(3229, 9610, 0), new WorldPoint(3316, 9613, 0), NpcID.KAZGAR_7301, "Mines"));
+				transports.add(npcTransport(new WorldPoint(3316, 9613, 0), new WorldPoint(3229, 9610, 0), NpcID.MISTAG_7299, "Cellar"));
+			}
 
-				// Tree Gnome Village
-				if (Quests.getState(Quest.TREE_GNOME_VILLAGE) != QuestState.NOT_STARTED)
-				{
-					transports.add(npcTransport(new WorldPoint(2504, 3192, 0), new WorldPoint(2515, 3159, 0), 4968, "Follow"));
-					transports.add(npcTransport(new WorldPoint(2515, 3159, 0), new WorldPoint(2504, 3192, 0), 4968, "Follow"));
-				}
+			// Tree Gnome Village
+			if (Quests.getState(Quest.TREE_GNOME_VILLAGE) != QuestState.NOT_STARTED)
+			{
+				transports.add(npcTransport(new WorldPoint(2504, 3192, 0), new WorldPoint(2515, 3159, 0), 4968, "Follow"));
+				transports.add(npcTransport(new WorldPoint(2515, 3159, 0), new WorldPoint(2504, 3192, 0), 4968, "Follow"));
+			}
 
-				// Eagles peak cave
-				if (Vars.getVarp(934) >= 15)
-				{
-					// Entrance
-					transports.add(objectTransport(new WorldPoint(2328, 3496, 0), new WorldPoint(1994, 4983, 3), 19790,
-							"Enter"));
-					transports.add(objectTransport(new WorldPoint(1994, 4983, 3), new WorldPoint(2328, 3496, 0), 19891,
-							"Exit"));
-				}
+			// Eagles peak cave
+			if (Vars.getVarp(934) >= 15)
+			{
+				// Entrance
+				transports.add(objectTransport(new WorldPoint(2328, 3496, 0), new WorldPoint(1994, 4983, 3), 19790,
+						"Enter"));
+				transports.add(objectTransport(new WorldPoint(1994, 4983, 3), new WorldPoint(2328, 3496, 0), 19891,
+						"Exit"));
+			}
 
-				// Waterbirth island
-				if (Quests.isFinished(Quest.THE_FREMENNIK_TRIALS) || gold >= 1000)
-				{
-					transports.add(npcTransport(new WorldPoint(2544, 3760, 0), new WorldPoint(2620, 3682, 0), 10407, "Rellekka"));
-					transports.add(npcTransport(new WorldPoint(2620, 3682, 0), new WorldPoint(2547, 3759, 0), 5937, "Waterbirth Island"));
-				}
+			// Waterbirth island
+			if (Quests.isFinished(Quest.THE_FREMENNIK_TRIALS) || gold >= 1000)
+			{
+				transports.add(npcTransport(new WorldPoint(2544, 3760, 0), new WorldPoint(2620, 3682, 0), 10407, "Rellekka"));
+				transports.add(npcTransport(new WorldPoint(2620, 3682, 0), new WorldPoint(2547, 3759, 0), 5937, "Waterbirth Island"));
+			}
 
-				// Pirates cove
-				transports.add(npcTransport(new WorldPoint(2620, 3692, 0), new WorldPoint(2213, 3794, 0), NpcID.LOKAR_SEARUNNER, "Pirate's Cove"));
-				transports.add(npcTransport(new WorldPoint(2213, 3794, 0), new WorldPoint(2620, 3692, 0), NpcID.LOKAR_SEARUNNER_9306, "Rellekka"));
+			// Pirates cove
+			transports.add(npcTransport(new WorldPoint(2620, 3692, 0), new WorldPoint(2213, 3794, 0), NpcID.LOKAR_SEARUNNER, "Pirate's Cove"));
+			transports.add(npcTransport(new WorldPoint(2213, 3794, 0), new WorldPoint(2620, 3692, 0), NpcID.LOKAR_SEARUNNER_9306, "Rellekka"));
 
-				// Corsair's Cove
-				if (Skills.getBoostedLevel(Skill.AGILITY) >= 10)
-				{
-					transports.add(objectTransport(new WorldPoint(2546, 2871, 0), new WorldPoint(2546, 2873, 0), 31757,
-							"Climb"));
-					transports.add(objectTransport(new WorldPoint(2546, 2873, 0), new WorldPoint(2546, 2871, 0), 31757,
-							"Climb"));
-				}
+			// Corsair's Cove
+			if (Skills.getBoostedLevel(Skill.AGILITY) >= 10)
+			{
+				transports.add(objectTransport(new WorldPoint(2546, 2871, 0), new WorldPoint(2546, 2873, 0), 31757,
+						"Climb"));
+				transports.add(objectTransport(new WorldPoint(2546, 2873, 0), new WorldPoint(2546, 2871, 0), 31757,
+						"Climb"));
+			}
 
-				// Lumbridge castle dining room, ignore if RFD is in progress.
-				if (Quests.getState(Quest.RECIPE_FOR_DISASTER) != QuestState.IN_PROGRESS)
-				{
-					transports.add(objectTransport(new WorldPoint(3213, 3221, 0), new WorldPoint(3212, 3221, 0), 12349, "Open"));
-					transports.add(objectTransport(new WorldPoint(3212, 3221, 0), new WorldPoint(3213, 3221, 0), 12349, "Open"));
-					transports.add(objectTransport(new WorldPoint(3213, 3222, 0), new WorldPoint(3212, 3222, 0), 12350, "Open"));
-					transports.add(objectTransport(new WorldPoint(3212, 3222, 0), new WorldPoint(3213, 3222, 0), 12350, "Open"));
-					transports.add(objectTransport(new WorldPoint(3207, 3218, 0), new WorldPoint(3207, 3217, 0), 12348, "Open"));
-					transports.add(objectTransport(new WorldPoint(3207, 3217, 0), new WorldPoint(3207, 3218, 0), 12348, "Open"));
-				}
+			// Lumbridge castle dining room, ignore if RFD is in progress.
+			if (Quests.getState(Quest.RECIPE_FOR_DISASTER) != QuestState.IN_PROGRESS)
+			{
+				transports.add(objectTransport(new WorldPoint(3213, 3221, 0), new WorldPoint(3212, 3221, 0), 12349, "Open"));
+				transports.add(objectTransport(new WorldPoint(3212, 3221, 0), new WorldPoint(3213, 3221, 0), 12349, "Open"));
+				transports.add(objectTransport(new WorldPoint(3213, 3222, 0), new WorldPoint(3212, 3222, 0), 12350, "Open"));
+				transports.add(objectTransport(new WorldPoint(3212, 3222, 0), new WorldPoint(3213, 3222, 0), 12350, "Open"));
+				transports.add(objectTransport(new WorldPoint(3207, 3218, 0), new WorldPoint(3207, 3217, 0), 12348, "Open"));
+				transports.add(objectTransport(new WorldPoint(3207, 3217, 0), new WorldPoint(3207, 3218, 0), 12348, "Open"));
+			}
 
-				// Digsite gate
-				if (Vars.getBit(3637) >= 153)
-				{
-					transports.add(objectTransport(new WorldPoint(3295, 3429, 0), new WorldPoint(3296, 3429, 0), 24561,
-							"Open"));
-					transports.add(objectTransport(new WorldPoint(3296, 3429, 0), new WorldPoint(3295, 3429, 0), 24561,
-							"Open"));
-					transports.add(objectTransport(new WorldPoint(3295, 3428, 0), new WorldPoint(3296, 3428, 0), 24561,
-							"Open"));
-					transports.add(objectTransport(new WorldPoint(3296, 3428, 0), new WorldPoint(3295, 3428, 0), 24561,
-							"Open"));
-				}
+			// Digsite gate
+			if (Vars.getBit(3637) >= 153)
+			{
+				transports.add(objectTransport(new WorldPoint(3295, 3429, 0), new WorldPoint(3296, 3429, 0), 24561,
+						"Open"));
+				transports.add(objectTransport(new WorldPoint(3296, 3429, 0), new WorldPoint(3295, 3429, 0), 24561,
+						"Open"));
+				transports.add(objectTransport(new WorldPoint(3295, 3428, 0), new WorldPoint(3296, 3428, 0), 24561,
+						"Open"));
+				transports.add(objectTransport(new WorldPoint(3296, 3428, 0), new WorldPoint(3295, 3428, 0), 24561,
+						"Open"));
+			}
 
-				// Fairy Rings
-				if (Equipment.contains(ItemID.DRAMEN_STAFF, ItemID.LUNAR_STAFF)
-						&& Quests.getState(Quest.FAIRYTALE_II__CURE_A_QUEEN) != QuestState.NOT_STARTED)
+			// Fairy Rings
+			if (Equipment.contains(ItemID.DRAMEN_STAFF, ItemID.LUNAR_STAFF)
+					&& Quests.getState(Quest.FAIRYTALE_II__CURE_A_QUEEN) != QuestState.NOT_STARTED)
+			{
+				for (FairyRingLocation sourceRing : FairyRingLocation.values())
 				{
-					for (FairyRingLocation sourceRing : FairyRingLocation.values())
+					for (FairyRingLocation destRing : FairyRingLocation.values())
 					{
-						for (FairyRingLocation destRing : FairyRingLocation.values())
+						if (sourceRing != destRing)
 						{
-							if (sourceRing != destRing)
-							{
-								transports.add(fairyRingTransport(sourceRing, destRing));
-							}
+							transports.add(fairyRingTransport(sourceRing, destRing));
 						}
 					}
 				}
 			}
+		}
 
-			// Entrana
-			transports.add(npcTransport(new WorldPoint(3041, 3237, 0), new WorldPoint(2834, 3331, 1), 1166, "Take-boat"));
-			transports.add(npcTransport(new WorldPoint(2834, 3335, 0), new WorldPoint(3048, 3231, 1), 1170, "Take-boat"));
-			transports.add(npcDialogTransport(new WorldPoint(2821, 3374, 0),
-					new WorldPoint(2822, 9774, 0),
-					1164,
-					"Well that is a risk I will have to take."));
-
-			// Fossil Island
-			transports.add(npcTransport(new WorldPoint(3362, 3445, 0),
-					new WorldPoint(3724, 3808, 0),
-					8012,
-					"Quick-Travel"));
-
-			transports.add(objectDialogTransport(new WorldPoint(3724, 3808, 0),
-					new WorldPoint(3362, 3445, 0),
-					30914,
-					new String[]{"Travel"},
-					"Row to the barge and travel to the Digsite."));
-
-			// Magic Mushtrees
-			for (var source : MUSHTREES)
+		// Entrana
+		transports.add(npcTransport(new WorldPoint(3041, 3237, 0), new WorldPoint(2834, 3331, 1), 1166, "Take-boat"));
+		transports.add(npcTransport(new WorldPoint(2834, 3335, 0), new WorldPoint(3048, 3231, 1), 1170, "Take-boat"));
+		transports.add(npcDialogTransport(new WorldPoint(2821, 3374, 0),
+				new WorldPoint(2822, 9774, 0),
+				1164,
+				"Well that is a risk I will have to take."));
+
+		// Fossil Island
+		transports.add(npcTransport(new WorldPoint(3362, 3445, 0),
+				new WorldPoint(3724, 3808, 0),
+				8012,
+				"Quick-Travel"));
+
+		transports.add(objectDialogTransport(new WorldPoint(3724, 3808, 0),
+				new WorldPoint(3362, 3445, 0),
+				30914,
+				new String[]{"Travel"},
+				"Row to the barge and travel to the Digsite."));
+
+		// Magic Mushtrees
+		for (var source : MUSHTREES)
+		{
+			for (var target : MUSHTREES)
 			{
-				for (var target : MUSHTREES)
+				if (source.position != target.position)
 				{
-					if (source.position != target.position)
-					{
-						transports.add(mushtreeTransport(source.position, target.position, target.widget));
-					}
+					transports.add(mushtreeTransport(source.position, target.position, target.widget));
 				}
 			}
+		}
 
-			// Gnome stronghold
-			transports.add(objectDialogTransport(new WorldPoint(2461, 3382, 0),
-					new WorldPoint(2461, 3385, 0),
-					190,
-					new String[]{"Open"},
-					"Sorry, I'm a bit busy."));
-
-			// Paterdomus
-			transports.add(trapDoorTransport(new WorldPoint(3405, 3506, 0), new WorldPoint(3405, 9906, 0), 1579, 1581));
-			transports.add(trapDoorTransport(new WorldPoint(3423, 3485, 0), new WorldPoint(3440, 9887, 0), 3432, 3433));
-			transports.add(trapDoorTransport(new WorldPoint(3422, 3484, 0), new WorldPoint(3440, 9887, 0), 3432, 3433));
-
-			// Port Piscarilius
-			transports.add(npcTransport(new WorldPoint(1824, 3691, 0), new WorldPoint(3055, 3242, 1), 10727, "Port Sarim"));
-
-			// Glarial's tomb
-			transports.add(itemUseTransport(new WorldPoint(2557, 3444, 0), new WorldPoint(2555, 9844, 0), 294, 1992));
-			transports.add(itemUseTransport(new WorldPoint(2557, 3445, 0), new WorldPoint(2555, 9844, 0), 294, 1992));
-			transports.add(itemUseTransport(new WorldPoint(2558, 3443, 0), new WorldPoint(2555, 9844, 0), 294, 1992));
-			transports.add(itemUseTransport(new WorldPoint(2559, 3443, 0), new WorldPoint(2555, 9844, 0), 294, 1992));
-			transports.add(itemUseTransport(new WorldPoint(2560, 3444, 0), new WorldPoint(2555, 9844, 0), 294, 1992));
-			transports.add(itemUseTransport(new WorldPoint(2560, 3445, 0), new WorldPoint(2555, 9844, 0), 294, 1992));
-			transports.add(itemUseTransport(new WorldPoint(2558, 3446, 0), new WorldPoint(2555, 9844, 0), 294, 1992));
-			transports.add(itemUseTransport(new WorldPoint(2559, 3446, 0), new WorldPoint(2555, 9844, 0), 294, 1992));
-
-			// Waterfall Island
-			transports.add(itemUseTransport(new WorldPoint(2512, 3476, 0), new WorldPoint(2513, 3468, 0), 954, 1996));
-			transports.add(itemUseTransport(new WorldPoint(2512, 3466, 0), new WorldPoint(2511, 3463, 0), 954, 2020));
-
-			// Edgeville Dungeon
-			transports.add(trapDoorTransport(new WorldPoint(3096, 3468, 0), new WorldPoint(3096, 9867, 0), 1579, 1581));
-
-			if (Inventory.contains(SLASH_ITEMS) || Equipment.contains(SLASH_ITEMS))
+		// Gnome stronghold
+		transports.add(objectDialogTransport(new WorldPoint(2461, 3382, 0),
+				new WorldPoint(2461, 3385, 0),
+				190,
+				new String[]{"Open"},
+				"Sorry, I'm a bit busy."));
+
+		// Paterdomus
+		transports.add(trapDoorTransport(new WorldPoint(3405, 3506, 0), new WorldPoint(3405, 9906, 0), 1579, 1581));
+		transports.add(trapDoorTransport(new WorldPoint(3423, 3485, 0), new WorldPoint(3440, 9887, 0), 3432, 3433));
+		transports.add(trapDoorTransport(new WorldPoint(3422, 3484, 0), new WorldPoint(3440, 9887, 0), 3432, 3433));
+
+		// Port Piscarilius
+		transports.add(npcTransport(new WorldPoint(1824, 3691, 0), new WorldPoint(3055, 3242, 1), 10727, "Port Sarim"));
+
+		// Glarial's tomb
+		transports.add(itemUseTransport(new WorldPoint(2557, 3444, 0), new WorldPoint(2555, 9844, 0), 294, 1992));
+		transports.add(itemUseTransport(new WorldPoint(2557, 3445, 0), new WorldPoint(2555, 9844, 0), 294, 1992));
+		transports.add(itemUseTransport(new WorldPoint(2558, 3443, 0), new WorldPoint(2555, 9844, 0), 294, 1992));
+		transports.add(itemUseTransport(new WorldPoint(2559, 3443, 0), new WorldPoint(2555, 9844, 0), 294, 1992));
+		transports.add(itemUseTransport(new WorldPoint(2560, 3444, 0), new WorldPoint(2555, 9844, 0), 294, 1992));
+		transports.add(itemUseTransport(new WorldPoint(2560, 3445, 0), new WorldPoint(2555, 9844, 0), 294, 1992));
+		transports.add(itemUseTransport(new WorldPoint(2558, 3446, 0), new WorldPoint(2555, 9844, 0), 294, 1992));
+		transports.add(itemUseTransport(new WorldPoint(2559, 3446, 0), new WorldPoint(2555, 9844, 0), 294, 1992));
+
+		// Waterfall Island
+		transports.add(itemUseTransport(new WorldPoint(2512, 3476, 0), new WorldPoint(2513, 3468, 0), 954, 1996));
+		transports.add(itemUseTransport(new WorldPoint(2512, 3466, 0), new WorldPoint(2511, 3463, 0), 954, 2020));
+
+		// Edgeville Dungeon
+		transports.add(trapDoorTransport(new WorldPoint(3096, 3468, 0), new WorldPoint(3096, 9867, 0), 1579, 1581));
+
+		if (Inventory.contains(SLASH_ITEMS) || Equipment.contains(SLASH_ITEMS))
+		{
+			for (Pair<WorldPoint, WorldPoint> pair : SLASH_WEB_POINTS)
 			{
-				for (Pair<WorldPoint, WorldPoint> pair : SLASH_WEB_POINTS)
-				{
-					transports.add(slashWebTransport(pair.getLeft(), pair.getRight()));
-					transports.add(slashWebTransport(pair.getRight(), pair.getLeft()));
-				}
+				transports.add(slashWebTransport(pair.getLeft(), pair.getRight()));
+				transports.add(slashWebTransport(pair.getRight(), pair.getLeft()));
 			}
+		}
 
-			LAST_TRANSPORT_LIST.clear();
-			LAST_TRANSPORT_LIST.addAll(filteredStatic);
-			LAST_TRANSPORT_LIST.addAll(transports);
-		});
+		return transports;
 	}
 
 	public static Transport trapDoorTransport(
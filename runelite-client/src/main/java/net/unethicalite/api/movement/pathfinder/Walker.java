@@ -38,6 +38,8 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -58,6 +60,10 @@ public class Walker
 	private static final ExecutorService executor = Executors.newSingleThreadExecutor();
 	private static Future<List<WorldPoint>> pathFuture = null;
 	private static WorldArea currentDestination = null;
+	private static PathfinderAlgorithm currentAlgorithm = null;
+	private static final PathCache pathCache = new PathCache(64);
+	private static List<Transport> linkedTransports = null;
+	private static Map<WorldPoint, List<Transport>> transportLinks = Map.of();
 
 	public static boolean walkTo(WorldPoint destination)
 	{
@@ -424,21 +430,34 @@ public class Walker
 	}
 
 	public static List<WorldPoint> calculatePath(WorldArea destination)
+	{
+		return calculatePath(destination, RegionManager.pathfinderAlgorithm());
+	}
+
+	public static List<WorldPoint> calculatePath(WorldArea destination, PathfinderAlgorithm algorithm)
 	{
 		Player local = Players.getLocal();
 		LinkedHashMap<WorldPoint, Teleport> teleports = buildTeleportLinks(destination);
 		List<WorldPoint> startPoints = new ArrayList<>(teleports.keySet());
 		startPoints.add(local.getWorldLocation());
-		return calculatePath(startPoints, destination);
+		return calculatePath(startPoints, destination, algorithm);
 	}
 
 	public static List<WorldPoint> calculatePath(List<WorldPoint> startPoints, WorldArea destination)
+	{
+		return calculatePath(startPoints, destination, RegionManager.pathfinderAlgorithm());
+	}
+
+	public static List<WorldPoint> calculatePath(List<WorldPoint> startPoints, WorldArea destination, PathfinderAlgorithm algorithm)
 	{
 		if (Static.getClient().isClientThread())
 		{
 			throw new RuntimeException("Calculate path cannot be called on client thread");
 		}
-		return new Pathfinder(Static.getGlobalCollisionMap(), buildTransportLinks(), startPoints, destination, RegionManager.avoidWilderness()).find();
+
+		PathRequest request = new PathRequest(startPoints, destination, RegionManager.avoidWilderness(), algorithm);
+		List<WorldPoint> cached = request.cached();
+		return cached != null ? cached : request.call();
 	}
 
 	public static List<WorldPoint> calculatePath(WorldPoint destination)
@@ -455,13 +474,15 @@ public class Walker
 			List<WorldPoint> startPoints,
 			WorldArea destination,
 			boolean avoidWilderness,
-			boolean forced
+			boolean forced,
+			PathfinderAlgorithm algorithm
 	)
 	{
 		if (pathFuture == null)
 		{
-			pathFuture = executor.submit(new Pathfinder(Static.getGlobalCollisionMap(), buildTransportLinks(), startPoints, destination, avoidWilderness));
+			pathFuture = submitPath(startPoints, destination, avoidWilderness, algorithm, true);
 			currentDestination = destination;
+			currentAlgorithm = algorithm;
 		}
 
 		boolean sameDestination = currentDestination != null
@@ -471,11 +492,12 @@ public class Walker
 				&& destination.getWidth() == currentDestination.getWidth()
 				&& destination.getHeight() == currentDestination.getHeight();
 		boolean shouldRefresh = RegionManager.shouldRefreshPath();
-		if (!sameDestination || shouldRefresh || forced)
+		if (!sameDestination || shouldRefresh || forced || algorithm != currentAlgorithm)
 		{
 			pathFuture.cancel(true);
-			pathFuture = executor.submit(new Pathfinder(Static.getGlobalCollisionMap(), buildTransportLinks(), startPoints, destination, avoidWilderness));
+			pathFuture = submitPath(startPoints, destination, avoidWilderness, algorithm, !shouldRefresh && !forced);
 			currentDestination = destination;
+			currentAlgorithm = algorithm;
 		}
 
 		try
@@ -494,6 +516,30 @@ public class Walker
 		}
 	}
 
+	private static Future<List<WorldPoint>> submitPath(
+			List<WorldPoint> startPoints,
+			WorldArea destination,
+			boolean avoidWilderness,
+			PathfinderAlgorithm algorithm,
+			boolean useCache
+	)
+	{
+		PathRequest request = new PathRequest(startPoints, destination, avoidWilderness, algorithm);
+		List<WorldPoint> cached = useCache ? request.cached() : null;
+		if (cached != null)
+		{
+			log.debug("Using cached path to {}", destination);
+			return CompletableFuture.completedFuture(cached);
+		}
+
+		return executor.submit(request);
+	}
+
+	public static PathCache getPathCache()
+	{
+		return pathCache;
+	}
+
 	public static List<WorldPoint> buildPath()
 	{
 		if (currentDestination == null)
@@ -504,13 +550,18 @@ public class Walker
 	}
 
 	public static List<WorldPoint> buildPath(WorldArea destination, boolean avoidWilderness, boolean forced)
+	{
+		return buildPath(destination, avoidWilderness, forced, RegionManager.pathfinderAlgorithm());
+	}
+
+	public static List<WorldPoint> buildPath(WorldArea destination, boolean avoidWilderness, boolean forced, PathfinderAlgorithm algorithm)
 	{
 		Player local = Players.getLocal();
 		LinkedHashMap<WorldPoint, Teleport> teleports = buildTeleportLinks(destination);
 		List<WorldPoint> startPoints = new ArrayList<>(teleports.keySet());
 		startPoints.add(local.getWorldLocation());
 
-		return buildPath(startPoints, destination, avoidWilderness, forced);
+		return buildPath(startPoints, destination, avoidWilderness, forced, algorithm);
 	}
 
 	public static List<WorldPoint> buildPath(WorldArea destination)
@@ -540,23 +591,41 @@ public class Walker
 
 	public static List<WorldPoint> buildPath(List<WorldPoint> startPoints, WorldPoint destination, boolean avoidWilderness, boolean forced)
 	{
-		return buildPath(startPoints, destination.toWorldArea(), avoidWilderness, forced);
+		return buildPath(startPoints, destination.toWorldArea(), avoidWilderness, forced, RegionManager.pathfinderAlgorithm());
+	}
+
+	public static List<WorldPoint> buildPath(List<WorldPoint> startPoints, WorldPoint destination, boolean avoidWilderness, boolean forced, PathfinderAlgorithm algorithm)
+	{
+		return buildPath(startPoints, destination.toWorldArea(), avoidWilderness, forced, algorithm);
 	}
 
 	public static Map<WorldPoint, List<Transport>> buildTransportLinks()
 	{
-		Map<WorldPoint, List<Transport>> out = new HashMap<>();
 		if (!Static.getUnethicaliteConfig().useTransports())
 		{
-			return out;
+			return Map.of();
 		}
 
-		for (Transport transport : TransportLoader.buildTransports())
+		return linkTransports(TransportLoader.buildTransports());
+	}
+
+	private static synchronized Map<WorldPoint, List<Transport>> linkTransports(List<Transport> transports)
+	{
+		// The loader publishes a new list on every refresh, so the links only need rebuilding when it changes
+		if (transports == linkedTransports)
+		{
+			return transportLinks;
+		}
+
+		Map<WorldPoint, List<Transport>> out = new HashMap<>();
+		for (Transport transport : transports)
 		{
 			out.computeIfAbsent(transport.getSource(), x -> new ArrayList<>()).add(transport);
 		}
 
-		return out;
+		linkedTransports = transports;
+		transportLinks = Collections.unmodifiableMap(out);
+		return transportLinks;
 	}
 
 	public static LinkedHashMap<WorldPoint, Teleport> buildTeleportLinks(WorldArea destination)
@@ -614,4 +683,61 @@ public class Walker
 		List<WorldPoint> pathTo = start.pathTo(Static.getClient(), destination);
 		return pathTo != null && pathTo.contains(destination);
 	}
+
+	/**
+	 * A path calculation bound to the collision map and transports at the time it was requested.
+	 * Results are stored in the {@link PathCache} unless the player is in an instanced region,
+	 * where the collision map is patched on every call.
+	 */
+	private static class PathRequest implements Callable<List<WorldPoint>>
+	{
+		private final List<WorldPoint> startPoints;
+		private final WorldArea destination;
+		private final boolean avoidWilderness;
+		private final PathfinderAlgorithm algorithm;
+		private final CollisionMap map;
+		private final Map<WorldPoint, List<Transport>> transports;
+		private final WorldPoint origin;
+		private final PathCache.Route route;
+
+		private PathRequest(List<WorldPoint> startPoints, WorldArea destination, boolean avoidWilderness, PathfinderAlgorithm algorithm)
+		{
+			this.startPoints = startPoints;
+			this.destination = destination;
+			this.avoidWilderness = avoidWilderness;
+			this.algorithm = algorithm;
+			this.map = Static.getGlobalCollisionMap();
+			this.transports = buildTransportLinks();
+
+			Player local = Static.getClient().getLocalPlayer();
+			if (local == null || Static.getClient().isInInstancedRegion())
+			{
+				this.origin = null;
+				this.route = null;
+				return;
+			}
+
+			List<WorldPoint> teleports = new ArrayList<>(startPoints);
+			teleports.remove(local.getWorldLocation());
+			this.origin = local.getWorldLocation();
+			this.route = new PathCache.Route(destination, avoidWilderness, algorithm, PathCache.fingerprint(transports, teleports));
+		}
+
+		private List<WorldPoint> cached()
+		{
+			return route == null ? null : pathCache.get(route, origin);
+		}
+
+		@Override
+		public List<WorldPoint> call()
+		{
+			List<WorldPoint> path = algorithm.find(map, transports, startPoints, destination, avoidWilderness);
+			if (route != null)
+			{
+				pathCache.put(route, origin, path);
+			}
+
+			return path;
+		}
+	}
 }
@@ -0,0 +1,42 @@
+package net.unethicalite.api.movement.pathfinder.model;
+
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Transports which became available or unavailable after a requirement or state change.
+ */
+@Value
+public class TransportDelta
+{
+	public static final TransportDelta EMPTY = new TransportDelta(List.of(), List.of());
+
+	List<Transport> added;
+	List<Transport> removed;
+
+	public boolean isEmpty()
+	{
+		return added.isEmpty() && removed.isEmpty();
+	}
+
+	public TransportDelta plus(TransportDelta other)
+	{
+		if (other.isEmpty())
+		{
+			return this;
+		}
+
+		if (isEmpty())
+		{
+			return other;
+		}
+
+		List<Transport> added = new ArrayList<>(this.added);
+		added.addAll(other.added);
+		List<Transport> removed = new ArrayList<>(this.removed);
+		removed.addAll(other.removed);
+		return new TransportDelta(added, removed);
+	}
+}
@@ -1,150 +1,251 @@
 package net.unethicalite.api.plugins;
 
 import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.GameState;
+import net.runelite.api.events.GameStateChanged;
 import net.runelite.api.events.GameTick;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.plugins.Plugin;
-import net.unethicalite.api.commons.Time;
 import net.unethicalite.api.game.Game;
 
 import javax.swing.SwingUtilities;
-import java.util.concurrent.CancellationException;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Future;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
-
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * Plugin driven by a {@link #loop()} which returns the delay before it runs again: milliseconds when positive,
+ * or game ticks when negative. Each plugin has its own loop thread and the next loop is scheduled when the
+ * previous one completes; tick sleeps are resumed by the game tick subscriber rather than polled.
+ */
 @Slf4j
 public abstract class LoopedPlugin extends Plugin implements Runnable
 {
-	private static final ScheduledExecutorService EXECUTOR = new LoggableExecutor(1);
+	private static final int DEFAULT_SLEEP = 1000;
+	private static final long OVERRUN_NANOS = TimeUnit.MILLISECONDS.toNanos(600);
+
 	private final AtomicInteger ticks = new AtomicInteger(0);
+	private final AtomicInteger wakeTick = new AtomicInteger(-1);
 
-	private volatile int nextSleep = 1000;
-	private int currentSleep = 1000;
-	private int sleepUntil = 0;
+	private final AtomicLong loops = new AtomicLong();
+	private final AtomicLong loopNanos = new AtomicLong();
+	private final LongAccumulator maxLoopNanos = new LongAccumulator(Math::max, 0);
+	private final AtomicLong startDelayNanos = new AtomicLong();
+	private final LongAccumulator maxStartDelayNanos = new LongAccumulator(Math::max, 0);
+	private final AtomicLong overruns = new AtomicLong();
 
-	protected abstract int loop();
+	private volatile ScheduledExecutorService executor;
+	private volatile boolean running;
+	private int currentSleep = DEFAULT_SLEEP;
 
-	private Future<?> task;
+	protected abstract int loop();
 
+	/**
+	 * Starts the loop, the first iteration runs after one second. Returns immediately.
+	 */
 	@Override
-	public void run()
+	public synchronized void run()
 	{
-		task = EXECUTOR.schedule(loopTask(), nextSleep, TimeUnit.MILLISECONDS);
+		if (running)
+		{
+			return;
+		}
 
-		while (isRunning())
+		String name = getClass().getSimpleName() + "-loop";
+		executor = Executors.newSingleThreadScheduledExecutor(r ->
 		{
-			if (task.isDone())
-			{
-				task = EXECUTOR.schedule(loopTask(), nextSleep, TimeUnit.MILLISECONDS);
-				continue;
-			}
+			Thread thread = new Thread(r, name);
+			thread.setDaemon(true);
+			return thread;
+		});
+		running = true;
+		schedule(DEFAULT_SLEEP);
+	}
 
-			Time.sleep(10);
-		}
-		task = null;
+	public boolean isRunning()
+	{
+		return running;
 	}
 
-	private Runnable loopTask()
+	public synchronized void stop()
 	{
-		return () ->
+		if (!running)
 		{
-			try
-			{
-				int currentTick = ticks.get();
-				if (sleepUntil > 0 && sleepUntil > currentTick && Game.isLoggedIn())
-				{
-					return;
-				}
+			return;
+		}
 
-				sleepUntil = 0;
+		running = false;
+		wakeTick.set(-1);
+		executor.shutdownNow();
+		log.debug("{} stopped after {} loops, avg {}ms, max {}ms, {} overruns", getClass().getSimpleName(), getLoopCount(),
+				getLoopCount() == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(getTotalLoopNanos() / getLoopCount()),
+				TimeUnit.NANOSECONDS.toMillis(getMaxLoopNanos()), getOverrunCount());
+	}
 
-				currentSleep = this instanceof Script ? ((Script) this).outerLoop() : loop();
-			}
-			catch (PluginStoppedException e)
-			{
-				SwingUtilities.invokeLater(() -> Plugins.stopPlugin(this));
-			}
-			finally
-			{
-				if (sleepUntil == 0)
-				{
-					if (currentSleep < 0 && Game.isLoggedIn())
-					{
-						int currentTick = ticks.get();
-						sleepUntil = currentTick + Math.abs(currentSleep);
-						nextSleep = 0;
-					}
-					else
-					{
-						nextSleep = currentSleep < 0 ? 1000 : currentSleep;
-					}
-				}
-			}
-		};
+	public long getLoopCount()
+	{
+		return loops.get();
 	}
 
-	public boolean isRunning()
+	public long getTotalLoopNanos()
+	{
+		return loopNanos.get();
+	}
+
+	public long getMaxLoopNanos()
+	{
+		return maxLoopNanos.get();
+	}
+
+	/**
+	 * Total time loops started later than they were scheduled for.
+	 */
+	public long getTotalStartDelayNanos()
+	{
+		return startDelayNanos.get();
+	}
+
+	public long getMaxStartDelayNanos()
+	{
+		return maxStartDelayNanos.get();
+	}
+
+	/**
+	 * Number of loops which ran for longer than a game tick.
+	 */
+	public long getOverrunCount()
+	{
+		return overruns.get();
+	}
+
+	public void resetLoopStatistics()
 	{
-		return task != null && !task.isCancelled();
+		loops.set(0);
+		loopNanos.set(0);
+		maxLoopNanos.reset();
+		startDelayNanos.set(0);
+		maxStartDelayNanos.reset();
+		overruns.set(0);
 	}
 
-	public void stop()
+	private void schedule(int delay)
 	{
-		if (isRunning())
+		ScheduledExecutorService current = executor;
+		long due = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delay);
+		try
 		{
-			task.cancel(true);
+			current.schedule(() -> runLoop(current, due), delay, TimeUnit.MILLISECONDS);
+		}
+		catch (RuntimeException e)
+		{
+			// Rejected after the executor was shut down by stop()
+			if (running)
+			{
+				throw e;
+			}
 		}
 	}
 
-	private static class LoggableExecutor extends ScheduledThreadPoolExecutor
+	private void runLoop(ScheduledExecutorService owner, long due)
 	{
-		public LoggableExecutor(int corePoolSize)
+		if (!isCurrent(owner))
 		{
-			super(corePoolSize);
+			return;
 		}
 
-		protected void afterExecute(Runnable r, Throwable t)
-		{
-			super.afterExecute(r, t);
+		long start = System.nanoTime();
+		long delay = Math.max(0, start - due);
+		startDelayNanos.addAndGet(delay);
+		maxStartDelayNanos.accumulate(delay);
 
-			if (t == null && r instanceof Future<?>)
+		try
+		{
+			currentSleep = this instanceof Script ? ((Script) this).outerLoop() : loop();
+		}
+		catch (PluginStoppedException e)
+		{
+			SwingUtilities.invokeLater(() -> Plugins.stopPlugin(this));
+			return;
+		}
+		catch (Throwable t)
+		{
+			if (!isCurrent(owner))
 			{
-				try
-				{
-					Future<?> future = (Future<?>) r;
-					if (future.isDone())
-					{
-						future.get();
-					}
-				}
-				catch (CancellationException ignored)
-				{
-
-				}
-				catch (ExecutionException ee)
-				{
-					t = ee.getCause();
-				}
-				catch (InterruptedException ie)
-				{
-					Thread.currentThread().interrupt();
-				}
+				return;
 			}
 
-			if (t != null)
+			log.error("Error in loop", t);
+		}
+		finally
+		{
+			long elapsed = System.nanoTime() - start;
+			loops.incrementAndGet();
+			loopNanos.addAndGet(elapsed);
+			maxLoopNanos.accumulate(elapsed);
+			if (elapsed > OVERRUN_NANOS)
 			{
-				log.error("Error in loop", t);
+				overruns.incrementAndGet();
 			}
 		}
+
+		if (isCurrent(owner))
+		{
+			next(currentSleep);
+		}
+	}
+
+	/**
+	 * Whether a loop scheduled on the executor still belongs to this run, a loop interrupted by stop() may
+	 * finish after the plugin was started again.
+	 */
+	private boolean isCurrent(ScheduledExecutorService owner)
+	{
+		return running && executor == owner;
+	}
+
+	private void next(int sleep)
+	{
+		if (sleep < 0 && Game.isLoggedIn())
+		{
+			// Resumed from tickCounter once enough game ticks have passed
+			wakeTick.set(ticks.get() + Math.abs(sleep));
+			return;
+		}
+
+		schedule(sleep < 0 ? DEFAULT_SLEEP : sleep);
+	}
+
+	private void wake()
+	{
+		int tick = wakeTick.get();
+		if (tick != -1 && wakeTick.compareAndSet(tick, -1) && running)
+		{
+			schedule(0);
+		}
 	}
 
 	@Subscribe
 	private void tickCounter(GameTick gameTick)
 	{
-		ticks.incrementAndGet();
+		int tick = ticks.incrementAndGet();
+		int wake = wakeTick.get();
+		if (wake != -1 && tick >= wake)
+		{
+			wake();
+		}
+	}
+
+	@Subscribe
+	private void loopGameStateChanged(GameStateChanged gameStateChanged)
+	{
+		GameState state = gameStateChanged.getGameState();
+		if (state != GameState.LOGGED_IN && state != GameState.LOADING)
+		{
+			// Ticks stop while logged out, tick sleeps end early like they did when polled
+			wake();
+		}
 	}
 }
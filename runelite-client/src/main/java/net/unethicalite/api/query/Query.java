@@ -1,9 +1,9 @@
 package net.unethicalite.api.query;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 
 public abstract class Query<T, Q, R> implements Predicate<T>
 {
@@ -18,7 +18,65 @@ public abstract class Query<T, Q, R> implements Predicate<T>
 
 	public R results()
 	{
-		return results(supplier.get().stream().filter(this).collect(Collectors.toList()));
+		List<T> out = new ArrayList<>();
+		for (T t : source())
+		{
+			if (test(t))
+			{
+				out.add(t);
+			}
+		}
+
+		return results(out);
+	}
+
+	/**
+	 * The first match in supplier order. Unlike {@code results().first()} the scan stops at the first match.
+	 */
+	public T first()
+	{
+		for (T t : source())
+		{
+			if (test(t))
+			{
+				return t;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Up to {@code amount} matches in supplier order. Unlike {@code results().limit(amount)} the scan stops
+	 * once enough matches are found.
+	 */
+	public R limit(int amount)
+	{
+		List<T> out = new ArrayList<>(Math.max(0, Math.min(amount, 16)));
+		if (amount > 0)
+		{
+			for (T t : source())
+			{
+				if (test(t))
+				{
+					out.add(t);
+					if (out.size() == amount)
+					{
+						break;
+					}
+				}
+			}
+		}
+
+		return results(out);
+	}
+
+	/**
+	 * The entities to test against this query, by default everything the supplier returns.
+	 */
+	protected List<T> source()
+	{
+		return supplier.get();
 	}
 
 	public Q filter(Predicate<T> filter)
@@ -5,6 +5,7 @@ import net.runelite.api.Actor;
 import org.apache.commons.lang3.ArrayUtils;
 
 import java.util.List;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 public abstract class ActorQuery<T extends Actor, Q extends ActorQuery<T, Q>>
@@ -20,6 +21,11 @@ public abstract class ActorQuery<T extends Actor, Q extends ActorQuery<T, Q>>
 		super(supplier);
 	}
 
+	protected ActorQuery(Supplier<List<T>> supplier, Function<int[], List<T>> idSupplier)
+	{
+		super(supplier, idSupplier);
+	}
+
 	public Q levels(int... levels)
 	{
 		this.levels = levels;
@@ -5,6 +5,7 @@ import net.runelite.api.NPC;
 import org.apache.commons.lang3.ArrayUtils;
 
 import java.util.List;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 public class NPCQuery extends ActorQuery<NPC, NPCQuery>
@@ -16,6 +17,11 @@ public class NPCQuery extends ActorQuery<NPC, NPCQuery>
 		super(supplier);
 	}
 
+	public NPCQuery(Supplier<List<NPC>> supplier, Function<int[], List<NPC>> idSupplier)
+	{
+		super(supplier, idSupplier);
+	}
+
 	public NPCQuery indices(int... indices)
 	{
 		this.indices = indices;
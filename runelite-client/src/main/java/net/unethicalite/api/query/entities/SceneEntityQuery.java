@@ -1,7 +1,6 @@
 package net.unethicalite.api.query.entities;
 
 import net.unethicalite.api.SceneEntity;
-import net.unethicalite.api.commons.Predicates;
 import net.unethicalite.api.entities.Players;
 import net.unethicalite.api.query.Query;
 import net.unethicalite.api.query.results.SceneEntityQueryResults;
@@ -10,8 +9,12 @@ import net.runelite.api.coords.LocalPoint;
 import net.runelite.api.coords.WorldPoint;
 import org.apache.commons.lang3.ArrayUtils;
 
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 public abstract class SceneEntityQuery<T extends SceneEntity, Q extends SceneEntityQuery<T, Q>>
@@ -24,10 +27,21 @@ public abstract class SceneEntityQuery<T extends SceneEntity, Q extends SceneEnt
 	private String[] actions = null;
 	private WorldPoint[] locations = null;
 	private LocalPoint[] localLocations = null;
+	private final Function<int[], List<T>> idSupplier;
 
 	protected SceneEntityQuery(Supplier<List<T>> supplier)
+	{
+		this(supplier, null);
+	}
+
+	/**
+	 * @param idSupplier supplies the entities which may have one of the given ids, used instead of
+	 *                   {@code supplier} when the query filters by id
+	 */
+	protected SceneEntityQuery(Supplier<List<T>> supplier, Function<int[], List<T>> idSupplier)
 	{
 		super(supplier);
+		this.idSupplier = idSupplier;
 	}
 
 	public Q ids(int... ids)
@@ -78,6 +92,93 @@ public abstract class SceneEntityQuery<T extends SceneEntity, Q extends SceneEnt
 		return (Q) this;
 	}
 
+	/**
+	 * The nearest match to the local player, found in a single pass without collecting or sorting results.
+	 */
+	public T nearest()
+	{
+		return nearest(Players.getLocal().getWorldLocation());
+	}
+
+	public T nearest(Locatable to)
+	{
+		return nearest(to.getWorldLocation());
+	}
+
+	public T nearest(WorldPoint to)
+	{
+		T nearest = null;
+		int nearestDistance = Integer.MAX_VALUE;
+		for (T t : source())
+		{
+			int distance = t.distanceTo(to);
+			if ((nearest == null || distance < nearestDistance) && test(t))
+			{
+				nearest = t;
+				nearestDistance = distance;
+			}
+		}
+
+		return nearest;
+	}
+
+	/**
+	 * Up to {@code amount} matches nearest to the point, sorted by distance. Only the current candidates are
+	 * kept in a bounded heap rather than collecting and sorting every match.
+	 */
+	public SceneEntityQueryResults<T> nearest(WorldPoint to, int amount)
+	{
+		if (amount <= 0)
+		{
+			return results(new ArrayList<>(0));
+		}
+
+		// Farthest candidate on top so it is the one replaced
+		PriorityQueue<Candidate<T>> heap = new PriorityQueue<>(Math.min(amount, 64) + 1,
+			Comparator.<Candidate<T>>comparingInt(c -> c.distance).thenComparingInt(c -> c.order).reversed());
+		int order = 0;
+		for (T t : source())
+		{
+			int distance = t.distanceTo(to);
+			if (heap.size() == amount && distance >= heap.peek().distance)
+			{
+				order++;
+				continue;
+			}
+
+			if (test(t))
+			{
+				heap.add(new Candidate<>(t, distance, order));
+				if (heap.size() > amount)
+				{
+					heap.poll();
+				}
+			}
+
+			order++;
+		}
+
+		List<T> out = new ArrayList<>(heap.size());
+		while (!heap.isEmpty())
+		{
+			out.add(heap.poll().entity);
+		}
+
+		Collections.reverse(out);
+		return results(out);
+	}
+
+	@Override
+	protected List<T> source()
+	{
+		if (ids != null && idSupplier != null)
+		{
+			return idSupplier.apply(ids);
+		}
+
+		return super.source();
+	}
+
 	@Override
 	public boolean test(T t)
 	{
@@ -101,7 +202,7 @@ public abstract class SceneEntityQuery<T extends SceneEntity, Q extends SceneEnt
 			return false;
 		}
 
-		if (actions != null && Arrays.stream(actions).noneMatch(Predicates.texts(t.getActions())))
+		if (actions != null && !containsAny(t.getActions(), actions))
 		{
 			return false;
 		}
@@ -121,4 +222,44 @@ public abstract class SceneEntityQuery<T extends SceneEntity, Q extends SceneEnt
 
 		return super.test(t);
 	}
+
+	private static boolean containsAny(String[] values, String[] wanted)
+	{
+		if (values == null)
+		{
+			return false;
+		}
+
+		for (String value : values)
+		{
+			if (value == null)
+			{
+				continue;
+			}
+
+			for (String w : wanted)
+			{
+				if (value.equals(w))
+				{
+					return true;
+				}
+			}
+		}
+
+		return false;
+	}
+
+	private static final class Candidate<T>
+	{
+		private final T entity;
+		private final int distance;
+		private final int order;
+
+		private Candidate(T entity, int distance, int order)
+		{
+			this.entity = entity;
+			this.distance = distance;
+			this.order = order;
+		}
+	}
 }
@@ -8,6 +8,7 @@ import org.apache.commons.lang3.ArrayUtils;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 public class TileItemQuery extends SceneEntityQuery<TileItem, TileItemQuery>
@@ -26,6 +27,11 @@ public class TileItemQuery extends SceneEntityQuery<TileItem, TileItemQuery>
 		super(supplier);
 	}
 
+	public TileItemQuery(Supplier<List<TileItem>> supplier, Function<int[], List<TileItem>> idSupplier)
+	{
+		super(supplier, idSupplier);
+	}
+
 	public TileItemQuery quantities(int... quantities)
 	{
 		this.quantities = quantities;
@@ -8,6 +8,7 @@ import org.apache.commons.lang3.ArrayUtils;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 public class TileObjectQuery extends SceneEntityQuery<TileObject, TileObjectQuery>
@@ -20,6 +21,11 @@ public class TileObjectQuery extends SceneEntityQuery<TileObject, TileObjectQuer
 		super(supplier);
 	}
 
+	public TileObjectQuery(Supplier<List<TileObject>> supplier, Function<int[], List<TileObject>> idSupplier)
+	{
+		super(supplier, idSupplier);
+	}
+
 	public TileObjectQuery tiles(Tile... tiles)
 	{
 		this.tiles = tiles;
@@ -2,7 +2,6 @@ package net.unethicalite.api.query.results;
 
 import net.unethicalite.api.commons.Rand;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -49,14 +48,10 @@ public abstract class QueryResults<T, R> implements Collection<T>
 
 	public final R limit(int startIndex, int amount)
 	{
-		List<T> limit = new ArrayList<>(amount);
-
-		for (int i = startIndex; i < size() && i - startIndex < amount; i++)
-		{
-			limit.add(get(i));
-		}
-
-		results.retainAll(limit);
+		int from = Math.min(Math.max(startIndex, 0), size());
+		int to = from + Math.min(Math.max(amount, 0), size() - from);
+		results.subList(to, size()).clear();
+		results.subList(0, from).clear();
 		return (R) this;
 	}
 
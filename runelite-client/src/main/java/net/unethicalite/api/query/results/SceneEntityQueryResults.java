@@ -32,31 +32,57 @@ public class SceneEntityQueryResults<T extends SceneEntity> extends QueryResults
 
 	public T nearest()
 	{
-		return sortedByDistance().first();
+		return nearest(Players.getLocal().getWorldLocation());
 	}
 
 	public T nearest(Locatable to)
 	{
-		return sortedByDistance(to).first();
+		return nearest(to.getWorldLocation());
 	}
 
 	public T nearest(WorldPoint to)
 	{
-		return sortedByDistance(to).first();
+		// Same pick as sortedByDistance(to).first() without sorting, ties keep the earliest result
+		T nearest = null;
+		int nearestDistance = Integer.MAX_VALUE;
+		for (T result : results)
+		{
+			int distance = result.distanceTo(to);
+			if (nearest == null || distance < nearestDistance)
+			{
+				nearest = result;
+				nearestDistance = distance;
+			}
+		}
+
+		return nearest;
 	}
 
 	public T farthest()
 	{
-		return sortedByDistance().last();
+		return farthest(Players.getLocal().getWorldLocation());
 	}
 
 	public T farthest(Locatable locatable)
 	{
-		return sortedByDistance(locatable).last();
+		return farthest(locatable.getWorldLocation());
 	}
 
 	public T farthest(WorldPoint to)
 	{
-		return sortedByDistance(to).last();
+		// Same pick as sortedByDistance(to).last() without sorting, ties keep the latest result
+		T farthest = null;
+		int farthestDistance = Integer.MIN_VALUE;
+		for (T result : results)
+		{
+			int distance = result.distanceTo(to);
+			if (distance >= farthestDistance)
+			{
+				farthest = result;
+				farthestDistance = distance;
+			}
+		}
+
+		return farthest;
 	}
 }
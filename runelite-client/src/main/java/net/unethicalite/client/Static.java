@@ -23,12 +23,15 @@ import net.unethicalite.api.script.paint.Paint;
 import net.unethicalite.client.config.UnethicaliteConfig;
 import net.unethicalite.client.devtools.EntityRenderer;
 import net.unethicalite.client.managers.DefinitionManager;
+import net.unethicalite.client.managers.EntityIndexManager;
 import net.unethicalite.client.managers.InventoryManager;
 import net.unethicalite.client.managers.NativeInputManager;
 import net.unethicalite.client.managers.NeverLogManager;
 import net.unethicalite.client.managers.QuestManager;
 import net.unethicalite.client.managers.RegionManager;
 import net.unethicalite.client.managers.SettingsManager;
+import net.unethicalite.client.managers.SnapshotManager;
+import net.unethicalite.client.managers.WaitManager;
 import net.unethicalite.client.managers.interaction.InteractionManager;
 
 @Singleton
@@ -132,6 +135,18 @@ public class Static
 	@Getter
 	private static QuestManager questManager;
 
+	@Inject
+	@Getter
+	private static EntityIndexManager entityIndexManager;
+
+	@Inject
+	@Getter
+	private static WaitManager waitManager;
+
+	@Inject
+	@Getter
+	private static SnapshotManager snapshotManager;
+
 	@Inject
 	@Getter
 	private static SpriteManager spriteManager;
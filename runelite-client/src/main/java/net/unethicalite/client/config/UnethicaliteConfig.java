@@ -7,6 +7,7 @@ import net.runelite.client.config.ConfigGroup;
 import net.runelite.client.config.ConfigItem;
 import net.runelite.client.config.ConfigSection;
 import net.runelite.client.config.Range;
+import net.unethicalite.api.movement.pathfinder.PathfinderAlgorithm;
 import net.unethicalite.api.movement.pathfinder.model.poh.HousePortal;
 import net.unethicalite.api.movement.pathfinder.model.poh.JewelryBox;
 import static net.unethicalite.client.config.UnethicaliteConfig.CONFIG_GROUP;
@@ -228,6 +229,18 @@ public interface UnethicaliteConfig extends Config
 		return false;
 	}
 
+	@ConfigItem(
+			keyName = "pathfinderAlgorithm",
+			name = "Pathfinder algorithm",
+			description = "Search algorithm used when calculating paths",
+			position = 4,
+			section = pathfinderSection
+	)
+	default PathfinderAlgorithm pathfinderAlgorithm()
+	{
+		return PathfinderAlgorithm.BFS;
+	}
+
 	@ConfigItem(
 			keyName = "downloadCollisionData",
 			name = "Download collision data",
@@ -0,0 +1,187 @@
+package net.unethicalite.client.managers;
+
+import lombok.Getter;
+import net.runelite.api.Client;
+import net.runelite.api.NPC;
+import net.runelite.api.NPCComposition;
+import net.runelite.api.ObjectComposition;
+import net.runelite.api.Player;
+import net.runelite.api.TileItem;
+import net.runelite.api.TileObject;
+import net.runelite.api.events.DecorativeObjectDespawned;
+import net.runelite.api.events.DecorativeObjectSpawned;
+import net.runelite.api.events.GameObjectDespawned;
+import net.runelite.api.events.GameObjectSpawned;
+import net.runelite.api.events.GameStateChanged;
+import net.runelite.api.events.GroundObjectDespawned;
+import net.runelite.api.events.GroundObjectSpawned;
+import net.runelite.api.events.ItemDespawned;
+import net.runelite.api.events.ItemSpawned;
+import net.runelite.api.events.NpcChanged;
+import net.runelite.api.events.NpcDespawned;
+import net.runelite.api.events.NpcSpawned;
+import net.runelite.api.events.PlayerDespawned;
+import net.runelite.api.events.PlayerSpawned;
+import net.runelite.api.events.WallObjectDespawned;
+import net.runelite.api.events.WallObjectSpawned;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.eventbus.Subscribe;
+import net.unethicalite.api.entities.EntityIndex;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+@Singleton
+public class EntityIndexManager
+{
+	@Getter
+	private static final EntityIndex<NPC> npcs = new EntityIndex<>(true);
+
+	@Getter
+	private static final EntityIndex<Player> players = new EntityIndex<>(true);
+
+	@Getter
+	private static final EntityIndex<TileObject> tileObjects = new EntityIndex<>(false);
+
+	@Getter
+	private static final EntityIndex<TileItem> tileItems = new EntityIndex<>(false);
+
+	@Inject
+	private Client client;
+
+	@Inject
+	EntityIndexManager(EventBus eventBus)
+	{
+		eventBus.register(this);
+	}
+
+	@Subscribe(priority = Integer.MAX_VALUE)
+	private void onGameStateChanged(GameStateChanged e)
+	{
+		switch (e.getGameState())
+		{
+			case LOGIN_SCREEN:
+			case HOPPING:
+				npcs.reset(true);
+				players.reset(true);
+				// fall through
+			case LOADING:
+				// The scene is rebuilt and every object and ground item is spawned again
+				tileObjects.reset(true);
+				tileItems.reset(true);
+				break;
+			default:
+				break;
+		}
+	}
+
+	@Subscribe(priority = Integer.MAX_VALUE)
+	private void onNpcSpawned(NpcSpawned e)
+	{
+		addNpc(e.getNpc());
+	}
+
+	@Subscribe(priority = Integer.MAX_VALUE)
+	private void onNpcChanged(NpcChanged e)
+	{
+		addNpc(e.getNpc());
+	}
+
+	@Subscribe(priority = Integer.MAX_VALUE)
+	private void onNpcDespawned(NpcDespawned e)
+	{
+		npcs.remove(e.getNpc());
+	}
+
+	@Subscribe(priority = Integer.MAX_VALUE)
+	private void onPlayerSpawned(PlayerSpawned e)
+	{
+		players.add(e.getPlayer(), false);
+	}
+
+	@Subscribe(priority = Integer.MAX_VALUE)
+	private void onPlayerDespawned(PlayerDespawned e)
+	{
+		players.remove(e.getPlayer());
+	}
+
+	@Subscribe(priority = Integer.MAX_VALUE)
+	private void onGameObjectSpawned(GameObjectSpawned e)
+	{
+		addTileObject(e.getGameObject());
+	}
+
+	@Subscribe(priority = Integer.MAX_VALUE)
+	private void onGameObjectDespawned(GameObjectDespawned e)
+	{
+		tileObjects.remove(e.getGameObject());
+	}
+
+	@Subscribe(priority = Integer.MAX_VALUE)
+	private void onWallObjectSpawned(WallObjectSpawned e)
+	{
+		addTileObject(e.getWallObject());
+	}
+
+	@Subscribe(priority = Integer.MAX_VALUE)
+	private void onWallObjectDespawned(WallObjectDespawned e)
+	{
+		tileObjects.remove(e.getWallObject());
+	}
+
+	@Subscribe(priority = Integer.MAX_VALUE)
+	private void onDecorativeObjectSpawned(DecorativeObjectSpawned e)
+	{
+		addTileObject(e.getDecorativeObject());
+	}
+
+	@Subscribe(priority = Integer.MAX_VALUE)
+	private void onDecorativeObjectDespawned(DecorativeObjectDespawned e)
+	{
+		tileObjects.remove(e.getDecorativeObject());
+	}
+
+	@Subscribe(priority = Integer.MAX_VALUE)
+	private void onGroundObjectSpawned(GroundObjectSpawned e)
+	{
+		addTileObject(e.getGroundObject());
+	}
+
+	@Subscribe(priority = Integer.MAX_VALUE)
+	private void onGroundObjectDespawned(GroundObjectDespawned e)
+	{
+		tileObjects.remove(e.getGroundObject());
+	}
+
+	@Subscribe(priority = Integer.MAX_VALUE)
+	private void onItemSpawned(ItemSpawned e)
+	{
+		if (e.getItem().getId() != -1)
+		{
+			tileItems.add(e.getItem(), false);
+		}
+	}
+
+	@Subscribe(priority = Integer.MAX_VALUE)
+	private void onItemDespawned(ItemDespawned e)
+	{
+		tileItems.remove(e.getItem());
+	}
+
+	private void addNpc(NPC npc)
+	{
+		NPCComposition composition = npc.getComposition();
+		npcs.add(npc, composition != null && composition.getConfigs() != null);
+	}
+
+	private void addTileObject(TileObject tileObject)
+	{
+		if (tileObject.getId() == -1)
+		{
+			return;
+		}
+
+		ObjectComposition composition = client.getObjectDefinition(tileObject.getId());
+		tileObjects.add(tileObject, composition != null && composition.getImpostorIds() != null);
+	}
+}
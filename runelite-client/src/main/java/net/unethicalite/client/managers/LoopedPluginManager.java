@@ -37,7 +37,6 @@ public class LoopedPluginManager
 	private Client client;
 
 	private LoopedPlugin loopedPlugin;
-	private Thread currentLoop;
 
 	@Inject
 	LoopedPluginManager(EventBus eventBus)
@@ -73,7 +72,6 @@ public class LoopedPluginManager
 			}
 		}
 
-		currentLoop = null;
 		loopedPlugin = null;
 		client.setQueuedMenu(null);
 	}
@@ -86,7 +84,7 @@ public class LoopedPluginManager
 			return;
 		}
 
-		if (currentLoop != null && currentLoop.isAlive())
+		if (isPluginRegistered())
 		{
 			log.debug("A plugin is already running, stopping it");
 			Executors.newSingleThreadExecutor().execute(this::unregister);
@@ -114,13 +112,12 @@ public class LoopedPluginManager
 			script.onStart(Static.getScriptArgs());
 		}
 
-		currentLoop = new Thread(loopedPlugin);
-		currentLoop.start();
+		loopedPlugin.run();
 	}
 
 	public boolean isPluginRegistered()
 	{
-		return currentLoop != null && currentLoop.isAlive() && loopedPlugin != null && loopedPlugin.isRunning();
+		return loopedPlugin != null && loopedPlugin.isRunning();
 	}
 
 	@Subscribe
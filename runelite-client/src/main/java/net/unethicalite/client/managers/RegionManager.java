@@ -4,11 +4,14 @@ import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.CollisionData;
 import net.runelite.api.CollisionDataFlag;
 import net.runelite.api.InventoryID;
+import net.runelite.api.Item;
+import net.runelite.api.Skill;
 import net.runelite.api.Tile;
 import net.runelite.api.coords.Direction;
 import net.runelite.api.coords.WorldPoint;
 import net.runelite.api.events.GameStateChanged;
 import net.runelite.api.events.ItemContainerChanged;
+import net.runelite.api.events.StatChanged;
 import net.runelite.api.events.VarbitChanged;
 import net.runelite.api.events.WidgetLoaded;
 import net.runelite.api.widgets.WidgetInfo;
@@ -17,11 +20,13 @@ import net.runelite.client.events.ConfigChanged;
 import net.runelite.client.plugins.unethicalite.regions.TileFlag;
 import net.unethicalite.api.game.Game;
 import net.unethicalite.api.movement.Reachable;
+import net.unethicalite.api.movement.pathfinder.PathfinderAlgorithm;
 import net.unethicalite.api.movement.pathfinder.TeleportLoader;
+import net.unethicalite.api.movement.pathfinder.TransportIndex;
 import net.unethicalite.api.movement.pathfinder.TransportLoader;
 import net.unethicalite.api.movement.pathfinder.Walker;
-import net.unethicalite.api.movement.pathfinder.model.Teleport;
 import net.unethicalite.api.movement.pathfinder.model.Transport;
+import net.unethicalite.api.movement.pathfinder.model.TransportDelta;
 import net.unethicalite.api.movement.pathfinder.model.poh.HousePortal;
 import net.unethicalite.api.movement.pathfinder.model.poh.JewelryBox;
 import net.unethicalite.api.scene.Tiles;
@@ -34,9 +39,9 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.LinkedHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 @Slf4j
 @Singleton
@@ -50,6 +55,7 @@ public class RegionManager
 			"useTransports",
 			"useTeleports",
 			"avoidWilderness",
+			"pathfinderAlgorithm",
 			"usePoh",
 			"hasMountedGlory",
 			"hasMountedDigsitePendant",
@@ -61,18 +67,9 @@ public class RegionManager
 			"useMinigameTeleports"
 	);
 
-	private static final Set<Integer> REFRESH_VARBS = Set.of(
-			// Static
-			4504,
-			4536,
-			4525,
-			10449,
-			10450,
-			// Hardcoded
-			3637,
-			4897,
-			8063
-	);
+	// Read by the hardcoded transports and teleports, the static ones are tracked by the transport index
+	private static final Set<Integer> HARDCODED_VARBITS = Set.of(3637, 4897, 8063);
+	private static final Set<Integer> HARDCODED_VARPS = Set.of(934);
 
 	private static boolean REFRESH_PATH = false;
 	private static boolean INITIAL_LOGIN = true;
@@ -85,6 +82,11 @@ public class RegionManager
 		return Static.getUnethicaliteConfig().avoidWilderness();
 	}
 
+	public static PathfinderAlgorithm pathfinderAlgorithm()
+	{
+		return Static.getUnethicaliteConfig().pathfinderAlgorithm();
+	}
+
 	public static boolean shouldRefreshPath()
 	{
 		boolean refreshPath = REFRESH_PATH;
@@ -163,10 +165,15 @@ public class RegionManager
 					executorService.schedule(() ->
 					{
 						REFRESH_PATH = true;
+						Walker.getPathCache().invalidate();
 						TeleportLoader.refreshTeleports();
 						TransportLoader.refreshTransports();
 					}, 1000, TimeUnit.MILLISECONDS);
 				}
+				else
+				{
+					refresh(TransportIndex::worldChanged, true);
+				}
 		}
 	}
 
@@ -185,29 +192,31 @@ public class RegionManager
 	{
 		if (REFRESH_WIDGET_IDS.contains(event.getGroupId()))
 		{
-			REFRESH_PATH = hasChanged();
+			refresh(TransportIndex::questsChanged, true);
 		}
 	}
 
 	@Subscribe(priority = Integer.MAX_VALUE)
 	public void onVarChanged(VarbitChanged event)
 	{
-		if (REFRESH_VARBS.contains(event.getIndex()))
-		{
-			REFRESH_PATH = hasChanged();
-		}
+		boolean hardcoded = HARDCODED_VARBITS.contains(event.getVarbitId()) || HARDCODED_VARPS.contains(event.getVarpId());
+		refresh(index -> index.varChanged(event.getVarbitId(), event.getVarpId()), hardcoded);
+	}
+
+	@Subscribe(priority = Integer.MAX_VALUE)
+	public void onStatChanged(StatChanged event)
+	{
+		refresh(index -> index.skillChanged(event.getSkill()), event.getSkill() == Skill.AGILITY);
 	}
 
 	@Subscribe(priority = Integer.MAX_VALUE)
 	public void onItemContainerChanged(ItemContainerChanged event)
 	{
-		if (event.getContainerId() == InventoryID.INVENTORY.getId())
-		{
-			REFRESH_PATH = hasChanged();
-		}
-		if (event.getContainerId() == InventoryID.EQUIPMENT.getId())
+		int containerId = event.getContainerId();
+		if (containerId == InventoryID.INVENTORY.getId() || containerId == InventoryID.EQUIPMENT.getId())
 		{
-			REFRESH_PATH = hasChanged();
+			Item[] items = event.getItemContainer().getItems();
+			refresh(index -> index.itemsChanged(containerId, items), true);
 		}
 	}
 
@@ -221,6 +230,7 @@ public class RegionManager
 		if (pathfinderConfigKeys.contains(event.getKey()))
 		{
 			REFRESH_PATH = true;
+			Walker.getPathCache().invalidate();
 			if (Game.isLoggedIn())
 			{
 				TransportLoader.refreshTransports();
@@ -229,65 +239,20 @@ public class RegionManager
 		}
 	}
 
-	private boolean hasChanged()
-	{
-		boolean tranChanged = transportsChanged();
-		boolean teleChanged = teleportsChanged();
-		return tranChanged || teleChanged;
-	}
-
-	private boolean transportsChanged()
+	/**
+	 * Applies a state change to the transports, and the teleports when the hardcoded ones may depend on it, and
+	 * requests a path refresh only if the available set actually changed.
+	 */
+	private void refresh(Function<TransportIndex, TransportDelta> change, boolean rebuildHardcoded)
 	{
-		List<WorldPoint> path = Walker.remainingPath(Walker.buildPath());
-
-		if (path.isEmpty())
+		TransportDelta delta = TransportLoader.updateTransports(change, rebuildHardcoded);
+		boolean teleportsChanged = rebuildHardcoded && TeleportLoader.updateTeleports();
+		if (!delta.isEmpty() || teleportsChanged)
 		{
-			TransportLoader.refreshTransports();
-			return false;
-		}
-
-		Map<WorldPoint, List<Transport>> previousTransports = Walker.buildTransportLinksOnPath(path);
-		TransportLoader.refreshTransports();
-		Map<WorldPoint, List<Transport>> currentTransports = Walker.buildTransportLinksOnPath(path);
-
-		for (WorldPoint point : path)
-		{
-			List<Transport> prevTran = previousTransports.getOrDefault(point, new ArrayList<>());
-			List<Transport> currTran = currentTransports.getOrDefault(point, new ArrayList<>());
-			if (!prevTran.equals(currTran))
-			{
-				return true;
-			}
-		}
-
-		return false;
-	}
-
-	private boolean teleportsChanged()
-	{
-		List<WorldPoint> path = Walker.remainingPath(Walker.buildPath());
-
-		if (path.isEmpty())
-		{
-			TeleportLoader.refreshTeleports();
-			return false;
-		}
-
-		LinkedHashMap<WorldPoint, Teleport> previousTeleports = Walker.buildTeleportLinksOnPath(path);
-		TeleportLoader.refreshTeleports();
-		LinkedHashMap<WorldPoint, Teleport> currentTeleports = Walker.buildTeleportLinksOnPath(path);
-
-		for (WorldPoint point : path)
-		{
-			Teleport prevTele = previousTeleports.getOrDefault(point, null);
-			Teleport currTele = currentTeleports.getOrDefault(point, null);
-			if ((prevTele == null && currTele != null) || (prevTele != null && currTele == null))
-			{
-				return true;
-			}
+			log.debug("Transports changed: {} added, {} removed, teleports changed: {}",
+					delta.getAdded().size(), delta.getRemoved().size(), teleportsChanged);
+			REFRESH_PATH = true;
 		}
-
-		return false;
 	}
 
 	public List<TileFlag> getTileFlags()
@@ -60,6 +60,9 @@ public class SettingsManager
 		parser.accepts("minimal");
 		parser.accepts("norender");
 
+		parser.accepts("cds", "Start with the class data sharing archive made by --cds-train");
+		parser.accepts("cds-train", "Boot to the login screen and dump a class data sharing archive");
+
 		parser.accepts("script")
 				.withRequiredArg().ofType(String.class);
 
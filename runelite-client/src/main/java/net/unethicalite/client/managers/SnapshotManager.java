@@ -0,0 +1,78 @@
+package net.unethicalite.client.managers;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.Client;
+import net.runelite.api.GameState;
+import net.runelite.api.events.GameStateChanged;
+import net.runelite.api.events.GameTick;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.eventbus.Subscribe;
+import net.unethicalite.api.game.GameSnapshot;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes a {@link GameSnapshot} at the end of every game tick while enabled, so scripts can read a consistent
+ * view of the game from their own thread without a client thread invoke per value. Disabled by default.
+ */
+@Singleton
+@Slf4j
+public class SnapshotManager
+{
+	private static Client client;
+
+	@Getter
+	private static volatile boolean enabled;
+
+	/**
+	 * Snapshot of the last game tick, or null if disabled or not logged in.
+	 */
+	@Getter
+	private static volatile GameSnapshot snapshot;
+
+	@Getter
+	private static volatile long lastCaptureNanos;
+
+	@Inject
+	SnapshotManager(EventBus eventBus, Client client)
+	{
+		SnapshotManager.client = client;
+		eventBus.register(this);
+	}
+
+	public static void setEnabled(boolean enabled)
+	{
+		SnapshotManager.enabled = enabled;
+		if (!enabled)
+		{
+			snapshot = null;
+		}
+	}
+
+	@Subscribe(priority = Integer.MIN_VALUE)
+	private void onGameTick(GameTick e)
+	{
+		if (!enabled)
+		{
+			return;
+		}
+
+		long start = System.nanoTime();
+		GameSnapshot captured = GameSnapshot.capture(client);
+		lastCaptureNanos = System.nanoTime() - start;
+		snapshot = captured;
+		log.trace("Captured snapshot of tick {} in {}us", captured.getTick(), TimeUnit.NANOSECONDS.toMicros(lastCaptureNanos));
+	}
+
+	@Subscribe(priority = Integer.MAX_VALUE)
+	private void onGameStateChanged(GameStateChanged e)
+	{
+		if (e.getGameState() == GameState.LOGIN_SCREEN || e.getGameState() == GameState.HOPPING)
+		{
+			snapshot = null;
+		}
+	}
+}
@@ -0,0 +1,219 @@
+package net.unethicalite.client.managers;
+
+import net.runelite.api.events.ClientTick;
+import net.runelite.api.events.GameStateChanged;
+import net.runelite.api.events.GameTick;
+import net.runelite.api.events.ItemContainerChanged;
+import net.runelite.api.events.VarbitChanged;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.eventbus.Subscribe;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.EnumSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Releases threads waiting on game state from the client thread. Waiters are evaluated after every other
+ * subscriber has seen the triggering event, so a script wakes in the same client cycle its condition becomes
+ * true instead of polling for it.
+ */
+@Singleton
+public class WaitManager
+{
+	public enum Trigger
+	{
+		CLIENT_TICK,
+		GAME_TICK,
+		ITEM_CONTAINER_CHANGED,
+		VARBIT_CHANGED
+	}
+
+	private static final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+
+	@Inject
+	WaitManager(EventBus eventBus)
+	{
+		eventBus.register(this);
+	}
+
+	/**
+	 * Registers a condition which is evaluated on the client thread on each of the triggers. The condition
+	 * returns null to keep waiting, or the result to release the waiter with.
+	 *
+	 * @param reset evaluated alongside the condition, restarts the waiter's timeout when true
+	 */
+	public static Waiter register(Supplier<Boolean> condition, BooleanSupplier reset, Set<Trigger> triggers)
+	{
+		Waiter waiter = new Waiter(condition, reset, EnumSet.copyOf(triggers));
+		waiters.add(waiter);
+		return waiter;
+	}
+
+	public static void cancel(Waiter waiter)
+	{
+		waiters.remove(waiter);
+	}
+
+	public static int getWaiterCount()
+	{
+		return waiters.size();
+	}
+
+	@Subscribe(priority = Integer.MIN_VALUE)
+	private void onClientTick(ClientTick e)
+	{
+		evaluate(Trigger.CLIENT_TICK);
+	}
+
+	@Subscribe(priority = Integer.MIN_VALUE)
+	private void onGameTick(GameTick e)
+	{
+		evaluate(Trigger.GAME_TICK);
+	}
+
+	@Subscribe(priority = Integer.MIN_VALUE)
+	private void onItemContainerChanged(ItemContainerChanged e)
+	{
+		evaluate(Trigger.ITEM_CONTAINER_CHANGED);
+	}
+
+	@Subscribe(priority = Integer.MIN_VALUE)
+	private void onVarbitChanged(VarbitChanged e)
+	{
+		evaluate(Trigger.VARBIT_CHANGED);
+	}
+
+	@Subscribe(priority = Integer.MIN_VALUE)
+	private void onGameStateChanged(GameStateChanged e)
+	{
+		switch (e.getGameState())
+		{
+			case LOGIN_SCREEN:
+			case LOGIN_SCREEN_AUTHENTICATOR:
+				// Game ticks stop until the next login, tick waiters would never be released
+				for (Waiter waiter : waiters)
+				{
+					if (waiter.triggers.contains(Trigger.GAME_TICK))
+					{
+						release(waiter, false);
+					}
+				}
+				break;
+			default:
+				break;
+		}
+	}
+
+	private static void evaluate(Trigger trigger)
+	{
+		if (waiters.isEmpty())
+		{
+			return;
+		}
+
+		for (Waiter waiter : waiters)
+		{
+			if (!waiter.triggers.contains(trigger))
+			{
+				continue;
+			}
+
+			try
+			{
+				if (waiter.reset != null && waiter.reset.getAsBoolean())
+				{
+					waiter.resetAt = System.nanoTime();
+				}
+
+				Boolean result = waiter.condition.get();
+				if (result != null)
+				{
+					release(waiter, result);
+				}
+			}
+			catch (RuntimeException | Error ex)
+			{
+				waiter.error = ex;
+				release(waiter, false);
+			}
+		}
+	}
+
+	private static void release(Waiter waiter, boolean result)
+	{
+		waiters.remove(waiter);
+		waiter.result = result;
+		waiter.latch.countDown();
+	}
+
+	public static final class Waiter
+	{
+		private final Supplier<Boolean> condition;
+		private final BooleanSupplier reset;
+		private final Set<Trigger> triggers;
+		private final CountDownLatch latch = new CountDownLatch(1);
+		private volatile long resetAt = System.nanoTime();
+		private volatile boolean result;
+		private volatile Throwable error;
+
+		private Waiter(Supplier<Boolean> condition, BooleanSupplier reset, Set<Trigger> triggers)
+		{
+			this.condition = condition;
+			this.reset = reset;
+			this.triggers = triggers;
+		}
+
+		/**
+		 * Blocks until the waiter is released or no release or reset happened for the timeout. A negative
+		 * timeout waits indefinitely. Errors thrown by the condition are rethrown here.
+		 *
+		 * @return the release result, or false on timeout
+		 */
+		public boolean await(long timeout, TimeUnit unit) throws InterruptedException
+		{
+			if (timeout < 0)
+			{
+				latch.await();
+				return result();
+			}
+
+			long timeoutNanos = unit.toNanos(timeout);
+			while (true)
+			{
+				long remaining = resetAt + timeoutNanos - System.nanoTime();
+				if (remaining <= 0)
+				{
+					return false;
+				}
+
+				if (latch.await(remaining, TimeUnit.NANOSECONDS))
+				{
+					return result();
+				}
+			}
+		}
+
+		private boolean result()
+		{
+			Throwable t = error;
+			if (t instanceof RuntimeException)
+			{
+				throw (RuntimeException) t;
+			}
+
+			if (t instanceof Error)
+			{
+				throw (Error) t;
+			}
+
+			return result;
+		}
+	}
+}
@@ -39,6 +39,7 @@ import lombok.extern.slf4j.Slf4j;
 import net.runelite.ContentConstants;
 import net.runelite.api.Client;
 import net.runelite.api.Constants;
+import net.runelite.client.ClassDataSharing;
 import net.runelite.client.ClassPreloader;
 import net.runelite.client.ClientSessionManager;
 import net.runelite.client.RuneLite;
@@ -179,6 +180,11 @@ public class MinimalClient
 
 		OptionSet options = SettingsManager.parseArgs(parser, args);
 
+		if (ClassDataSharing.relaunch(MinimalClient.class, options, args))
+		{
+			return;
+		}
+
 		if (options.has("debug"))
 		{
 			final Logger logger = (Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME);
@@ -432,6 +438,7 @@ public class MinimalClient
 		eventBus.register(minimalUI);
 		eventBus.register(overlayManager);
 		eventBus.register(configManager);
+		ClassDataSharing.registerTrainingRun(eventBus, client);
 
 		overlayManager.add(tooltipOverlay.get());
 
@@ -0,0 +1,163 @@
+package net.runelite.client.config;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.reflect.ClassPath;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import lombok.extern.slf4j.Slf4j;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Times getter calls on the proxies of the client's plugin configs through the per-interface slots against the
+ * 256 entry cache which used to be shared by every proxy. Nothing is stored in the config manager, so every
+ * getter returns its default, the same way for both handlers.
+ */
+@Slf4j
+public class ConfigInvocationHandlerTest
+{
+	private static final int OLD_CACHE_SIZE = 256;
+	private static final int PASSES = 200;
+	private static final int ROUNDS = 5;
+
+	private static final class Getter
+	{
+		private final Object slotProxy;
+		private final Object cacheProxy;
+		private final Method method;
+
+		private Getter(Object slotProxy, Object cacheProxy, Method method)
+		{
+			this.slotProxy = slotProxy;
+			this.cacheProxy = cacheProxy;
+			this.method = method;
+		}
+	}
+
+	@Test
+	public void testBenchmarkAgainstSharedCache() throws Exception
+	{
+		ConfigManager manager = mock(ConfigManager.class, withSettings().stubOnly());
+		InvocationHandler sharedCache = new SharedCacheHandler(manager);
+
+		List<Getter> getters = new ArrayList<>();
+		for (Class<?> iface : pluginConfigs())
+		{
+			Object slotProxy = Proxy.newProxyInstance(iface.getClassLoader(), new Class<?>[]{iface},
+				new ConfigInvocationHandler(manager, iface));
+			Object cacheProxy = Proxy.newProxyInstance(iface.getClassLoader(), new Class<?>[]{iface}, sharedCache);
+
+			for (Method method : iface.getMethods())
+			{
+				if (method.getAnnotation(ConfigItem.class) != null && method.getParameterCount() == 0
+					&& !Modifier.isStatic(method.getModifiers()))
+				{
+					getters.add(new Getter(slotProxy, cacheProxy, method));
+				}
+			}
+		}
+
+		assertTrue("fewer getters than entries in the old cache", getters.size() > OLD_CACHE_SIZE);
+
+		for (Getter getter : getters)
+		{
+			assertEquals(getter.method.toString(), getter.method.invoke(getter.cacheProxy), getter.method.invoke(getter.slotProxy));
+		}
+
+		long slots = nanosPerCall(getters, true);
+		long cache = nanosPerCall(getters, false);
+		log.info("{} config getters: per-interface slots {} ns, shared cache {} ns per call", getters.size(), slots, cache);
+	}
+
+	/**
+	 * Best time per getter call over a few rounds of reading every getter in turn
+	 */
+	private static long nanosPerCall(List<Getter> getters, boolean slots) throws Exception
+	{
+		long best = Long.MAX_VALUE;
+		int nonNull = 0;
+		for (int round = 0; round < ROUNDS; round++)
+		{
+			long start = System.nanoTime();
+			for (int pass = 0; pass < PASSES; pass++)
+			{
+				for (Getter getter : getters)
+				{
+					nonNull += getter.method.invoke(slots ? getter.slotProxy : getter.cacheProxy) != null ? 1 : 0;
+				}
+			}
+			best = Math.min(best, System.nanoTime() - start);
+		}
+
+		assertTrue(nonNull > 0);
+		return best / ((long) PASSES * getters.size());
+	}
+
+	private static List<Class<?>> pluginConfigs() throws Exception
+	{
+		List<Class<?>> configs = new ArrayList<>();
+		ClassPath classPath = ClassPath.from(ConfigInvocationHandlerTest.class.getClassLoader());
+		for (ClassPath.ClassInfo info : classPath.getTopLevelClassesRecursive("net.runelite.client.plugins"))
+		{
+			if (!info.getSimpleName().endsWith("Config"))
+			{
+				continue;
+			}
+
+			Class<?> clazz = info.load();
+			if (clazz.isInterface() && Config.class.isAssignableFrom(clazz) && clazz.getAnnotation(ConfigGroup.class) != null)
+			{
+				configs.add(clazz);
+			}
+		}
+
+		return configs;
+	}
+
+	/**
+	 * The getter path of the handler before it held per-interface slots, one instance shared by every proxy
+	 */
+	private static final class SharedCacheHandler implements InvocationHandler
+	{
+		private static final Object NULL = new Object();
+
+		private final ConfigManager manager;
+		private final Cache<Method, Object> cache = CacheBuilder.newBuilder()
+			.maximumSize(OLD_CACHE_SIZE)
+			.build();
+
+		private SharedCacheHandler(ConfigManager manager)
+		{
+			this.manager = manager;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable
+		{
+			Object cachedValue = cache.getIfPresent(method);
+			if (cachedValue != null)
+			{
+				return cachedValue == NULL ? null : cachedValue;
+			}
+
+			Class<?> iface = proxy.getClass().getInterfaces()[0];
+			ConfigGroup group = iface.getAnnotation(ConfigGroup.class);
+			ConfigItem item = method.getAnnotation(ConfigItem.class);
+
+			String value = manager.getConfiguration(group.value(), item.keyName());
+			Object objectValue = value != null ? manager.stringToObject(value, method.getGenericReturnType())
+				: method.isDefault() ? ConfigInvocationHandler.callDefaultMethod(proxy, method, null) : null;
+			cache.put(method, Objects.requireNonNullElse(objectValue, NULL));
+			return objectValue;
+		}
+	}
+}
@@ -0,0 +1,273 @@
+package net.unethicalite.api.entities;
+
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.coords.WorldPoint;
+import net.unethicalite.api.SceneEntity;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.IntSupplier;
+import java.util.function.Predicate;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Checks the lookups of a static {@link EntityIndex} against a linear scan of the same entities over randomised
+ * scenes, including entities despawned again, transforming entities and entities without a location, and times
+ * them against the scan of every entity in the scene they replace.
+ */
+@Slf4j
+public class EntityIndexTest
+{
+	private static final int SCENES = 100;
+	private static final int SCENE_BASE = 3200;
+	private static final int SCENE_SIZE = 104;
+	private static final int IDS = 12;
+	private static final String[] NAMES = {null, "Goblin", "Guard", "Man", "Woman", "Rat"};
+	private static final int BENCHMARK_ENTITIES = 5000;
+	private static final int BENCHMARK_QUERIES = 2000;
+	private static final int BENCHMARK_ROUNDS = 5;
+
+	private final Random random = new Random(7);
+
+	@Test
+	public void testLookupsMatchLinearScan()
+	{
+		for (int scene = 0; scene < SCENES; scene++)
+		{
+			EntityIndex<SceneEntity> index = new EntityIndex<>(false);
+			List<SceneEntity> entities = new ArrayList<>();
+			Set<SceneEntity> transforming = Collections.newSetFromMap(new IdentityHashMap<>());
+
+			int count = random.nextInt(150);
+			for (int i = 0; i < count; i++)
+			{
+				SceneEntity entity = entity();
+				boolean transforms = random.nextInt(10) == 0;
+				index.add(entity, transforms);
+				entities.add(entity);
+				if (transforms)
+				{
+					transforming.add(entity);
+				}
+			}
+
+			for (int i = 0; i < count / 3; i++)
+			{
+				SceneEntity entity = entities.remove(random.nextInt(entities.size()));
+				index.remove(entity);
+				transforming.remove(entity);
+			}
+
+			assertEquals(entities.size(), index.size());
+
+			for (int query = 0; query < 10; query++)
+			{
+				WorldPoint to = new WorldPoint(SCENE_BASE - 32 + random.nextInt(SCENE_SIZE + 64),
+					SCENE_BASE - 32 + random.nextInt(SCENE_SIZE + 64), random.nextInt(2));
+				int plane = random.nextInt(3) - 1;
+				int id = random.nextInt(IDS);
+				String name = NAMES[1 + random.nextInt(NAMES.length - 1)];
+
+				Predicate<SceneEntity> sameGroup = e -> e.getId() % 3 == id % 3;
+				assertNearest(entities, to, plane, sameGroup, index.nearest(to, plane, sameGroup));
+
+				Predicate<SceneEntity> hasId = e -> e.getId() == id;
+				assertNearest(entities, to, plane, hasId, index.nearest(to, plane, new int[]{id, id}, hasId));
+
+				assertEquals(scan(entities, plane, hasId, transforming), identitySet(index.candidates(plane, id, id)));
+
+				Predicate<SceneEntity> hasName = e -> name.equals(e.getName());
+				assertEquals(scan(entities, plane, hasName, transforming), identitySet(index.candidates(plane, name)));
+			}
+		}
+	}
+
+	@Test
+	public void testBenchmarkAgainstLinearScan()
+	{
+		EntityIndex<SceneEntity> index = new EntityIndex<>(false);
+		List<SceneEntity> entities = new ArrayList<>();
+		for (int i = 0; i < BENCHMARK_ENTITIES; i++)
+		{
+			SceneEntity entity = entity();
+			index.add(entity, false);
+			entities.add(entity);
+		}
+
+		WorldPoint[] sources = new WorldPoint[BENCHMARK_QUERIES];
+		int[] ids = new int[BENCHMARK_QUERIES];
+		for (int i = 0; i < BENCHMARK_QUERIES; i++)
+		{
+			sources[i] = new WorldPoint(SCENE_BASE + random.nextInt(SCENE_SIZE), SCENE_BASE + random.nextInt(SCENE_SIZE), random.nextInt(2));
+			ids[i] = random.nextInt(IDS);
+		}
+
+		Predicate<SceneEntity> rare = e -> e.getId() == 0;
+		IntSupplier indexNearest = () ->
+		{
+			int found = 0;
+			for (int i = 0; i < BENCHMARK_QUERIES; i++)
+			{
+				found += index.nearest(sources[i], sources[i].getPlane(), rare) != null ? 1 : 0;
+				found += index.nearest(sources[i], sources[i].getPlane(), new int[]{ids[i]}, e -> true) != null ? 1 : 0;
+			}
+			return found;
+		};
+		IntSupplier scanNearest = () ->
+		{
+			int found = 0;
+			for (int i = 0; i < BENCHMARK_QUERIES; i++)
+			{
+				int id = ids[i];
+				found += scanNearest(entities, sources[i], rare) != null ? 1 : 0;
+				found += scanNearest(entities, sources[i], e -> e.getId() == id) != null ? 1 : 0;
+			}
+			return found;
+		};
+		IntSupplier indexCandidates = () ->
+		{
+			int found = 0;
+			for (int i = 0; i < BENCHMARK_QUERIES; i++)
+			{
+				found += index.candidates(-1, ids[i]).size();
+			}
+			return found;
+		};
+		IntSupplier scanCandidates = () ->
+		{
+			int found = 0;
+			for (int i = 0; i < BENCHMARK_QUERIES; i++)
+			{
+				for (SceneEntity entity : entities)
+				{
+					found += entity.getId() == ids[i] ? 1 : 0;
+				}
+			}
+			return found;
+		};
+
+		assertEquals(scanNearest.getAsInt(), indexNearest.getAsInt());
+		assertEquals(scanCandidates.getAsInt(), indexCandidates.getAsInt());
+
+		log.info("{} entities, nearest: index {} ns, scan {} ns; candidates: index {} ns, scan {} ns", BENCHMARK_ENTITIES,
+			nanosPerQuery(indexNearest), nanosPerQuery(scanNearest), nanosPerQuery(indexCandidates), nanosPerQuery(scanCandidates));
+	}
+
+	/**
+	 * Best time per query over a few rounds, after the verification runs above warmed the code up
+	 */
+	private static long nanosPerQuery(IntSupplier queries)
+	{
+		long best = Long.MAX_VALUE;
+		for (int round = 0; round < BENCHMARK_ROUNDS; round++)
+		{
+			long start = System.nanoTime();
+			queries.getAsInt();
+			best = Math.min(best, System.nanoTime() - start);
+		}
+
+		return best / BENCHMARK_QUERIES;
+	}
+
+	private static SceneEntity scanNearest(List<SceneEntity> entities, WorldPoint to, Predicate<SceneEntity> filter)
+	{
+		SceneEntity nearest = null;
+		float nearestDistance = Float.MAX_VALUE;
+		for (SceneEntity entity : entities)
+		{
+			if (!onPlane(entity, to.getPlane()) || !filter.test(entity))
+			{
+				continue;
+			}
+
+			float distance = distance(entity, to);
+			if (nearest == null || distance < nearestDistance)
+			{
+				nearest = entity;
+				nearestDistance = distance;
+			}
+		}
+
+		return nearest;
+	}
+
+	private SceneEntity entity()
+	{
+		int id = random.nextInt(IDS);
+		WorldPoint location = random.nextInt(50) == 0 ? null
+			: new WorldPoint(SCENE_BASE + random.nextInt(SCENE_SIZE), SCENE_BASE + random.nextInt(SCENE_SIZE), random.nextInt(2));
+
+		SceneEntity entity = mock(SceneEntity.class, withSettings().stubOnly());
+		when(entity.getId()).thenReturn(id);
+		when(entity.getName()).thenReturn(NAMES[id % NAMES.length]);
+		when(entity.getWorldLocation()).thenReturn(location);
+		return entity;
+	}
+
+	private static void assertNearest(List<SceneEntity> entities, WorldPoint to, int plane, Predicate<SceneEntity> filter, SceneEntity nearest)
+	{
+		SceneEntity expected = null;
+		for (SceneEntity entity : entities)
+		{
+			if (onPlane(entity, plane) && filter.test(entity)
+				&& (expected == null || distance(entity, to) < distance(expected, to)))
+			{
+				expected = entity;
+			}
+		}
+
+		assertEquals(expected == null, nearest == null);
+		if (expected != null)
+		{
+			assertEquals(distance(expected, to), distance(nearest, to), 0);
+		}
+	}
+
+	private static Set<SceneEntity> scan(List<SceneEntity> entities, int plane, Predicate<SceneEntity> filter, Set<SceneEntity> transforming)
+	{
+		Set<SceneEntity> out = Collections.newSetFromMap(new IdentityHashMap<>());
+		for (SceneEntity entity : entities)
+		{
+			if (onPlane(entity, plane) && (transforming.contains(entity) || filter.test(entity)))
+			{
+				out.add(entity);
+			}
+		}
+
+		return out;
+	}
+
+	private static Set<SceneEntity> identitySet(Collection<SceneEntity> entities)
+	{
+		Set<SceneEntity> out = Collections.newSetFromMap(new IdentityHashMap<>());
+		out.addAll(entities);
+		assertEquals("duplicate candidates", entities.size(), out.size());
+		return out;
+	}
+
+	private static boolean onPlane(SceneEntity entity, int plane)
+	{
+		return plane == -1 || (entity.getWorldLocation() != null && entity.getWorldLocation().getPlane() == plane);
+	}
+
+	private static float distance(SceneEntity entity, WorldPoint to)
+	{
+		WorldPoint location = entity.getWorldLocation();
+		if (location == null || location.getPlane() != to.getPlane())
+		{
+			return Float.MAX_VALUE;
+		}
+
+		return (float) Math.hypot(location.getX() - to.getX(), location.getY() - to.getY());
+	}
+}
@@ -0,0 +1,110 @@
+package net.unethicalite.api.movement.pathfinder;
+
+import com.google.common.collect.HashMultiset;
+import com.google.common.collect.Multiset;
+import com.google.gson.Gson;
+import lombok.extern.slf4j.Slf4j;
+import net.unethicalite.api.movement.pathfinder.model.Transport;
+import net.unethicalite.api.movement.pathfinder.model.dto.TransportDto;
+import net.unethicalite.api.movement.pathfinder.model.requirement.Requirements;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+/**
+ * Checks the compiled transport graph against the transports.json it is compiled from, and times loading
+ * either form.
+ */
+@Slf4j
+public class TransportGraphTest
+{
+	private static final int ROUNDS = 10;
+
+	@Test
+	public void testRoundTrip() throws IOException
+	{
+		TransportDto[] dtos = new Gson().fromJson(readJson(), TransportDto[].class);
+		List<Transport> read = TransportGraph.read(ByteBuffer.wrap(compile(dtos)));
+
+		assertEquals(dtos.length, read.size());
+		assertEquals(keys(Arrays.stream(dtos).map(TransportDto::toTransport).collect(Collectors.toList())), keys(read));
+	}
+
+	@Test
+	public void testBenchmarkAgainstJson() throws IOException
+	{
+		String json = readJson();
+		byte[] compiled = compile(new Gson().fromJson(json, TransportDto[].class));
+
+		Supplier<List<Transport>> fromJson = () -> Arrays.stream(new Gson().fromJson(json, TransportDto[].class))
+			.map(TransportDto::toTransport)
+			.collect(Collectors.toList());
+		Supplier<List<Transport>> fromGraph = () -> TransportGraph.read(ByteBuffer.wrap(compiled));
+
+		assertEquals(fromJson.get().size(), fromGraph.get().size());
+
+		log.info("{} transports: json {} bytes in {} us, compiled {} bytes in {} us", fromGraph.get().size(),
+			json.length(), micros(fromJson), compiled.length, micros(fromGraph));
+	}
+
+	/**
+	 * Best time of a few loads, after the loads above warmed the code up
+	 */
+	private static long micros(Supplier<List<Transport>> load)
+	{
+		long best = Long.MAX_VALUE;
+		for (int round = 0; round < ROUNDS; round++)
+		{
+			long start = System.nanoTime();
+			load.get();
+			best = Math.min(best, System.nanoTime() - start);
+		}
+
+		return best / 1000;
+	}
+
+	/**
+	 * The compared fields of each transport, counting a missing requirement list as empty as the graph does.
+	 * The object id and action only live in the handler, which can't be compared.
+	 */
+	private static Multiset<List<Object>> keys(Collection<Transport> transports)
+	{
+		Multiset<List<Object>> keys = HashMultiset.create();
+		for (Transport transport : transports)
+		{
+			Requirements requirements = transport.getRequirements() == null ? new Requirements() : transport.getRequirements();
+			keys.add(Arrays.asList(transport.getSource(), transport.getDestination(),
+				transport.getSourceRadius(), transport.getDestinationRadius(), requirements));
+		}
+
+		return keys;
+	}
+
+	private static byte[] compile(TransportDto[] dtos) throws IOException
+	{
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		TransportGraph.write(dtos, out);
+		return out.toByteArray();
+	}
+
+	private static String readJson() throws IOException
+	{
+		try (InputStream in = TransportGraphTest.class.getResourceAsStream("/transports.json"))
+		{
+			assertNotNull(in);
+			return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+}
@@ -0,0 +1,23 @@
+package net.unethicalite.mixins;
+
+import net.runelite.api.mixins.Inject;
+import net.runelite.api.mixins.Mixin;
+import net.runelite.rs.api.RSItemComposition;
+import net.unethicalite.api.util.SanitizedDefinition;
+
+@Mixin(RSItemComposition.class)
+public abstract class HItemCompositionMixin implements RSItemComposition
+{
+	@Inject
+	private SanitizedDefinition sanitized;
+
+	/**
+	 * Sanitized name and ground actions.
+	 */
+	@Inject
+	public SanitizedDefinition getSanitized()
+	{
+		sanitized = SanitizedDefinition.of(sanitized, getName(), getGroundActions());
+		return sanitized;
+	}
+}
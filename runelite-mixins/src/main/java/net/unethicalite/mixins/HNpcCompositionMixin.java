@@ -5,6 +5,7 @@ import net.runelite.api.mixins.Mixin;
 import net.runelite.api.mixins.Shadow;
 import net.runelite.rs.api.RSClient;
 import net.runelite.rs.api.RSNPCComposition;
+import net.unethicalite.api.util.SanitizedDefinition;
 
 @Mixin(RSNPCComposition.class)
 public abstract class HNpcCompositionMixin implements RSNPCComposition
@@ -26,4 +27,14 @@ public abstract class HNpcCompositionMixin implements RSNPCComposition
     {
         return index;
     }
+
+    @Inject
+    private SanitizedDefinition sanitized;
+
+    @Inject
+    public SanitizedDefinition getSanitized()
+    {
+        sanitized = SanitizedDefinition.of(sanitized, getName(), getActions());
+        return sanitized;
+    }
 }
@@ -1,7 +1,6 @@
 package net.unethicalite.mixins;
 
 import net.unethicalite.api.events.MenuAutomated;
-import net.unethicalite.api.util.Text;
 import net.runelite.api.MenuAction;
 import net.runelite.api.NPCComposition;
 import net.runelite.api.mixins.Inject;
@@ -33,7 +32,7 @@ public abstract class HNpcMixin implements RSNPC
 	public String getName()
 	{
 		RSNPCComposition composition = getTransformedComposition();
-		return composition == null ? "null" : Text.sanitize(composition.getName());
+		return composition == null ? "null" : composition.getSanitized().getName();
 	}
 
 	@Inject
@@ -54,13 +53,7 @@ public abstract class HNpcMixin implements RSNPC
 			return null;
 		}
 
-		String[] sanitized = new String[composition.getActions().length];
-		for (int i = 0; i < composition.getActions().length; i++)
-		{
-			sanitized[i] = Text.sanitize(composition.getActions()[i]);
-		}
-
-		return sanitized;
+		return composition.getSanitized().getActions();
 	}
 
 	@Override
@@ -0,0 +1,20 @@
+package net.unethicalite.mixins;
+
+import net.runelite.api.mixins.Inject;
+import net.runelite.api.mixins.Mixin;
+import net.runelite.rs.api.RSObjectComposition;
+import net.unethicalite.api.util.SanitizedDefinition;
+
+@Mixin(RSObjectComposition.class)
+public abstract class HObjectCompositionMixin implements RSObjectComposition
+{
+	@Inject
+	private SanitizedDefinition sanitized;
+
+	@Inject
+	public SanitizedDefinition getSanitized()
+	{
+		sanitized = SanitizedDefinition.of(sanitized, getName(), getActions());
+		return sanitized;
+	}
+}
@@ -2,14 +2,13 @@ package net.unethicalite.mixins;
 
 import net.unethicalite.api.events.MenuAutomated;
 import net.unethicalite.api.util.Randomizer;
-import net.unethicalite.api.util.Text;
-import net.runelite.api.ItemComposition;
 import net.runelite.api.MenuAction;
 import net.runelite.api.Point;
 import net.runelite.api.mixins.Inject;
 import net.runelite.api.mixins.Mixin;
 import net.runelite.api.mixins.Shadow;
 import net.runelite.rs.api.RSClient;
+import net.runelite.rs.api.RSItemComposition;
 import net.runelite.rs.api.RSTileItem;
 
 @Mixin(RSTileItem.class)
@@ -50,14 +49,7 @@ public abstract class HTileItemMixin implements RSTileItem
 	@Override
 	public String[] getActions()
 	{
-		String[] actions = getComposition().getGroundActions();
-		String[] sanitized = new String[actions.length];
-		for (int i = 0; i < actions.length; i++)
-		{
-			sanitized[i] = Text.sanitize(actions[i]);
-		}
-
-		return sanitized;
+		return getComposition().getSanitized().getActions();
 	}
 
 	@Inject
@@ -86,13 +78,8 @@ public abstract class HTileItemMixin implements RSTileItem
 	@Override
 	public String getName()
 	{
-		String name = getComposition().getName();
-		if (name == null)
-		{
-			return "null";
-		}
-
-		return Text.sanitize(name);
+		String name = getComposition().getSanitized().getName();
+		return name == null ? "null" : name;
 	}
 
 	@Inject
@@ -102,9 +89,9 @@ public abstract class HTileItemMixin implements RSTileItem
 	}
 
 	@Inject
-	private ItemComposition getComposition()
+	private RSItemComposition getComposition()
 	{
-		return client.getItemComposition(getId());
+		return (RSItemComposition) client.getItemComposition(getId());
 	}
 
 	@Inject
@@ -3,7 +3,6 @@ package net.unethicalite.mixins;
 import net.runelite.api.ObjectComposition;
 import net.unethicalite.api.events.MenuAutomated;
 import net.unethicalite.api.util.Randomizer;
-import net.unethicalite.api.util.Text;
 import net.runelite.api.GameObject;
 import net.runelite.api.MenuAction;
 import net.runelite.api.Point;
@@ -69,7 +68,7 @@ public abstract class HTileObjectMixin implements TileObject
 	public String getName()
 	{
 		RSObjectComposition def = (RSObjectComposition) getTransformedComposition();
-		return def == null ? "null" : Text.sanitize(def.getName());
+		return def == null ? "null" : def.getSanitized().getName();
 	}
 
 	@Inject
@@ -82,13 +81,7 @@ public abstract class HTileObjectMixin implements TileObject
 			return null;
 		}
 
-		String[] sanitized = new String[def.getActions().length];
-		for (int i = 0; i < sanitized.length; i++)
-		{
-			sanitized[i] = net.unethicalite.api.util.Text.sanitize(def.getActions()[i]);
-		}
-
-		return sanitized;
+		return def.getSanitized().getActions();
 	}
 
 	@Override
@@ -3,6 +3,7 @@ package net.runelite.rs.api;
 import net.runelite.api.ItemComposition;
 import net.runelite.api.IterableHashTable;
 import net.runelite.mapping.Import;
+import net.unethicalite.api.util.SanitizedDefinition;
 
 public interface RSItemComposition extends ItemComposition
 {
@@ -97,4 +98,6 @@ public interface RSItemComposition extends ItemComposition
 
 	@Import("decodeNext")
 	void decodeNext(RSBuffer var1, int var2);
+
+	SanitizedDefinition getSanitized();
 }
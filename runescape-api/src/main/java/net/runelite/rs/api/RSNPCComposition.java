@@ -3,6 +3,7 @@ package net.runelite.rs.api;
 import net.runelite.api.IterableHashTable;
 import net.runelite.api.NPCComposition;
 import net.runelite.mapping.Import;
+import net.unethicalite.api.util.SanitizedDefinition;
 
 public interface RSNPCComposition extends NPCComposition
 {
@@ -84,4 +85,6 @@ public interface RSNPCComposition extends NPCComposition
 
 	@Import("decodeNext")
 	void decodeNext(RSBuffer var1, int var2);
+
+	SanitizedDefinition getSanitized();
 }
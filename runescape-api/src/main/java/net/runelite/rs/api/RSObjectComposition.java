@@ -3,6 +3,7 @@ package net.runelite.rs.api;
 import net.runelite.api.IterableHashTable;
 import net.runelite.api.ObjectComposition;
 import net.runelite.mapping.Import;
+import net.unethicalite.api.util.SanitizedDefinition;
 
 public interface RSObjectComposition extends ObjectComposition
 {
@@ -252,4 +253,6 @@ public interface RSObjectComposition extends ObjectComposition
 
 	@Import("transforms")
 	int[] getTransforms();
+
+	SanitizedDefinition getSanitized();
 }